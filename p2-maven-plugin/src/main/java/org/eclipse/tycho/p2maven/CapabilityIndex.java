@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2maven;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.equinox.internal.p2.metadata.IRequiredCapability;
+import org.eclipse.equinox.internal.p2.metadata.RequiredCapability;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.IProvidedCapability;
+import org.eclipse.equinox.p2.metadata.IRequirement;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionRange;
+import org.eclipse.equinox.p2.metadata.expression.IMatchExpression;
+import org.eclipse.equinox.p2.query.IQueryable;
+import org.eclipse.equinox.p2.query.QueryUtil;
+
+/**
+ * An index of the provided capabilities of a fixed set of
+ * {@link IInstallableUnit}s that allows to answer the question "what units
+ * satisfy this requirement" without inspecting every unit. Units are indexed by
+ * namespace and name of their capabilities and then by the capability version,
+ * requirements that are not simple namespace/name/range requirements are
+ * answered by a full scan of the indexed units.
+ */
+public final class CapabilityIndex {
+
+	private final Map<String, Map<String, NavigableMap<Version, Set<IInstallableUnit>>>> index = new HashMap<>();
+	private final Collection<IInstallableUnit> units;
+
+	private CapabilityIndex(Collection<IInstallableUnit> units) {
+		this.units = units;
+		for (IInstallableUnit unit : units) {
+			for (IProvidedCapability capability : unit.getProvidedCapabilities()) {
+				index.computeIfAbsent(capability.getNamespace(), nil -> new HashMap<>())
+						.computeIfAbsent(capability.getName(), nil -> new TreeMap<>())
+						.computeIfAbsent(capability.getVersion(), nil -> new LinkedHashSet<>()).add(unit);
+			}
+		}
+	}
+
+	/**
+	 * Creates an index for all units of the given {@link IQueryable}
+	 *
+	 * @param availableIUs the units to index
+	 * @return the index
+	 */
+	public static CapabilityIndex create(IQueryable<IInstallableUnit> availableIUs) {
+		return create(availableIUs.query(QueryUtil.ALL_UNITS, new NullProgressMonitor()).toUnmodifiableSet());
+	}
+
+	/**
+	 * Creates an index for the given units
+	 *
+	 * @param availableIUs the units to index
+	 * @return the index
+	 */
+	public static CapabilityIndex create(Collection<IInstallableUnit> availableIUs) {
+		return new CapabilityIndex(List.copyOf(availableIUs));
+	}
+
+	/**
+	 * Computes all indexed units that satisfy the given requirement, filters of the
+	 * requirement are <b>not</b> taken into account.
+	 *
+	 * @param requirement the requirement to check
+	 * @return the (possibly empty) collection of units that satisfy the
+	 *         requirement
+	 */
+	public Collection<IInstallableUnit> getSatisfyingUnits(IRequirement requirement) {
+		String namespace;
+		String name;
+		VersionRange range;
+		if (requirement instanceof IRequiredCapability requiredCapability) {
+			namespace = requiredCapability.getNamespace();
+			name = requiredCapability.getName();
+			range = requiredCapability.getRange();
+		} else {
+			IMatchExpression<IInstallableUnit> matches = requirement.getMatches();
+			if (!RequiredCapability.isVersionRangeRequirement(matches)) {
+				return scan(requirement);
+			}
+			namespace = RequiredCapability.extractNamespace(matches);
+			name = RequiredCapability.extractName(matches);
+			range = RequiredCapability.extractRange(matches);
+		}
+		Map<String, NavigableMap<Version, Set<IInstallableUnit>>> names = index.get(namespace);
+		if (names == null) {
+			return List.of();
+		}
+		NavigableMap<Version, Set<IInstallableUnit>> versions = names.get(name);
+		if (versions == null) {
+			return List.of();
+		}
+		NavigableMap<Version, Set<IInstallableUnit>> candidates;
+		if (range == null || VersionRange.emptyRange.equals(range)) {
+			candidates = versions;
+		} else {
+			candidates = versions.subMap(range.getMinimum(), range.getIncludeMinimum(), range.getMaximum(),
+					range.getIncludeMaximum());
+		}
+		Set<IInstallableUnit> result = new LinkedHashSet<>();
+		for (Set<IInstallableUnit> candidateUnits : candidates.values()) {
+			for (IInstallableUnit unit : candidateUnits) {
+				// the final check is still performed by the unit itself so the index can never
+				// be more permissive than a plain scan
+				if (unit.satisfies(requirement)) {
+					result.add(unit);
+				}
+			}
+		}
+		return result;
+	}
+
+	private Collection<IInstallableUnit> scan(IRequirement requirement) {
+		List<IInstallableUnit> result = new ArrayList<>();
+		for (IInstallableUnit unit : units) {
+			if (unit.satisfies(requirement)) {
+				result.add(unit);
+			}
+		}
+		return result;
+	}
+
+}
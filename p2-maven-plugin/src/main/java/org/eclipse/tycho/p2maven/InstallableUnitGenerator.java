@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -81,6 +82,9 @@ public class InstallableUnitGenerator {
 	private static final boolean DUMP_DATA = Boolean.getBoolean("tycho.p2.dump")
 			|| Boolean.getBoolean("tycho.p2.dump.units");
 
+	private static final boolean USE_PERSISTENT_CACHE = Boolean
+			.parseBoolean(System.getProperty("tycho.p2.units.cache", "true"));
+
 	@Requirement
 	private Logger log;
 
@@ -194,11 +198,7 @@ public class InstallableUnitGenerator {
 				}
 			}
 			String packaging = project.getPackaging();
-			String version = project.getVersion();
-			String artifactId = project.getArtifactId();
-			List<IPublisherAction> actions = getPublisherActions(packaging, basedir, projectArtifact, version,
-					artifactId);
-			Collection<IInstallableUnit> publishedUnits = publisher.publishMetadata(actions);
+			Collection<IInstallableUnit> publishedUnits = publishProjectUnits(project, projectArtifact);
 			for (InstallableUnitProvider unitProvider : getProvider(project, session)) {
 				log.debug("Asking " + unitProvider + " for additional units for " + project);
 				Collection<IInstallableUnit> installableUnits = unitProvider.getInstallableUnits(project, session);
@@ -224,6 +224,31 @@ public class InstallableUnitGenerator {
 		}
 	}
 
+	private Collection<IInstallableUnit> publishProjectUnits(MavenProject project, File projectArtifact)
+			throws CoreException {
+		Optional<ProjectUnitsCache> cache = USE_PERSISTENT_CACHE
+				? ProjectUnitsCache.forProject(project, projectArtifact)
+				: Optional.empty();
+		if (cache.isPresent()) {
+			Optional<Collection<IInstallableUnit>> cachedUnits = cache.get().read();
+			if (cachedUnits.isPresent()) {
+				log.debug("Using persistent cached units for " + project);
+				return cachedUnits.get();
+			}
+		}
+		List<IPublisherAction> actions = getPublisherActions(project.getPackaging(), project.getBasedir(),
+				projectArtifact, project.getVersion(), project.getArtifactId());
+		Collection<IInstallableUnit> publishedUnits = publisher.publishMetadata(actions);
+		if (cache.isPresent()) {
+			try {
+				cache.get().write(publishedUnits);
+			} catch (IOException e) {
+				log.debug("Can't write persistent units cache for " + project + ": " + e);
+			}
+		}
+		return publishedUnits;
+	}
+
 	private static File getProjectArtifact(MavenProject project) {
 		Artifact artifact = project.getArtifact();
 		if (artifact != null) {
@@ -96,6 +96,25 @@ public class InstallableUnitSlicer {
 	public Map<IRequirement, Collection<IInstallableUnit>> computeDirectDependencies(
 			Collection<IInstallableUnit> rootIus,
 			IQueryable<IInstallableUnit> avaiableIUs) throws CoreException {
+		return computeDirectDependencies(rootIus, CapabilityIndex.create(avaiableIUs));
+	}
+
+	/**
+	 * Computes a "slice" that is the <b>direct</b> dependencies of the given
+	 * {@link IInstallableUnit}s in a way that the result contains any unit that
+	 * satisfies a requirement in for rootIus, using a prebuilt
+	 * {@link CapabilityIndex} of the available units. This is the preferred variant
+	 * if the same set of available units is used for many computations.
+	 * 
+	 * @param rootIus      the root {@link InstallableUnit}s to take into account
+	 * @param availableIUs the index of all units that could be used for fulfilling
+	 *                     a requirement
+	 * @return the result of the slicing, be aware that no maximum/minimum
+	 *         constraints or filters are applied as part of this computation
+	 * @throws CoreException if there is any error
+	 */
+	public Map<IRequirement, Collection<IInstallableUnit>> computeDirectDependencies(
+			Collection<IInstallableUnit> rootIus, CapabilityIndex availableIUs) throws CoreException {
 		List<IRequirement> collect = rootIus.stream().flatMap(iu -> iu.getRequirements().stream())
 				.filter(req -> {
 					for (IInstallableUnit unit : rootIus) {
@@ -107,11 +126,10 @@ public class InstallableUnitSlicer {
 					return true;
 				}).toList();
 		Map<IRequirement, Collection<IInstallableUnit>> result = new LinkedHashMap<>(collect.size());
-		for (IInstallableUnit iu : avaiableIUs.query(QueryUtil.ALL_UNITS, new NullProgressMonitor()).toSet()) {
-			for (IRequirement requirement : collect) {
-				if (iu.satisfies(requirement)) {
-					result.computeIfAbsent(requirement, nil -> new ArrayList<>()).add(iu);
-				}
+		for (IRequirement requirement : collect) {
+			Collection<IInstallableUnit> units = availableIUs.getSatisfyingUnits(requirement);
+			if (!units.isEmpty()) {
+				result.computeIfAbsent(requirement, nil -> new ArrayList<>()).addAll(units);
 			}
 		}
 		return result;
@@ -18,6 +18,7 @@ import java.util.AbstractMap.SimpleEntry;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -43,8 +44,6 @@ import org.eclipse.equinox.p2.metadata.IInstallableUnit;
 import org.eclipse.equinox.p2.metadata.IProvidedCapability;
 import org.eclipse.equinox.p2.metadata.IRequirement;
 import org.eclipse.equinox.p2.metadata.expression.IMatchExpression;
-import org.eclipse.equinox.p2.query.CollectionResult;
-import org.eclipse.equinox.p2.query.IQueryable;
 import org.eclipse.tycho.p2maven.io.MetadataIO;
 import org.eclipse.tycho.p2maven.tmp.BundlesAction;
 
@@ -88,7 +87,7 @@ public class MavenProjectDependencyProcessor {
 		Collection<IInstallableUnit> availableIUs = projectIUMap.values().stream().flatMap(Collection::stream)
 				.collect(Collectors.toSet());
 		Map<MavenProject, ProjectDependencies> projectDependenciesMap = computeProjectDependencies(projects,
-				new CollectionResult<>(availableIUs), projectIUMap);
+				CapabilityIndex.create(availableIUs), projectIUMap);
 		Map<IInstallableUnit, MavenProject> iuProjectMap = new HashMap<>();
 		for (var entry : projectIUMap.entrySet()) {
 			MavenProject mavenProject = entry.getKey();
@@ -98,6 +97,8 @@ public class MavenProjectDependencyProcessor {
 		}
 		return new ProjectDependencyClosure() {
 
+			private Map<MavenProject, Collection<MavenProject>> dependantsMap;
+
 			@Override
 			public Optional<MavenProject> getProject(IInstallableUnit installableUnit) {
 				return Optional.ofNullable(iuProjectMap.get(installableUnit));
@@ -116,6 +117,28 @@ public class MavenProjectDependencyProcessor {
 								pd.getValue().getDependencies(contextIuSupplier.apply(pd.getKey()))));
 			}
 
+			@Override
+			public Collection<MavenProject> getDependantProjects(MavenProject mavenProject) {
+				return getDependantsMap().getOrDefault(mavenProject, List.of());
+			}
+
+			private synchronized Map<MavenProject, Collection<MavenProject>> getDependantsMap() {
+				if (dependantsMap == null) {
+					Map<MavenProject, Collection<MavenProject>> map = new HashMap<>();
+					for (var entry : projectDependenciesMap.entrySet()) {
+						MavenProject dependant = entry.getKey();
+						for (IInstallableUnit dependency : entry.getValue().getDependencies(List.of())) {
+							MavenProject project = iuProjectMap.get(dependency);
+							if (project != null && project != dependant) {
+								map.computeIfAbsent(project, nil -> new LinkedHashSet<>()).add(dependant);
+							}
+						}
+					}
+					dependantsMap = map;
+				}
+				return dependantsMap;
+			}
+
 			@Override
 			public boolean isFragment(MavenProject mavenProject) {
 
@@ -138,13 +161,13 @@ public class MavenProjectDependencyProcessor {
 	 * Given a set of projects, compute the mapping of a project to its dependencies
 	 * 
 	 * @param projects    the projects to investigate
-	 * @param avaiableIUs all available units that should be used to fulfill project
-	 *                    requirements
+	 * @param avaiableIUs the index of all available units that should be used to
+	 *                    fulfill project requirements
 	 * @return a Map from the passed projects to their dependencies
 	 * @throws CoreException if computation failed
 	 */
 	private Map<MavenProject, ProjectDependencies> computeProjectDependencies(Collection<MavenProject> projects,
-			IQueryable<IInstallableUnit> avaiableIUs, Map<MavenProject, Collection<IInstallableUnit>> projectIUMap)
+			CapabilityIndex avaiableIUs, Map<MavenProject, Collection<IInstallableUnit>> projectIUMap)
 			throws CoreException {
 		List<CoreException> errors = new CopyOnWriteArrayList<>();
 		Map<MavenProject, ProjectDependencies> result = new ConcurrentHashMap<>();
@@ -184,13 +207,13 @@ public class MavenProjectDependencyProcessor {
 	 * compute the collection of dependencies that fulfill the projects requirements
 	 * 
 	 * @param project     the project to query for requirements
-	 * @param avaiableIUs all available units that should be used to fulfill project
-	 *                    requirements
+	 * @param avaiableIUs the index of all available units that should be used to
+	 *                    fulfill project requirements
 	 * @return the collection of dependent {@link InstallableUnit}s
 	 * @throws CoreException if computation failed
 	 */
 	private ProjectDependencies computeProjectDependencies(Set<IInstallableUnit> projectUnits,
-			IQueryable<IInstallableUnit> avaiableIUs)
+			CapabilityIndex avaiableIUs)
 			throws CoreException {
 		if (projectUnits.isEmpty()) {
 			return EMPTY_DEPENDENCIES;
@@ -319,6 +342,19 @@ public class MavenProjectDependencyProcessor {
 			}).toList();
 		}
 
+		/**
+		 * Given a maven project returns all other maven projects that (directly)
+		 * depend on this one, this is the reverse of
+		 * {@link #getDependencyProjects(MavenProject, Collection)} without any context
+		 * filtering applied and is computed only once for the whole closure.
+		 * 
+		 * @param mavenProject the maven project for which all direct dependants should
+		 *                     be collected
+		 * @return the collection of projects in this closure that depend on the given
+		 *         maven project
+		 */
+		Collection<MavenProject> getDependantProjects(MavenProject mavenProject);
+
 		/**
 		 * Check if the given unit is a fragment
 		 * 
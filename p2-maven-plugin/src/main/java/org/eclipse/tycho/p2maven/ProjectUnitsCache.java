@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2maven;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.jar.JarFile;
+
+import org.apache.maven.model.Resource;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.tycho.CacheFiles;
+import org.eclipse.tycho.PackagingType;
+import org.eclipse.tycho.TychoConstants;
+import org.eclipse.tycho.p2maven.io.MetadataIO;
+
+/**
+ * A persistent cache for the units generated by the publisher actions of a reactor
+ * project. Entries are stored in the build directory of the project and named
+ * by a hash of all the files that are used as an input to the publisher
+ * actions, so an entry is only ever used if none of these inputs has changed.
+ */
+final class ProjectUnitsCache {
+
+	private static final String CACHE_VERSION = "2";
+
+	private static final String CACHE_FOLDER = "tycho-units";
+
+	private static final String CACHE_SUFFIX = ".xml";
+
+	private static final String[] PLUGIN_FILES = { "META-INF/p2.inf", "build.properties", "plugin.xml",
+			"fragment.xml", TychoConstants.PDE_BND, "bnd.bnd" };
+
+	private static final String PDE_PREFERENCES = ".settings/org.eclipse.pde.core.prefs";
+
+	private static final String[] FEATURE_FILES = { "feature.xml", "p2.inf", "build.properties" };
+
+	private static final String[] REPOSITORY_FILES = { "category.xml" };
+
+	private static final String[] IU_FILES = { "p2iu.xml" };
+
+	private final File cacheFolder;
+	private final String key;
+
+	private ProjectUnitsCache(File cacheFolder, String key) {
+		this.cacheFolder = cacheFolder;
+		this.key = key;
+	}
+
+	/**
+	 * Reads the cached units for this entry if present
+	 *
+	 * @return the cached units or an empty optional if there is no (valid) entry
+	 */
+	Optional<Collection<IInstallableUnit>> read() {
+		File file = getCacheFile();
+		if (file.isFile()) {
+			try {
+				return Optional.of(new MetadataIO().readXML(file));
+			} catch (IOException | RuntimeException e) {
+				// a corrupted entry is simply regenerated...
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Writes the given units to this cache entry, replacing any other (now stale)
+	 * entries of this project.
+	 *
+	 * @param units the units to store
+	 * @throws IOException if writing failed
+	 */
+	void write(Collection<IInstallableUnit> units) throws IOException {
+		File file = getCacheFile();
+		CacheFiles.writeAtomically(file.toPath(), tempFile -> new MetadataIO().writeXML(units, tempFile.toFile()));
+		File[] staleFiles = cacheFolder
+				.listFiles(f -> f.isFile() && f.getName().endsWith(CACHE_SUFFIX) && !f.equals(file));
+		if (staleFiles != null) {
+			for (File stale : staleFiles) {
+				stale.delete();
+			}
+		}
+	}
+
+	private File getCacheFile() {
+		return new File(cacheFolder, key + CACHE_SUFFIX);
+	}
+
+	/**
+	 * Computes the cache entry for the given project
+	 *
+	 * @param project         the project to compute the cache for
+	 * @param projectArtifact the current artifact of the project or
+	 *                        <code>null</code> if the project is not packed yet
+	 * @return the cache entry for this project or an empty optional if the project
+	 *         can't be cached
+	 */
+	static Optional<ProjectUnitsCache> forProject(MavenProject project, File projectArtifact) {
+		String buildDirectory = project.getBuild() == null ? null : project.getBuild().getDirectory();
+		if (buildDirectory == null) {
+			return Optional.empty();
+		}
+		File basedir = project.getBasedir();
+		String packaging = project.getPackaging();
+		List<File> inputs = new ArrayList<>();
+		if (project.getFile() != null) {
+			// the pom might configure how units or generated manifests are computed
+			inputs.add(project.getFile());
+		}
+		switch (packaging) {
+		case PackagingType.TYPE_ECLIPSE_TEST_PLUGIN:
+		case PackagingType.TYPE_ECLIPSE_PLUGIN:
+			try {
+				addManifests(inputs, project);
+			} catch (IOException e) {
+				return Optional.empty();
+			}
+			addFiles(inputs, basedir, PLUGIN_FILES);
+			// localization files contribute translated properties to the unit
+			addFiles(inputs, basedir, f -> f.getName().endsWith(".properties"));
+			addFiles(inputs, new File(basedir, "OSGI-INF/l10n"), f -> f.getName().endsWith(".properties"));
+			break;
+		case PackagingType.TYPE_ECLIPSE_FEATURE:
+			addFiles(inputs, basedir, FEATURE_FILES);
+			addFiles(inputs, basedir, f -> f.getName().endsWith(".properties"));
+			break;
+		case PackagingType.TYPE_ECLIPSE_REPOSITORY:
+			addFiles(inputs, basedir, REPOSITORY_FILES);
+			addFiles(inputs, basedir, f -> f.getName().endsWith(".product") || f.getName().endsWith(".p2.inf"));
+			break;
+		case PackagingType.TYPE_P2_IU:
+			addFiles(inputs, basedir, IU_FILES);
+			break;
+		default:
+			// nothing is generated for other types so there is no need to cache anything
+			return Optional.empty();
+		}
+		try {
+			MessageDigest digest = CacheFiles.newDigest();
+			CacheFiles.update(digest, CACHE_VERSION);
+			CacheFiles.update(digest, packaging);
+			CacheFiles.update(digest, project.getArtifactId());
+			CacheFiles.update(digest, project.getVersion());
+			if (projectArtifact != null) {
+				// the packed artifact is potentially large and always freshly built, so it is
+				// only identified by its location, size and timestamp
+				CacheFiles.update(digest, projectArtifact.getAbsolutePath());
+				CacheFiles.update(digest, String.valueOf(projectArtifact.length()));
+				CacheFiles.update(digest, String.valueOf(projectArtifact.lastModified()));
+			}
+			for (File input : inputs) {
+				CacheFiles.update(digest, getName(basedir, input));
+				if (input.isFile()) {
+					CacheFiles.update(digest, input.toPath());
+				} else {
+					CacheFiles.update(digest, "<missing>");
+				}
+			}
+			return Optional.of(new ProjectUnitsCache(new File(buildDirectory, CACHE_FOLDER), CacheFiles.toHex(digest)));
+		} catch (IOException e) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Adds all locations where the manifest of a bundle project might be found,
+	 * this includes the manifests generated by bnd or for pom-first projects into
+	 * the output directory
+	 */
+	private static void addManifests(List<File> inputs, MavenProject project) throws IOException {
+		File basedir = project.getBasedir();
+		File pdePreferences = new File(basedir, PDE_PREFERENCES);
+		inputs.add(pdePreferences);
+		if (pdePreferences.isFile()) {
+			Properties properties = new Properties();
+			try (InputStream stream = new FileInputStream(pdePreferences)) {
+				properties.load(stream);
+			}
+			String bundleRoot = properties.getProperty("BUNDLE_ROOT_PATH");
+			if (bundleRoot != null) {
+				inputs.add(new File(new File(basedir, bundleRoot), JarFile.MANIFEST_NAME));
+			}
+		}
+		inputs.add(new File(basedir, JarFile.MANIFEST_NAME));
+		List<String> directories = new ArrayList<>();
+		for (Resource resource : project.getBuild().getResources()) {
+			directories.add(resource.getDirectory());
+		}
+		directories.add(project.getBuild().getOutputDirectory());
+		for (String directory : directories) {
+			if (directory != null) {
+				File manifest = new File(directory, JarFile.MANIFEST_NAME);
+				if (!inputs.contains(manifest)) {
+					inputs.add(manifest);
+				}
+			}
+		}
+	}
+
+	private static String getName(File basedir, File input) {
+		if (input.toPath().startsWith(basedir.toPath())) {
+			return basedir.toPath().relativize(input.toPath()).toString();
+		}
+		return input.getAbsolutePath();
+	}
+
+	private static void addFiles(List<File> inputs, File basedir, String[] names) {
+		for (String name : names) {
+			inputs.add(new File(basedir, name));
+		}
+	}
+
+	private static void addFiles(List<File> inputs, File folder, FileFilter filter) {
+		File[] files = folder.listFiles(f -> f.isFile() && filter.accept(f));
+		if (files != null) {
+			Arrays.sort(files, Comparator.comparing(File::getName));
+			for (File file : files) {
+				if (!inputs.contains(file)) {
+					inputs.add(file);
+				}
+			}
+		}
+	}
+}
@@ -27,6 +27,8 @@ public interface Headers extends AutoCloseable {
 	String ENCODING_GZIP = "gzip";
 	String ETAG_HEADER = "ETag";
 	String LAST_MODIFIED_HEADER = "Last-Modified";
+	String IF_NONE_MATCH_HEADER = "If-None-Match";
+	String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
 	String EXPIRES_HEADER = "Expires";
 	String CACHE_CONTROL_HEADER = "Cache-Control";
 	String MAX_AGE_DIRECTIVE = "max-age";
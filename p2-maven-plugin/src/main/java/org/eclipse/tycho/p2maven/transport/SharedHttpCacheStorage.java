@@ -18,20 +18,26 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Comparator;
 import java.util.Date;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -44,6 +50,10 @@ import org.eclipse.equinox.internal.p2.repository.AuthenticationFailedException;
 @Component(role = HttpCache.class)
 public class SharedHttpCacheStorage implements HttpCache {
 
+	/**
+	 * The maximum number of cache lines kept in memory, lines are evicted in least
+	 * recently used order if this number is exceeded
+	 */
 	private static final int MAX_CACHE_LINES = Integer.getInteger("tycho.p2.transport.max-cache-lines", 1000);
 	/**
 	 * Assumes the following minimum caching period for remote files in minutes
@@ -51,26 +61,15 @@ public class SharedHttpCacheStorage implements HttpCache {
 	// TODO can we sync this with the time where maven updates snapshots?
 	public static final long MIN_CACHE_PERIOD = Long.getLong("tycho.p2.transport.min-cache-minutes",
 			TimeUnit.HOURS.toMinutes(1));
-	private static final int MAX_IN_MEMORY = 1000;
 
 	@Requirement
 	TransportCacheConfig cacheConfig;
 
-	private final Map<File, CacheLine> entryCache;
-
-	public SharedHttpCacheStorage() {
+	private final Map<File, CacheLine> entryCache = new ConcurrentHashMap<>();
 
-		entryCache = new LinkedHashMap<>(MAX_CACHE_LINES, 0.75f, true) {
+	private final AtomicBoolean evicting = new AtomicBoolean();
 
-			private static final long serialVersionUID = 1L;
-
-			@Override
-			protected boolean removeEldestEntry(final Map.Entry<File, CacheLine> eldest) {
-				return (size() > MAX_IN_MEMORY);
-			}
-
-		};
-	}
+	private final AtomicLong accessCounter = new AtomicLong();
 
 	/**
 	 * Fetches the cache entry for this URI
@@ -139,7 +138,7 @@ public class SharedHttpCacheStorage implements HttpCache {
 		};
 	}
 
-	private synchronized CacheLine getCacheLine(URI uri) {
+	private CacheLine getCacheLine(URI uri) {
 		String cleanPath = uri.normalize().toASCIIString().replace(':', '/').replace('?', '/').replace('&', '/')
 				.replace('*', '/').replaceAll("/+", "/");
 		if (cleanPath.endsWith("/")) {
@@ -154,8 +153,35 @@ public class SharedHttpCacheStorage implements HttpCache {
 		} catch (IOException e) {
 			location = file.getAbsoluteFile();
 		}
-		return entryCache.computeIfAbsent(location, CacheLine::new);
+		CacheLine cacheLine = entryCache.computeIfAbsent(location, CacheLine::new);
+		cacheLine.lastAccess = accessCounter.incrementAndGet();
+		if (entryCache.size() > MAX_CACHE_LINES) {
+			evict();
+		}
+		return cacheLine;
+	}
 
+	/**
+	 * Removes the least recently used cache lines that currently have no request
+	 * in progress, only one thread performs the eviction at a time while all others
+	 * simply continue.
+	 */
+	private void evict() {
+		if (!evicting.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			// evict a bit more than required so we don't need to do this on each access
+			int evictCount = entryCache.size() - (MAX_CACHE_LINES - MAX_CACHE_LINES / 10);
+			if (evictCount <= 0) {
+				return;
+			}
+			entryCache.values().stream().filter(line -> !line.isBusy())
+					.sorted(Comparator.comparingLong(line -> line.lastAccess)).limit(evictCount).toList()
+					.forEach(line -> entryCache.remove(line.file, line));
+		} finally {
+			evicting.set(false);
+		}
 	}
 
 	private final class CacheLine {
@@ -165,8 +191,14 @@ public class SharedHttpCacheStorage implements HttpCache {
 		private static final String STATUS_LINE = "HTTP_STATUS_LINE";
 		private final File file;
 		private final File headerFile;
-		private Properties header;
+		private volatile Properties header;
+		private volatile long lastAccess;
 		private final DateFormat httpDateFormat = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss z", Locale.US);
+		/**
+		 * requests currently in progress for this line, concurrent callers of the same
+		 * kind of request wait for and share the result of the one in progress
+		 */
+		private final Map<String, CompletableFuture<?>> inProgress = new ConcurrentHashMap<>();
 
 		public CacheLine(File file) {
 			this.file = file;
@@ -174,14 +206,29 @@ public class SharedHttpCacheStorage implements HttpCache {
 			httpDateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
 		}
 
-		public synchronized long fetchLastModified(URI uri, HttpTransportFactory transportFactory, Logger logger)
+		public long fetchLastModified(URI uri, HttpTransportFactory transportFactory, Logger logger)
 				throws IOException {
-			// TODO its very likely that the file is downloaded here if it has changed... so
-			// probably just download it right now?
-			HttpTransport transport = transportFactory.createTransport(uri);
+			return shared("LAST_MODIFIED", () -> doFetchLastModified(uri, transportFactory, logger));
+		}
 
+		private long doFetchLastModified(URI uri, HttpTransportFactory transportFactory, Logger logger)
+				throws IOException {
+			boolean exits = file.isFile();
+			if (exits && !isRedirected(getResponseCode()) && !mustValidate()) {
+				// the cached file is still fresh, so its stored date can be used without a request
+				return getStoredLastModified();
+			}
+			HttpTransport transport = transportFactory.createTransport(uri);
+			Properties lastHeader = getHeader();
+			if (exits) {
+				setConditionalHeaders(transport, lastHeader);
+			}
 			try (Headers response = transport.head()) {
 				int code = response.statusCode();
+				if (exits && code == HttpURLConnection.HTTP_NOT_MODIFIED) {
+					updateHeader(response, getResponseCode(), lastHeader);
+					return getStoredLastModified();
+				}
 				if (isAuthFailure(code)) {
 					throw new AuthenticationFailedException(); // FIXME why is there no constructor to give a cause?
 				}
@@ -191,13 +238,35 @@ public class SharedHttpCacheStorage implements HttpCache {
 				}
 				if (isRedirected(code)) {
 					updateHeader(response, code);
-					return SharedHttpCacheStorage.this.getCacheEntry(uri, logger).getLastModified(transportFactory);
+					return SharedHttpCacheStorage.this.getCacheEntry(getRedirect(uri), logger)
+							.getLastModified(transportFactory);
 				}
+				// the stored headers must keep describing the cached file, so they are only
+				// updated once the changed file is downloaded
 				return response.getLastModified();
 			}
 		}
 
-		public synchronized long getLastModified(URI uri, HttpTransportFactory transportFactory,
+		private long getStoredLastModified() {
+			Date lastModified = pareHttpDate(getHeader().getProperty(Headers.LAST_MODIFIED_HEADER.toLowerCase()));
+			if (lastModified != null) {
+				return lastModified.getTime();
+			}
+			return 0;
+		}
+
+		private void setConditionalHeaders(HttpTransport transport, Properties lastHeader) {
+			if (lastHeader.containsKey(Headers.ETAG_HEADER.toLowerCase())) {
+				transport.setHeader(Headers.IF_NONE_MATCH_HEADER,
+						lastHeader.getProperty(Headers.ETAG_HEADER.toLowerCase()));
+			}
+			if (lastHeader.containsKey(Headers.LAST_MODIFIED_HEADER.toLowerCase())) {
+				transport.setHeader(Headers.IF_MODIFIED_SINCE_HEADER,
+						lastHeader.getProperty(Headers.LAST_MODIFIED_HEADER.toLowerCase()));
+			}
+		}
+
+		public long getLastModified(URI uri, HttpTransportFactory transportFactory,
 				Function<URI, IOException> notAviableExceptionSupplier, Logger logger) throws IOException {
 			int code = getResponseCode();
 			if (code > 0) {
@@ -221,8 +290,11 @@ public class SharedHttpCacheStorage implements HttpCache {
 			}
 		}
 
-		public synchronized File fetchFile(URI uri, HttpTransportFactory transportFactory, Logger logger)
-				throws IOException {
+		public File fetchFile(URI uri, HttpTransportFactory transportFactory, Logger logger) throws IOException {
+			return shared("GET", () -> doFetchFile(uri, transportFactory, logger));
+		}
+
+		private File doFetchFile(URI uri, HttpTransportFactory transportFactory, Logger logger) throws IOException {
 			boolean exits = file.isFile();
 			if (exits && !mustValidate()) {
 				return file;
@@ -230,27 +302,23 @@ public class SharedHttpCacheStorage implements HttpCache {
 			HttpTransport transport = transportFactory.createTransport(uri);
 			Properties lastHeader = getHeader();
 			if (exits) {
-				if (lastHeader.containsKey(Headers.ETAG_HEADER.toLowerCase())) {
-					transport.setHeader("If-None-Match", lastHeader.getProperty(Headers.ETAG_HEADER.toLowerCase()));
-				}
-				if (lastHeader.contains(Headers.LAST_MODIFIED_HEADER.toLowerCase())) {
-					transport.setHeader("If-Modified-Since",
-							lastHeader.getProperty(Headers.LAST_MODIFIED_HEADER.toLowerCase()));
-				}
+				setConditionalHeaders(transport, lastHeader);
 			}
 			transport.setHeader(Headers.HEADER_ACCEPT_ENCODING, Headers.ENCODING_GZIP);
 			return transport.get(response -> {
 				File tempFile;
 				int code = response.statusCode();
 				if (exits && code == HttpURLConnection.HTTP_NOT_MODIFIED) {
-					updateHeader(response, getResponseCode());
+					// a 304 response is not required to repeat all headers of the original
+					// response so the stored ones are kept and only refreshed
+					updateHeader(response, getResponseCode(), lastHeader);
 					return file;
 				}
 				if (isAuthFailure(code)) {
 					throw new AuthenticationFailedException(); // FIXME why is there no constructor to give a cause?
 				}
-				updateHeader(response, code);
 				if (isRedirected(code)) {
+					updateHeader(response, code);
 					File cachedFile = SharedHttpCacheStorage.this.getCacheEntry(getRedirect(uri), logger)
 							.getCacheFile(transportFactory);
 					// https://github.com/eclipse-tycho/tycho/issues/2938
@@ -263,10 +331,14 @@ public class SharedHttpCacheStorage implements HttpCache {
 					FileUtils.copyFile(cachedFile, file);
 					return file;
 				}
-				if (exits) {
-					FileUtils.forceDelete(file);
+				if (isNotFound(code)) {
+					// remembered, but a previously cached file is kept like for any other failure
+					updateHeader(response, code);
 				}
+				// fail before the cached file is touched, so it is still available if the
+				// server has a temporary problem
 				response.checkResponseCode();
+				FileUtils.forceMkdir(file.getParentFile());
 				tempFile = File.createTempFile("download", ".tmp", file.getParentFile());
 				try (OutputStream os = new BufferedOutputStream(new FileOutputStream(tempFile))) {
 					response.transferTo(os);
@@ -274,14 +346,19 @@ public class SharedHttpCacheStorage implements HttpCache {
 					tempFile.delete();
 					throw e;
 				}
+				// the headers describe the new file, so they are only stored once it is complete
+				updateHeader(response, code);
 				response.close(); // early close before doing file I/O
+				if (exits) {
+					FileUtils.forceDelete(file);
+				}
 				FileUtils.moveFile(tempFile, file);
 				return file;
 			});
 
 		}
 
-		public synchronized File getFile(URI uri, HttpTransportFactory transportFactory,
+		public File getFile(URI uri, HttpTransportFactory transportFactory,
 				Function<URI, IOException> notAviableExceptionSupplier, Logger logger) throws IOException {
 			int code = getResponseCode();
 			if (code > 0) {
@@ -302,6 +379,45 @@ public class SharedHttpCacheStorage implements HttpCache {
 			throw notAviableExceptionSupplier.apply(uri);
 		}
 
+		/**
+		 * Performs the given request unless the same kind of request is already in
+		 * progress for this line, in which case the result of that request is
+		 * returned.
+		 */
+		@SuppressWarnings("unchecked")
+		private <T> T shared(String kind, IORequest<T> request) throws IOException {
+			CompletableFuture<T> future = new CompletableFuture<>();
+			CompletableFuture<T> existing = (CompletableFuture<T>) inProgress.putIfAbsent(kind, future);
+			if (existing != null) {
+				try {
+					return existing.join();
+				} catch (CompletionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof IOException io) {
+						throw io;
+					}
+					if (cause instanceof RuntimeException runtime) {
+						throw runtime;
+					}
+					throw new IOException(cause);
+				}
+			}
+			try {
+				T result = request.perform();
+				future.complete(result);
+				return result;
+			} catch (IOException | RuntimeException e) {
+				future.completeExceptionally(e);
+				throw e;
+			} finally {
+				inProgress.remove(kind, future);
+			}
+		}
+
+		boolean isBusy() {
+			return !inProgress.isEmpty();
+		}
+
 		private boolean mustValidate() {
 			if (cacheConfig.isUpdate()) {
 				// user enforced validation
@@ -332,7 +448,7 @@ public class SharedHttpCacheStorage implements HttpCache {
 			}
 			Date expiresDate = pareHttpDate(properties.getProperty(Headers.EXPIRES_HEADER.toLowerCase()));
 			if (expiresDate != null) {
-				return expiresDate.after(new Date());
+				return !expiresDate.after(new Date());
 			}
 			return true;
 		}
@@ -361,9 +477,17 @@ public class SharedHttpCacheStorage implements HttpCache {
 		}
 
 		protected void updateHeader(Headers response, int code) throws IOException, FileNotFoundException {
-			header = new Properties();
-			header.setProperty(RESPONSE_CODE, String.valueOf(code));
-			header.setProperty(LAST_UPDATED, String.valueOf(System.currentTimeMillis()));
+			updateHeader(response, code, null);
+		}
+
+		protected synchronized void updateHeader(Headers response, int code, Properties previousHeader)
+				throws IOException, FileNotFoundException {
+			Properties newHeader = new Properties();
+			if (previousHeader != null) {
+				newHeader.putAll(previousHeader);
+			}
+			newHeader.setProperty(RESPONSE_CODE, String.valueOf(code));
+			newHeader.setProperty(LAST_UPDATED, String.valueOf(System.currentTimeMillis()));
 			Map<String, List<String>> headerFields = response.headers();
 			for (var entry : headerFields.entrySet()) {
 				String key = entry.getKey();
@@ -386,17 +510,18 @@ public class SharedHttpCacheStorage implements HttpCache {
 				}
 				List<String> value = entry.getValue();
 				if (value.size() == 1) {
-					header.put(key, value.get(0));
+					newHeader.put(key, value.get(0));
 				} else {
-					header.put(key, value.stream().collect(Collectors.joining(",")));
+					newHeader.put(key, value.stream().collect(Collectors.joining(",")));
 				}
 			}
 			FileUtils.forceMkdir(file.getParentFile());
 			try (OutputStream out = new BufferedOutputStream(new FileOutputStream(headerFile))) {
 				// we store the header here, this might be a 404 response or (permanent)
 				// redirect we probably need to work with later on
-				header.store(out, null);
+				newHeader.store(out, null);
 			}
+			header = newHeader;
 		}
 
 		private synchronized Date pareHttpDate(String input) {
@@ -423,20 +548,31 @@ public class SharedHttpCacheStorage implements HttpCache {
 		}
 
 		public Properties getHeader() {
-			if (header == null) {
-				header = new Properties();
-				if (headerFile.isFile()) {
-					try {
-						header.load(new FileInputStream(headerFile));
-					} catch (IOException e) {
-						// can't use the headers then...
+			Properties properties = header;
+			if (properties == null) {
+				synchronized (this) {
+					properties = header;
+					if (properties == null) {
+						properties = new Properties();
+						if (headerFile.isFile()) {
+							try (InputStream stream = new FileInputStream(headerFile)) {
+								properties.load(stream);
+							} catch (IOException e) {
+								// can't use the headers then...
+							}
+						}
+						header = properties;
 					}
 				}
 			}
-			return header;
+			return properties;
 		}
 	}
 
+	private static interface IORequest<T> {
+		T perform() throws IOException;
+	}
+
 	private static boolean isRedirected(int code) {
 		return code == HttpURLConnection.HTTP_MOVED_PERM || code == HttpURLConnection.HTTP_MOVED_TEMP;
 	}
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sisu.equinox.launching.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.codehaus.plexus.util.FileUtils;
+import org.eclipse.tycho.CacheFiles;
+
+/**
+ * A cache of unpacked bundles in the local repository, keyed by the SHA-256 hash of the bundle
+ * jar. Each bundle is only extracted once, installations then get hard links to the cached files.
+ * The cached files are made read-only, so a test runtime can't write through a link into the
+ * cache. Where this is not possible (e.g. links across file systems, or file systems without POSIX
+ * permissions) installations get copies instead.
+ * <p>
+ * Bundles are extracted to a temporary directory that is atomically renamed once it is complete,
+ * so concurrent builds on the same machine can share the cache. Entries that have not been used
+ * for <code>tycho.equinox.unpack.cache.maxAge</code> days (30 by default) are removed, together
+ * with temporary directories left behind by interrupted builds.
+ * </p>
+ */
+final class BundleUnpackCache {
+
+    static final String CACHE_PATH = ".cache/tycho/unpacked-bundles";
+
+    private static final boolean ENABLED = Boolean
+            .parseBoolean(System.getProperty("tycho.equinox.unpack.cache", "true"));
+
+    private static final long MAX_AGE = TimeUnit.DAYS
+            .toMillis(Long.getLong("tycho.equinox.unpack.cache.maxAge", 30));
+
+    /** temporary directories that are older than this can't belong to a running build anymore */
+    private static final long MAX_TEMP_AGE = TimeUnit.HOURS.toMillis(1);
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /** without POSIX permissions read-only files can't be deleted, so links are not used then */
+    private static final boolean LINK = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+
+    interface Unpacker {
+        void unpack(File source, File destination);
+    }
+
+    private final File cacheDir;
+
+    private final AtomicBoolean pruned = new AtomicBoolean();
+
+    BundleUnpackCache(File cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    /**
+     * @param localRepository
+     *            the local repository of the build
+     * @return the cache for the given local repository (or the location configured with
+     *         <code>tycho.equinox.unpack.cache.dir</code>), or <code>null</code> if caching is
+     *         disabled
+     */
+    static BundleUnpackCache forLocalRepository(File localRepository) {
+        if (!ENABLED) {
+            return null;
+        }
+        String directory = System.getProperty("tycho.equinox.unpack.cache.dir");
+        return new BundleUnpackCache(directory != null ? new File(directory) : new File(localRepository, CACHE_PATH));
+    }
+
+    /**
+     * Makes the content of the given bundle jar available in the destination directory, any
+     * previous content of the destination is removed.
+     *
+     * @param bundle
+     *            the bundle jar
+     * @param destination
+     *            the directory to populate
+     * @param unpacker
+     *            used to extract the bundle if it is not yet cached
+     */
+    void unpack(File bundle, File destination, Unpacker unpacker) throws IOException {
+        if (pruned.compareAndSet(false, true)) {
+            prune();
+        }
+        File cached = getCachedDirectory(bundle, unpacker);
+        FileUtils.deleteDirectory(destination);
+        link(cached.toPath(), destination.toPath());
+    }
+
+    private File getCachedDirectory(File bundle, Unpacker unpacker) throws IOException {
+        File cached = new File(cacheDir, CacheFiles.cachedHash(bundle));
+        if (cached.isDirectory()) {
+            // the timestamp of an entry tells when it was last used, see prune()
+            cached.setLastModified(System.currentTimeMillis());
+            return cached;
+        }
+        File tempDir = new File(cacheDir, cached.getName() + "-" + UUID.randomUUID() + TEMP_SUFFIX);
+        try {
+            // created upfront as nothing is extracted from a jar without entries
+            Files.createDirectories(tempDir.toPath());
+            unpacker.unpack(bundle, tempDir);
+            Files.move(tempDir.toPath(), cached.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // another build was faster
+        } catch (IOException e) {
+            if (!cached.isDirectory()) {
+                throw e;
+            }
+        } finally {
+            if (tempDir.exists()) {
+                FileUtils.deleteDirectory(tempDir);
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * Removes entries that were not used for a long time and temporary directories of builds that
+     * were interrupted.
+     */
+    private void prune() {
+        File[] entries = cacheDir.listFiles(File::isDirectory);
+        if (entries == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (File entry : entries) {
+            long age = now - entry.lastModified();
+            boolean temporary = entry.getName().endsWith(TEMP_SUFFIX);
+            if (temporary ? age > MAX_TEMP_AGE : age > MAX_AGE) {
+                try {
+                    if (!temporary) {
+                        // rename first, so no other build picks up a partially deleted entry
+                        File deleted = new File(cacheDir, entry.getName() + "-" + UUID.randomUUID() + TEMP_SUFFIX);
+                        Files.move(entry.toPath(), deleted.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                        entry = deleted;
+                    }
+                    FileUtils.deleteDirectory(entry);
+                } catch (IOException e) {
+                    // removed by another build or still in use, tried again next time
+                }
+            }
+        }
+    }
+
+    private static void link(Path source, Path destination) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<>() {
+
+            private boolean link = LINK;
+
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(destination.resolve(source.relativize(dir)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Path target = destination.resolve(source.relativize(file));
+                if (link) {
+                    // links share the permissions of the cached file, so this also covers links
+                    // that are created by other builds
+                    if (Files.isWritable(file) && !file.toFile().setWritable(false, false)) {
+                        link = false;
+                    } else {
+                        try {
+                            Files.createLink(target, file);
+                            return FileVisitResult.CONTINUE;
+                        } catch (IOException | UnsupportedOperationException e) {
+                            // e.g. the cache is on another file system, copy the remaining files
+                            link = false;
+                        }
+                    }
+                }
+                Files.copy(file, target, StandardCopyOption.COPY_ATTRIBUTES);
+                target.toFile().setWritable(true);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
@@ -55,6 +55,8 @@ public class DefaultEquinoxInstallationFactory implements EquinoxInstallationFac
 
     private final Map<String, Manifest> manifestCache = new HashMap<>();
 
+    private BundleUnpackCache unpackCache;
+
     @Requirement
     private Logger log;
 
@@ -66,6 +68,13 @@ public class DefaultEquinoxInstallationFactory implements EquinoxInstallationFac
         this.log = log;
     }
 
+    /**
+     * Enables the cache of unpacked bundles in the given local repository
+     */
+    public void setLocalRepository(File localRepository) {
+        this.unpackCache = BundleUnpackCache.forLocalRepository(localRepository);
+    }
+
     @Override
     public EquinoxInstallation createInstallation(EquinoxInstallationDescription description, File location) {
         Set<String> bundlesToExplode = description.getBundlesToExplode();
@@ -86,9 +95,7 @@ public class DefaultEquinoxInstallationFactory implements EquinoxInstallationFac
                     String filename = artifact.getId() + "_" + artifact.getVersion();
                     File unpacked = new File(location, "plugins/" + filename);
 
-                    unpacked.mkdirs();
-
-                    unpack(file, unpacked);
+                    unpackBundle(file, unpacked);
 
                     effective.put(artifact, unpacked);
                 } else {
@@ -216,6 +223,16 @@ public class DefaultEquinoxInstallationFactory implements EquinoxInstallationFac
         return file.toURI().toURL().toExternalForm();
     }
 
+    private void unpackBundle(File bundle, File destination) throws IOException {
+        if (unpackCache != null) {
+            unpackCache.unpack(bundle, destination, this::unpack);
+        } else {
+            FileUtils.deleteDirectory(destination);
+            destination.mkdirs();
+            unpack(bundle, destination);
+        }
+    }
+
     protected void unpack(File source, File destination) {
         UnArchiver unzip;
         try {
@@ -245,7 +262,7 @@ public class DefaultEquinoxInstallationFactory implements EquinoxInstallationFac
             bundleNames.add(symbolicName);
             File bundleDir = new File(location, "plugins/" + symbolicName + "_" + version);
             if (bundleFile.isFile()) {
-                unpack(bundleFile, bundleDir);
+                unpackBundle(bundleFile, bundleDir);
             } else {
                 FileUtils.copyDirectoryStructure(bundleFile, bundleDir);
             }
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sisu.equinox.launching.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BundleUnpackCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testBundleIsUnpackedOnlyOnce() throws IOException {
+        File bundle = createBundle(tempDir.resolve("bundle.jar"), "content");
+        File otherCopy = createBundle(tempDir.resolve("other/bundle.jar"), "content");
+        BundleUnpackCache cache = new BundleUnpackCache(tempDir.resolve("cache").toFile());
+        AtomicInteger unpacks = new AtomicInteger();
+        BundleUnpackCache.Unpacker unpacker = (source, destination) -> {
+            unpacks.incrementAndGet();
+            extract(source, destination);
+        };
+
+        File first = tempDir.resolve("work1/plugins/bundle").toFile();
+        File second = tempDir.resolve("work2/plugins/bundle").toFile();
+        cache.unpack(bundle, first, unpacker);
+        cache.unpack(otherCopy, second, unpacker);
+
+        assertEquals(1, unpacks.get());
+        assertEquals("content", Files.readString(first.toPath().resolve("dir/file.txt")));
+        assertEquals("content", Files.readString(second.toPath().resolve("dir/file.txt")));
+    }
+
+    @Test
+    public void testPreviousContentIsReplaced() throws IOException {
+        BundleUnpackCache cache = new BundleUnpackCache(tempDir.resolve("cache").toFile());
+        BundleUnpackCache.Unpacker unpacker = BundleUnpackCacheTest::extract;
+        File destination = tempDir.resolve("work/plugins/bundle").toFile();
+        cache.unpack(createBundle(tempDir.resolve("v1/bundle.jar"), "v1"), destination, unpacker);
+        Files.writeString(destination.toPath().resolve("stale.txt"), "stale");
+
+        cache.unpack(createBundle(tempDir.resolve("v2/bundle.jar"), "v2"), destination, unpacker);
+
+        assertEquals("v2", Files.readString(destination.toPath().resolve("dir/file.txt")));
+        assertFalse(new File(destination, "stale.txt").exists());
+    }
+
+    @Test
+    public void testChangesToInstallationDoNotModifyCache() throws IOException {
+        File bundle = createBundle(tempDir.resolve("bundle.jar"), "content");
+        BundleUnpackCache cache = new BundleUnpackCache(tempDir.resolve("cache").toFile());
+        File first = tempDir.resolve("work1/plugins/bundle").toFile();
+        cache.unpack(bundle, first, BundleUnpackCacheTest::extract);
+        try {
+            Files.writeString(first.toPath().resolve("dir/file.txt"), "modified");
+        } catch (AccessDeniedException e) {
+            // expected for files that are linked to the cache
+        }
+
+        File second = tempDir.resolve("work2/plugins/bundle").toFile();
+        cache.unpack(bundle, second, BundleUnpackCacheTest::extract);
+
+        assertEquals("content", Files.readString(second.toPath().resolve("dir/file.txt")));
+    }
+
+    @Test
+    public void testInstallationsAreLinkedToCache() throws IOException {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        File bundle = createBundle(tempDir.resolve("bundle.jar"), "content");
+        BundleUnpackCache cache = new BundleUnpackCache(tempDir.resolve("cache").toFile());
+        File first = tempDir.resolve("work1/plugins/bundle").toFile();
+        File second = tempDir.resolve("work2/plugins/bundle").toFile();
+        cache.unpack(bundle, first, BundleUnpackCacheTest::extract);
+        cache.unpack(bundle, second, BundleUnpackCacheTest::extract);
+
+        Path firstFile = first.toPath().resolve("dir/file.txt");
+        assertTrue(Files.isSameFile(firstFile, second.toPath().resolve("dir/file.txt")));
+        assertFalse(Files.getPosixFilePermissions(firstFile).contains(PosixFilePermission.OWNER_WRITE));
+    }
+
+    @Test
+    public void testEmptyBundle() throws IOException {
+        Path bundle = tempDir.resolve("empty.jar");
+        new ZipOutputStream(Files.newOutputStream(bundle)).close();
+        BundleUnpackCache cache = new BundleUnpackCache(tempDir.resolve("cache").toFile());
+        File destination = tempDir.resolve("work/plugins/empty").toFile();
+
+        cache.unpack(bundle.toFile(), destination, BundleUnpackCacheTest::extract);
+
+        assertTrue(destination.isDirectory());
+    }
+
+    @Test
+    public void testStaleTemporaryDirectoriesAreRemoved() throws IOException {
+        Path stale = Files.createDirectories(tempDir.resolve("cache/abc-123.tmp"));
+        stale.toFile().setLastModified(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1));
+        Path running = Files.createDirectories(tempDir.resolve("cache/def-456.tmp"));
+        BundleUnpackCache cache = new BundleUnpackCache(tempDir.resolve("cache").toFile());
+
+        cache.unpack(createBundle(tempDir.resolve("bundle.jar"), "content"),
+                tempDir.resolve("work/plugins/bundle").toFile(), BundleUnpackCacheTest::extract);
+
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(running));
+    }
+
+    private static File createBundle(Path path, String content) throws IOException {
+        Files.createDirectories(path.getParent());
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(path))) {
+            zip.putNextEntry(new ZipEntry("dir/file.txt"));
+            zip.write(content.getBytes());
+            zip.closeEntry();
+        }
+        return path.toFile();
+    }
+
+    private static void extract(File source, File destination) {
+        try (ZipFile zip = new ZipFile(source)) {
+            for (ZipEntry entry : Collections.list(zip.entries())) {
+                Path target = destination.toPath().resolve(entry.getName());
+                Files.createDirectories(target.getParent());
+                try (OutputStream os = Files.newOutputStream(target)) {
+                    zip.getInputStream(entry).transferTo(os);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -31,4 +31,9 @@ public class DependencyResolutionConfiguration {
     public Properties profileProperties;
     @Parameter(property = DefaultTargetPlatformConfigurationReader.LOCAL_ARTIFACTS_PROPERTY, name = DefaultTargetPlatformConfigurationReader.LOCAL_ARTIFACTS)
     public LocalArtifactHandling localArtifacts;
+    /**
+     * If enabled, the dependencies for all configured environments are resolved concurrently.
+     */
+    @Parameter(property = DefaultTargetPlatformConfigurationReader.PARALLEL_ENVIRONMENTS_PROPERTY, name = DefaultTargetPlatformConfigurationReader.PARALLEL_ENVIRONMENTS)
+    public boolean parallelEnvironments;
 }
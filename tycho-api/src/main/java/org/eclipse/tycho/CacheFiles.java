@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Helpers shared by the persistent caches of Tycho: SHA-256 content hashes to key entries and
+ * atomic writes, so that builds running concurrently on the same machine (and builds that are
+ * interrupted) never see a partially written entry.
+ */
+public final class CacheFiles {
+
+    /**
+     * content hashes of already seen files, keyed by path only so a changed file replaces its
+     * previous entry instead of adding a new one
+     */
+    private static final Map<String, FileHash> HASHES = new ConcurrentHashMap<>();
+
+    private record FileHash(long length, long lastModified, String hash) {
+    }
+
+    /**
+     * Writes the content of a cache file
+     */
+    public interface ContentWriter {
+        void write(Path file) throws IOException;
+    }
+
+    private CacheFiles() {
+    }
+
+    /**
+     * @return a new SHA-256 digest
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Adds a value to the digest, values are terminated so that consecutive values can't be
+     * confused with each other.
+     */
+    public static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * Adds the content of the given file to the digest
+     */
+    public static void update(MessageDigest digest, Path file) throws IOException {
+        updateContent(digest, file);
+        digest.update((byte) 0);
+    }
+
+    /**
+     * @return the hex encoded value of the digest
+     */
+    public static String toHex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * @return the hex encoded SHA-256 hash of the given value
+     */
+    public static String hash(String value) {
+        MessageDigest digest = newDigest();
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        return toHex(digest);
+    }
+
+    /**
+     * @return the hex encoded SHA-256 hash of the content of the given file
+     */
+    public static String hash(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        updateContent(digest, file);
+        return toHex(digest);
+    }
+
+    /**
+     * Like {@link #hash(Path)} but the file is only read again if its size or timestamp has
+     * changed, meant for files that are not modified in place (e.g. artifacts of a repository).
+     */
+    public static String cachedHash(File file) throws IOException {
+        String key = file.getAbsolutePath();
+        long length = file.length();
+        long lastModified = file.lastModified();
+        FileHash cached = HASHES.get(key);
+        if (cached != null && cached.length() == length && cached.lastModified() == lastModified) {
+            return cached.hash();
+        }
+        String hash = hash(file.toPath());
+        HASHES.put(key, new FileHash(length, lastModified, hash));
+        return hash;
+    }
+
+    private static void updateContent(MessageDigest digest, Path file) throws IOException {
+        try (InputStream stream = Files.newInputStream(file)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+    }
+
+    /**
+     * Writes a file through a temporary file in the same directory that replaces the file once it
+     * is complete. Missing parent directories are created.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        Path parent = Files.createDirectories(file.toAbsolutePath().getParent());
+        Path tempFile = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            writer.write(tempFile);
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Writes the given content with {@link #writeAtomically(Path, ContentWriter)}
+     */
+    public static void writeAtomically(Path file, byte[] content) throws IOException {
+        writeAtomically(file, tempFile -> Files.write(tempFile, content));
+    }
+
+}
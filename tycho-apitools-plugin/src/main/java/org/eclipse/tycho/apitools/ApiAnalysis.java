@@ -42,6 +42,7 @@ import org.eclipse.core.resources.IWorkspaceDescription;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.resources.WorkspaceJob;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ILogListener;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -104,11 +105,13 @@ public class ApiAnalysis implements Serializable, Callable<ApiAnalysisResult> {
 	private String binaryArtifact;
 	private String outputDir;
 	private boolean runAsJob;
+	private long baselineCacheSize;
 
 	ApiAnalysis(Collection<Path> baselineBundles, Collection<Path> dependencyBundles, String baselineName,
 			Path apiFilterFile, Path apiPreferences, Path projectDir, boolean debug, Path binaryArtifact,
-			Path outputDir, boolean runAsJob) {
+			Path outputDir, boolean runAsJob, long baselineCacheSize) {
 		this.runAsJob = runAsJob;
+		this.baselineCacheSize = baselineCacheSize;
 		this.targetBundles = dependencyBundles.stream().map(ApiAnalysis::pathAsString).toList();
 		this.baselineBundles = baselineBundles.stream().map(ApiAnalysis::pathAsString).toList();
 		this.baselineName = baselineName;
@@ -123,9 +126,11 @@ public class ApiAnalysis implements Serializable, Callable<ApiAnalysisResult> {
 	@Override
 	public ApiAnalysisResult call() throws Exception {
 
-		Platform.addLogListener((status, plugin) -> debug(status.toString()));
+		// the framework might be reused, so listeners must not outlive this analysis
+		ILogListener logListener = (status, plugin) -> debug(status.toString());
+		Platform.addLogListener(logListener);
 		IJobManager jobManager = Job.getJobManager();
-		jobManager.addJobChangeListener(new IJobChangeListener() {
+		IJobChangeListener jobChangeListener = new IJobChangeListener() {
 
 			@Override
 			public void sleeping(IJobChangeEvent event) {
@@ -156,7 +161,17 @@ public class ApiAnalysis implements Serializable, Callable<ApiAnalysisResult> {
 			public void aboutToRun(IJobChangeEvent event) {
 				debug("Job " + event.getJob() + " aboutToRun...");
 			}
-		});
+		};
+		jobManager.addJobChangeListener(jobChangeListener);
+		try {
+			return analyse();
+		} finally {
+			jobManager.removeJobChangeListener(jobChangeListener);
+			Platform.removeLogListener(logListener);
+		}
+	}
+
+	private ApiAnalysisResult analyse() throws Exception {
 		printVersion();
 		disableAutoBuild();
 		disableJVMDiscovery();
@@ -193,28 +208,12 @@ public class ApiAnalysis implements Serializable, Callable<ApiAnalysisResult> {
 	private IStatus performAPIAnalysis(IProject project, IPath projectPath, ApiAnalysisResult result) {
 		try {
 			BundleComponent projectComponent = getApiComponent(project, projectPath);
-			IApiBaseline baseline = createBaseline(baselineBundles, baselineName + " - baseline");
-			ResolverError[] resolverErrors = projectComponent.getErrors();
-			if (resolverErrors != null && resolverErrors.length > 0) {
-				for (ResolverError error : resolverErrors) {
-					result.addResolverError(error);
-				}
-			}
-			IApiFilterStore filterStore = getApiFilterStore(projectComponent);
-			Properties preferences = getPreferences();
-			BaseApiAnalyzer analyzer = new BaseApiAnalyzer();
+			IApiBaseline baseline = BaselineCache.acquire(projectDir, baselineBundles,
+					() -> createBaseline(baselineBundles, baselineName + " - baseline"));
 			try {
-				analyzer.setContinueOnResolverError(true);
-				analyzer.analyzeComponent(null, filterStore, preferences, baseline, projectComponent,
-						new BuildContext(), new NullProgressMonitor());
-				IApiProblem[] problems = analyzer.getProblems();
-				for (IApiProblem problem : problems) {
-					result.addProblem(problem, project);
-					debug(String.valueOf(problem));
-				}
+				analyzeComponent(project, result, projectComponent, baseline);
 			} finally {
-				analyzer.dispose();
-				ResourcesPlugin.getWorkspace().save(true, new NullProgressMonitor());
+				BaselineCache.release(baseline, baselineCacheSize);
 			}
 		} catch (Exception e) {
 			return Status.error("Api Analysis failed", e);
@@ -222,6 +221,32 @@ public class ApiAnalysis implements Serializable, Callable<ApiAnalysisResult> {
 		return Status.OK_STATUS;
 	}
 
+	private void analyzeComponent(IProject project, ApiAnalysisResult result, BundleComponent projectComponent,
+			IApiBaseline baseline) throws IOException, CoreException {
+		ResolverError[] resolverErrors = projectComponent.getErrors();
+		if (resolverErrors != null && resolverErrors.length > 0) {
+			for (ResolverError error : resolverErrors) {
+				result.addResolverError(error);
+			}
+		}
+		IApiFilterStore filterStore = getApiFilterStore(projectComponent);
+		Properties preferences = getPreferences();
+		BaseApiAnalyzer analyzer = new BaseApiAnalyzer();
+		try {
+			analyzer.setContinueOnResolverError(true);
+			analyzer.analyzeComponent(null, filterStore, preferences, baseline, projectComponent,
+					new BuildContext(), new NullProgressMonitor());
+			IApiProblem[] problems = analyzer.getProblems();
+			for (IApiProblem problem : problems) {
+				result.addProblem(problem, project);
+				debug(String.valueOf(problem));
+			}
+		} finally {
+			analyzer.dispose();
+			ResourcesPlugin.getWorkspace().save(true, new NullProgressMonitor());
+		}
+	}
+
 	private String getVersion() {
 		Bundle apiToolsBundle = FrameworkUtil.getBundle(ApiModelFactory.class);
 		if (apiToolsBundle != null) {
@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.apitools;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import org.eclipse.tycho.CacheFiles;
+import org.eclipse.tycho.version.TychoVersion;
+import org.osgi.framework.Constants;
+import org.osgi.framework.Version;
+
+/**
+ * A persistent record of the last API analysis of a project. The entry is stored in the build
+ * directory of the project and named by a hash of everything the analysis depends on: the class
+ * files and sources of the project (the API description is built from the javadoc restriction
+ * tags), its manifest and API settings, the bundles of the baseline and the dependencies (for
+ * reactor dependencies only their API relevant content), the API tools bundles themselves and the
+ * version of this plugin. If none of them has changed, the
+ * recorded result can be used instead of analyzing the project again.
+ */
+final class ApiAnalysisCache {
+
+	private static final String CACHE_VERSION = "1";
+
+	private static final String CACHE_FOLDER = "tycho-apitools";
+
+	private static final String CACHE_SUFFIX = ".result";
+
+	private static final String BUILD_PROPERTIES = "build.properties";
+
+	private static final String SOURCE_PREFIX = "source.";
+
+	private static final String CLASS_SUFFIX = ".class";
+
+	private static final String JAR_SUFFIX = ".jar";
+
+	private static final String API_DESCRIPTION = ".api_description";
+
+	private static final String[] PROJECT_FILES = { "META-INF/MANIFEST.MF", BUILD_PROPERTIES, ".project",
+			".classpath" };
+
+	private final File cacheFolder;
+	private final String key;
+
+	private ApiAnalysisCache(File cacheFolder, String key) {
+		this.cacheFolder = cacheFolder;
+		this.key = key;
+	}
+
+	/**
+	 * Reads the recorded result for this entry if present
+	 *
+	 * @return the recorded result or an empty optional if there is no (valid) entry
+	 */
+	Optional<ApiAnalysisResult> read() {
+		File file = getCacheFile();
+		if (file.isFile()) {
+			try (ObjectInputStream stream = new ObjectInputStream(Files.newInputStream(file.toPath()))) {
+				return Optional.of((ApiAnalysisResult) stream.readObject());
+			} catch (IOException | ClassNotFoundException | RuntimeException e) {
+				// unreadable (e.g. written by an incompatible version), the project has to be analyzed
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Records the given result, results recorded before for other inputs of this project can never
+	 * match again and are deleted.
+	 *
+	 * @param result the result to record
+	 * @throws IOException if writing failed
+	 */
+	void write(ApiAnalysisResult result) throws IOException {
+		File file = getCacheFile();
+		CacheFiles.writeAtomically(file.toPath(), tempFile -> {
+			try (ObjectOutputStream stream = new ObjectOutputStream(Files.newOutputStream(tempFile))) {
+				stream.writeObject(result);
+			}
+		});
+		File[] staleFiles = cacheFolder.listFiles(f -> f.isFile() && !f.equals(file));
+		if (staleFiles != null) {
+			for (File stale : staleFiles) {
+				stale.delete();
+			}
+		}
+	}
+
+	private File getCacheFile() {
+		return new File(cacheFolder, key + CACHE_SUFFIX);
+	}
+
+	/**
+	 * Computes the cache entry for an analysis
+	 *
+	 * @param buildDirectory     the build directory of the project
+	 * @param basedir            the base directory of the project
+	 * @param outputDirectory    the directory with the class files of the project
+	 * @param apiFilter          the API filter file, might not exist
+	 * @param apiPreferences     the API preferences file, might not exist
+	 * @param baselineBundles    the bundles of the baseline
+	 * @param dependencyBundles  the dependencies of the project
+	 * @param applicationBundles the bundles the analysis runs with
+	 * @param localRepository    the local maven repository
+	 * @return the cache entry for this analysis or an empty optional if the inputs
+	 *         can't be read
+	 */
+	static Optional<ApiAnalysisCache> forAnalysis(File buildDirectory, File basedir, File outputDirectory,
+			File apiFilter, File apiPreferences, Collection<Path> baselineBundles, Collection<Path> dependencyBundles,
+			Collection<Path> applicationBundles, File localRepository) {
+		try {
+			MessageDigest digest = CacheFiles.newDigest();
+			CacheFiles.update(digest, CACHE_VERSION);
+			CacheFiles.update(digest, TychoVersion.getTychoVersion());
+			for (String name : PROJECT_FILES) {
+				CacheFiles.update(digest, name);
+				updateContent(digest, new File(basedir, name).toPath());
+			}
+			for (String sourceFolder : getSourceFolders(basedir)) {
+				CacheFiles.update(digest, "source:" + sourceFolder);
+				updateContent(digest, new File(basedir, sourceFolder).toPath());
+			}
+			CacheFiles.update(digest, "filter");
+			updateContent(digest, apiFilter == null ? null : apiFilter.toPath());
+			CacheFiles.update(digest, "preferences");
+			updateContent(digest, apiPreferences == null ? null : apiPreferences.toPath());
+			CacheFiles.update(digest, "output");
+			updateContent(digest, outputDirectory.toPath());
+			CacheFiles.update(digest, "baseline");
+			Path repository = localRepository.toPath().toAbsolutePath();
+			updateBundles(digest, baselineBundles, repository);
+			CacheFiles.update(digest, "dependencies");
+			updateBundles(digest, dependencyBundles, repository);
+			CacheFiles.update(digest, "application");
+			updateBundles(digest, applicationBundles, repository);
+			return Optional.of(
+					new ApiAnalysisCache(new File(buildDirectory, CACHE_FOLDER), CacheFiles.toHex(digest)));
+		} catch (IOException e) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * @return the source folders of all jars declared in the build.properties of the project
+	 */
+	private static List<String> getSourceFolders(File basedir) throws IOException {
+		File buildProperties = new File(basedir, BUILD_PROPERTIES);
+		if (!buildProperties.isFile()) {
+			return List.of();
+		}
+		Properties properties = new Properties();
+		try (InputStream stream = Files.newInputStream(buildProperties.toPath())) {
+			properties.load(stream);
+		}
+		return properties.stringPropertyNames().stream().filter(name -> name.startsWith(SOURCE_PREFIX))
+				.flatMap(name -> Stream.of(properties.getProperty(name).split(","))).map(String::trim)
+				.filter(folder -> !folder.isEmpty()).distinct().sorted().toList();
+	}
+
+	/**
+	 * Bundles in the local repository never change their content, so they are only identified by
+	 * their location, size and timestamp. Other bundles (e.g. from other reactor projects) are
+	 * packaged again by every build with a new qualifier and new entry timestamps, so only what the
+	 * analysis depends on is hashed: their class files and their manifest and API description with
+	 * the qualifier removed.
+	 */
+	private static void updateBundles(MessageDigest digest, Collection<Path> bundles, Path localRepository)
+			throws IOException {
+		for (Path bundle : bundles.stream().map(Path::toAbsolutePath).sorted().toList()) {
+			CacheFiles.update(digest, bundle.toString());
+			if (bundle.startsWith(localRepository) && Files.isRegularFile(bundle)) {
+				File file = bundle.toFile();
+				CacheFiles.update(digest, file.length() + ":" + file.lastModified());
+			} else if (Files.isRegularFile(bundle)) {
+				updateJar(digest, bundle);
+			} else {
+				updateContent(digest, bundle);
+			}
+		}
+	}
+
+	private static void updateJar(MessageDigest digest, Path jar) throws IOException {
+		try (ZipFile zip = new ZipFile(jar.toFile())) {
+			String qualifier = getQualifier(zip);
+			List<? extends ZipEntry> entries = zip.stream().filter(entry -> !entry.isDirectory())
+					.sorted(Comparator.comparing(ZipEntry::getName)).toList();
+			for (ZipEntry entry : entries) {
+				String name = entry.getName();
+				if (name.endsWith(CLASS_SUFFIX)) {
+					CacheFiles.update(digest, name);
+					try (InputStream stream = zip.getInputStream(entry)) {
+						updateBytes(digest, stream.readAllBytes());
+					}
+				} else if (name.equals(JarFile.MANIFEST_NAME) || name.equals(API_DESCRIPTION)) {
+					CacheFiles.update(digest, name);
+					try (InputStream stream = zip.getInputStream(entry)) {
+						String content = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+						CacheFiles.update(digest, qualifier.isEmpty() ? content : content.replace("." + qualifier, ""));
+					}
+				} else if (name.endsWith(JAR_SUFFIX)) {
+					// jars on the bundle classpath are packaged with new timestamps as well
+					CacheFiles.update(digest, name);
+					try (ZipInputStream nested = new ZipInputStream(zip.getInputStream(entry))) {
+						for (ZipEntry nestedEntry; (nestedEntry = nested.getNextEntry()) != null;) {
+							if (nestedEntry.getName().endsWith(CLASS_SUFFIX)) {
+								CacheFiles.update(digest, nestedEntry.getName());
+								updateBytes(digest, nested.readAllBytes());
+							}
+						}
+					}
+				}
+			}
+		} catch (ZipException e) {
+			// not a jar
+			updateContent(digest, jar);
+		}
+	}
+
+	/**
+	 * @return the qualifier of the bundle version, or an empty string if the bundle has none
+	 */
+	private static String getQualifier(ZipFile zip) throws IOException {
+		ZipEntry entry = zip.getEntry(JarFile.MANIFEST_NAME);
+		if (entry == null) {
+			return "";
+		}
+		try (InputStream stream = zip.getInputStream(entry)) {
+			String bundleVersion = new Manifest(stream).getMainAttributes().getValue(Constants.BUNDLE_VERSION);
+			return bundleVersion == null ? "" : Version.parseVersion(bundleVersion.trim()).getQualifier();
+		} catch (IllegalArgumentException e) {
+			return "";
+		}
+	}
+
+	private static void updateBytes(MessageDigest digest, byte[] bytes) {
+		digest.update(bytes);
+		digest.update((byte) 0);
+	}
+
+	private static void updateContent(MessageDigest digest, Path path) throws IOException {
+		if (path == null || !Files.exists(path)) {
+			CacheFiles.update(digest, "<missing>");
+			return;
+		}
+		if (Files.isDirectory(path)) {
+			List<Path> files;
+			try (Stream<Path> stream = Files.walk(path)) {
+				files = stream.filter(Files::isRegularFile).sorted().toList();
+			}
+			for (Path file : files) {
+				CacheFiles.update(digest, path.relativize(file).toString());
+				updateContent(digest, file);
+			}
+			return;
+		}
+		CacheFiles.update(digest, path);
+	}
+}
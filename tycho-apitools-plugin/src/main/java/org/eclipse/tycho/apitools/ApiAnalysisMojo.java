@@ -74,6 +74,13 @@ public class ApiAnalysisMojo extends AbstractMojo {
 
 	static final String BUNDLE_CORE = "org.eclipse.core.runtime";
 
+	/**
+	 * the size of the idle baselines kept for reuse, split between the threads of the build if each
+	 * thread analyzes its modules in its own framework
+	 */
+	private static final long BASELINE_CACHE_SIZE = Long.getLong("tycho.apitools.baseline.cache.size",
+			Runtime.getRuntime().maxMemory() / 4);
+
 	@Parameter(property = "plugin.artifacts")
 	protected List<Artifact> pluginArtifacts;
 
@@ -138,6 +145,23 @@ public class ApiAnalysisMojo extends AbstractMojo {
 	@Parameter(defaultValue = "false")
 	private boolean parallel;
 
+	/**
+	 * If enabled, all threads of a parallel build analyze their modules in one framework, so only
+	 * one framework is started and the idle baselines of all modules are kept in one cache. The
+	 * analysis itself then runs for one module at a time as API tools keep one workspace and target
+	 * platform per framework, the steps before and after it still run concurrently.
+	 */
+	@Parameter(defaultValue = "false", property = "tycho.apitools.sharedFramework")
+	private boolean sharedFramework;
+
+	/**
+	 * If enabled, the result of the analysis is recorded in the build directory and reused as long
+	 * as the class files, the manifest, the API filters and preferences, the baseline and the
+	 * dependencies of the project are unchanged.
+	 */
+	@Parameter(defaultValue = "true", property = "tycho.apitools.incremental")
+	private boolean incremental;
+
 	@Parameter(defaultValue = "false", property = "tycho.apitools.enhanceLogs")
 	private boolean enhanceLogs;
 
@@ -187,28 +211,51 @@ public class ApiAnalysisMojo extends AbstractMojo {
 				throw new MojoFailureException("Can't fetch dependencies!", e);
 			}
 			MavenRepositoryLocation repository = getRepository();
-			EclipseWorkspace<?> workspace = workspaceManager.getWorkspace(repository.getURL(), this);
 			EclipseApplication apiApplication = applicationResolver.getApiApplication(repository);
-			EclipseFramework eclipseFramework;
-			try {
-				eclipseFramework = apiApplication.startFramework(workspace, List.of());
-			} catch (BundleException e) {
-				throw new MojoFailureException("Start Framework failed!", e);
-			}
-			ApiAnalysisResult analysisResult;
-			if (parallel) {
-				analysisResult = performAnalysis(baselineBundles, dependencyBundles, eclipseFramework, eclipseProject);
+			Optional<ApiAnalysisCache> cache = incremental
+					? ApiAnalysisCache.forAnalysis(new File(project.getBuild().getDirectory()), project.getBasedir(),
+							new File(project.getBuild().getOutputDirectory()), apiFilter, apiPreferences,
+							baselineBundles, dependencyBundles, apiApplication.getApplicationBundles(),
+							new File(session.getLocalRepository().getBasedir()))
+					: Optional.empty();
+			ApiAnalysisResult analysisResult = cache.flatMap(ApiAnalysisCache::read).orElse(null);
+			if (analysisResult != null) {
+				log.info("Project and baseline are unchanged since the last API Analysis, reusing its result.");
 			} else {
-				synchronized (ApiAnalysisMojo.class) {
-					// due to
-					// https://gitlab.eclipse.org/eclipsefdn/helpdesk/-/issues/3885#note_1266412 we
-					// can not execute more than one analysis without excessive memory consumption
-					// unless this is fixed it is safer to only run one analysis at a time
-					analysisResult = performAnalysis(baselineBundles, dependencyBundles, eclipseFramework,
-							eclipseProject);
+				if (sharedFramework) {
+					// all threads use the same framework, so its baseline cache is shared
+					EclipseWorkspace<?> workspace = workspaceManager.getSharedWorkspace(repository.getURL(), this);
+					synchronized (workspace) {
+						analysisResult = performAnalysis(baselineBundles, dependencyBundles,
+								startFramework(apiApplication, workspace), eclipseProject, BASELINE_CACHE_SIZE);
+					}
+				} else {
+					EclipseWorkspace<?> workspace = workspaceManager.getWorkspace(repository.getURL(), this);
+					long baselineCacheSize = BASELINE_CACHE_SIZE
+							/ Math.max(1, session.getRequest().getDegreeOfConcurrency());
+					if (parallel) {
+						analysisResult = performAnalysis(baselineBundles, dependencyBundles,
+								startFramework(apiApplication, workspace), eclipseProject, baselineCacheSize);
+					} else {
+						synchronized (ApiAnalysisMojo.class) {
+							// due to
+							// https://gitlab.eclipse.org/eclipsefdn/helpdesk/-/issues/3885#note_1266412 we
+							// can not execute more than one analysis without excessive memory consumption
+							// unless this is fixed it is safer to only run one analysis at a time
+							analysisResult = performAnalysis(baselineBundles, dependencyBundles,
+									startFramework(apiApplication, workspace), eclipseProject, baselineCacheSize);
+						}
+					}
+				}
+				log.info("API Analysis finished in " + time(start) + ".");
+				if (cache.isPresent()) {
+					try {
+						cache.get().write(analysisResult);
+					} catch (IOException e) {
+						log.debug("Can't record API Analysis result: " + e);
+					}
 				}
 			}
-			log.info("API Analysis finished in " + time(start) + ".");
 			analysisResult.resolveErrors()
 					.forEach(resolveError -> log.warn(resolveError + " analysis might be inaccurate!"));
 			Map<Integer, List<IApiProblem>> problems = analysisResult.problems()
@@ -352,13 +399,23 @@ public class ApiAnalysisMojo extends AbstractMojo {
 
 	}
 
+	private static EclipseFramework startFramework(EclipseApplication apiApplication, EclipseWorkspace<?> workspace)
+			throws MojoFailureException {
+		try {
+			return apiApplication.startFramework(workspace, List.of());
+		} catch (BundleException e) {
+			throw new MojoFailureException("Start Framework failed!", e);
+		}
+	}
+
 	private ApiAnalysisResult performAnalysis(Collection<Path> baselineBundles, Collection<Path> dependencyBundles,
-			EclipseFramework eclipseFramework, EclipseProject eclipseProject) throws MojoExecutionException {
+			EclipseFramework eclipseFramework, EclipseProject eclipseProject, long baselineCacheSize)
+			throws MojoExecutionException {
 		try {
 			ApiAnalysis analysis = new ApiAnalysis(baselineBundles, dependencyBundles, project.getName(),
 					eclipseProject.getFile(fileToPath(apiFilter)), eclipseProject.getFile(fileToPath(apiPreferences)),
 					fileToPath(project.getBasedir()), debug, fileToPath(project.getArtifact().getFile()),
-					stringToPath(project.getBuild().getOutputDirectory()), runAsJob);
+					stringToPath(project.getBuild().getOutputDirectory()), runAsJob, baselineCacheSize);
 			return eclipseFramework.execute(analysis);
 		} catch (Exception e) {
 			throw new MojoExecutionException("Execute ApiApplication failed", e);
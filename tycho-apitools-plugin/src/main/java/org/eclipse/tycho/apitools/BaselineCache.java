@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.apitools;
+
+import java.io.File;
+import java.lang.ref.SoftReference;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+
+/**
+ * Keeps the {@link IApiBaseline}s built from the baseline bundles of a module for later analyses of
+ * the same module in the same framework, e.g. when the framework is reused by the next build of a
+ * long running Maven process. Entries are keyed by the module as the baseline carries its name.
+ * <p>
+ * Baselines are reference counted, a baseline that is no longer used is kept until the total size
+ * of the bundles of all idle baselines exceeds the size given on release, then the least recently
+ * used ones are disposed. Idle baselines are only softly referenced, so they are reclaimed before
+ * the JVM runs out of memory.
+ * </p>
+ * This class is executed inside the embedded framework, its state is kept for as long as the
+ * framework is reused.
+ */
+final class BaselineCache {
+
+	/** entries in access order, so eviction starts with the least recently used */
+	private static final Map<String, CachedBaseline> BASELINES = new LinkedHashMap<>(16, 0.75f, true);
+
+	private static long size;
+
+	interface BaselineFactory {
+		IApiBaseline create() throws CoreException;
+	}
+
+	private static final class CachedBaseline {
+		private final long size;
+		private IApiBaseline baseline;
+		private SoftReference<IApiBaseline> idleBaseline;
+		private int references;
+
+		CachedBaseline(IApiBaseline baseline, long size) {
+			this.baseline = baseline;
+			this.size = size;
+		}
+
+		IApiBaseline get() {
+			return baseline != null ? baseline : idleBaseline.get();
+		}
+	}
+
+	private BaselineCache() {
+	}
+
+	/**
+	 * Returns the baseline of the given module for the given bundles, the caller must
+	 * {@link #release(IApiBaseline, long)} it after use.
+	 */
+	static synchronized IApiBaseline acquire(String module, Collection<String> bundles, BaselineFactory factory)
+			throws CoreException {
+		String key = module + "\n" + bundles.stream().map(bundle -> {
+			File file = new File(bundle);
+			return bundle + ":" + file.length() + ":" + file.lastModified();
+		}).sorted().collect(Collectors.joining("\n"));
+		CachedBaseline cached = BASELINES.get(key);
+		IApiBaseline baseline = cached != null ? cached.get() : null;
+		if (baseline == null) {
+			if (cached != null) {
+				// reclaimed by the garbage collector
+				BASELINES.remove(key);
+				size -= cached.size;
+			}
+			baseline = factory.create();
+			cached = new CachedBaseline(baseline,
+					bundles.stream().mapToLong(bundle -> new File(bundle).length()).sum());
+			BASELINES.put(key, cached);
+			size += cached.size;
+		}
+		cached.baseline = baseline;
+		cached.idleBaseline = null;
+		cached.references++;
+		return baseline;
+	}
+
+	/**
+	 * Releases a baseline obtained from {@link #acquire(String, Collection, BaselineFactory)}
+	 *
+	 * @param baseline the baseline to release
+	 * @param maxSize  the total size of the bundles of idle baselines this cache may keep
+	 */
+	static synchronized void release(IApiBaseline baseline, long maxSize) {
+		for (CachedBaseline cached : BASELINES.values()) {
+			if (cached.baseline == baseline && --cached.references == 0) {
+				cached.idleBaseline = new SoftReference<>(baseline);
+				cached.baseline = null;
+				break;
+			}
+		}
+		Iterator<CachedBaseline> iterator = BASELINES.values().iterator();
+		while (size > maxSize && iterator.hasNext()) {
+			CachedBaseline cached = iterator.next();
+			if (cached.references == 0) {
+				iterator.remove();
+				size -= cached.size;
+				IApiBaseline idle = cached.idleBaseline.get();
+				if (idle != null) {
+					idle.dispose();
+				}
+			}
+		}
+	}
+
+}
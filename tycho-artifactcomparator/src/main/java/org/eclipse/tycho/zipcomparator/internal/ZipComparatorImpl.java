@@ -17,15 +17,19 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
@@ -33,6 +37,7 @@ import java.util.zip.ZipFile;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOUtils;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
 import org.codehaus.plexus.logging.Logger;
@@ -48,6 +53,20 @@ public class ZipComparatorImpl implements ArtifactComparator {
 
     private static final List<String> IGNORED_PATTERNS = List.of("META-INF/maven/**");
 
+    /**
+     * System property that controls if entries with the same size and CRC-32 in the central
+     * directory are considered equal without reading them (default true)
+     */
+    private static final boolean TRUST_CHECKSUMS = Boolean
+            .parseBoolean(System.getProperty("tycho.comparator.crc", "true"));
+
+    /**
+     * System property that controls the number of threads used to compare entries (default number
+     * of processors)
+     */
+    private static final ForkJoinPool POOL = new ForkJoinPool(Math.max(1,
+            Integer.getInteger("tycho.comparator.threads", Runtime.getRuntime().availableProcessors())));
+
     @Requirement
     private Logger log;
 
@@ -56,7 +75,8 @@ public class ZipComparatorImpl implements ArtifactComparator {
 
     @Override
     public ArtifactDelta getDelta(File baseline, File reactor, ComparisonData data) throws IOException {
-        Map<String, ArtifactDelta> result = new LinkedHashMap<>();
+        // sorted like the names, no matter in which order the comparisons finish
+        Map<String, ArtifactDelta> result = new TreeMap<>();
         Collection<String> ignoredPatterns = new HashSet<>(IGNORED_PATTERNS);
         ignoredPatterns.addAll(data.ignoredPattern());
         MatchPatterns ignored = MatchPatterns.from(ignoredPatterns);
@@ -69,10 +89,26 @@ public class ZipComparatorImpl implements ArtifactComparator {
             names.addAll(baselineEntries.keySet());
             names.addAll(reachtorEntries.keySet());
 
+            List<String> changedNames = new ArrayList<>();
+            List<ForkJoinTask<ArtifactDelta>> comparisons = new ArrayList<>();
             for (String name : names) {
-                ArtifactDelta delta = getDelta(name, baselineEntries, reachtorEntries, baselineJar, reactorJar, data);
+                ZipEntry baselineEntry = baselineEntries.get(name);
+                ZipEntry reactorEntry = reachtorEntries.get(name);
+                if (baselineEntry == null) {
+                    result.put(name, ArtifactDelta.MISSING_FROM_BASELINE);
+                } else if (reactorEntry == null) {
+                    result.put(name, ArtifactDelta.BASELINE_ONLY);
+                } else if (!isSameChecksum(baselineEntry, reactorEntry)) {
+                    changedNames.add(name);
+                    comparisons.add(ForkJoinTask.adapt(
+                            () -> getDelta(name, baselineEntry, reactorEntry, baselineJar, reactorJar, data)));
+                }
+            }
+            invokeAll(comparisons);
+            for (int i = 0; i < changedNames.size(); i++) {
+                ArtifactDelta delta = comparisons.get(i).join();
                 if (delta != null) {
-                    result.put(name, delta);
+                    result.put(changedNames.get(i), delta);
                 }
             }
         } catch (IOException e) {
@@ -114,17 +150,45 @@ public class ZipComparatorImpl implements ArtifactComparator {
 
     }
 
-    private ArtifactDelta getDelta(String name, Map<String, ZipEntry> baselineMap, Map<String, ZipEntry> reactorMap,
-            ZipFile baselineJar, ZipFile reactorJar, ComparisonData data) throws IOException {
-        ZipEntry baselineEntry = baselineMap.get(name);
-        if (baselineEntry == null) {
-            return ArtifactDelta.MISSING_FROM_BASELINE;
+    private static boolean isSameChecksum(ZipEntry baselineEntry, ZipEntry reactorEntry) {
+        return TRUST_CHECKSUMS && baselineEntry.getCrc() != -1 && baselineEntry.getSize() != -1
+                && baselineEntry.getCrc() == reactorEntry.getCrc() && baselineEntry.getSize() == reactorEntry.getSize();
+    }
+
+    private static boolean isBelowThreshold(ZipEntry entry) {
+        return entry.getSize() != -1 && entry.getSize() < ContentsComparator.THRESHOLD;
+    }
+
+    /**
+     * Runs the comparisons in the shared pool, nested archives compared from within the pool
+     * simply fork their comparisons into the same pool.
+     */
+    private static void invokeAll(List<ForkJoinTask<ArtifactDelta>> comparisons) throws IOException {
+        if (comparisons.isEmpty()) {
+            return;
         }
-        ZipEntry reactorEntry = reactorMap.get(name);
-        if (reactorEntry == null) {
-            return ArtifactDelta.BASELINE_ONLY;
+        try {
+            if (ForkJoinTask.inForkJoinPool()) {
+                ForkJoinTask.invokeAll(comparisons);
+            } else {
+                POOL.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(comparisons)));
+            }
+        } catch (RuntimeException e) {
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof IOException io) {
+                    throw io;
+                }
+            }
+            throw e;
         }
+    }
 
+    private ArtifactDelta getDelta(String name, ZipEntry baselineEntry, ZipEntry reactorEntry, ZipFile baselineJar,
+            ZipFile reactorJar, ComparisonData data) throws IOException {
+        ContentsComparator comparator = getContentsComparator(name);
+        if (!isBelowThreshold(baselineEntry) || !isBelowThreshold(reactorEntry)) {
+            return getLargeEntryDelta(name, comparator, baselineEntry, reactorEntry, baselineJar, reactorJar, data);
+        }
         try (InputStream baseline = baselineJar.getInputStream(baselineEntry);
                 InputStream reactor = reactorJar.getInputStream(reactorEntry);) {
             byte[] baselineBytes = baseline.readAllBytes();
@@ -132,9 +196,7 @@ public class ZipComparatorImpl implements ArtifactComparator {
             if (Arrays.equals(baselineBytes, reactorBytes)) {
                 return ArtifactDelta.NO_DIFFERENCE;
             }
-            ContentsComparator comparator = getContentsComparator(name);
-            if (comparator != null && baselineBytes.length < ContentsComparator.THRESHOLD
-                    && reactorBytes.length < ContentsComparator.THRESHOLD) {
+            if (comparator != null) {
                 try {
                     return comparator.getDelta(new ComparatorInputStream(baselineBytes),
                             new ComparatorInputStream(reactorBytes), data);
@@ -148,6 +210,37 @@ public class ZipComparatorImpl implements ArtifactComparator {
         }
     }
 
+    /**
+     * Compares entries above the threshold without loading them into memory, nested archives are
+     * extracted to temporary files and compared entry by entry.
+     */
+    private ArtifactDelta getLargeEntryDelta(String name, ContentsComparator comparator, ZipEntry baselineEntry,
+            ZipEntry reactorEntry, ZipFile baselineJar, ZipFile reactorJar, ComparisonData data) throws IOException {
+        if (comparator instanceof NestedZipComparator) {
+            Path baselineZip = Files.createTempFile("baseline", ".zip");
+            Path reactorZip = Files.createTempFile("reactor", ".zip");
+            try {
+                try (InputStream baseline = baselineJar.getInputStream(baselineEntry);
+                        InputStream reactor = reactorJar.getInputStream(reactorEntry)) {
+                    Files.copy(baseline, baselineZip, StandardCopyOption.REPLACE_EXISTING);
+                    Files.copy(reactor, reactorZip, StandardCopyOption.REPLACE_EXISTING);
+                }
+                return getDelta(baselineZip.toFile(), reactorZip.toFile(), data);
+            } finally {
+                Files.deleteIfExists(baselineZip);
+                Files.deleteIfExists(reactorZip);
+            }
+        }
+        if (baselineEntry.getSize() != reactorEntry.getSize() && baselineEntry.getSize() != -1
+                && reactorEntry.getSize() != -1) {
+            return ArtifactDelta.DEFAULT;
+        }
+        try (InputStream baseline = baselineJar.getInputStream(baselineEntry);
+                InputStream reactor = reactorJar.getInputStream(reactorEntry)) {
+            return IOUtils.contentEquals(baseline, reactor) ? ArtifactDelta.NO_DIFFERENCE : ArtifactDelta.DEFAULT;
+        }
+    }
+
     private ContentsComparator getContentsComparator(String name) {
         String extension = FilenameUtils.getExtension(name).toLowerCase();
         ContentsComparator comparator = comparators.get(extension);
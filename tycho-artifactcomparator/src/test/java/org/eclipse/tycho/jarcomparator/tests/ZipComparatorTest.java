@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.jarcomparator.tests;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.codehaus.plexus.PlexusTestCase;
+import org.eclipse.tycho.artifactcomparator.ArtifactComparator;
+import org.eclipse.tycho.artifactcomparator.ArtifactComparator.ComparisonData;
+import org.eclipse.tycho.artifactcomparator.ArtifactDelta;
+import org.eclipse.tycho.zipcomparator.internal.CompoundArtifactDelta;
+import org.eclipse.tycho.zipcomparator.internal.ContentsComparator;
+import org.eclipse.tycho.zipcomparator.internal.ZipComparatorImpl;
+
+public class ZipComparatorTest extends PlexusTestCase {
+
+    private static final ComparisonData DATA = new ComparisonData(List.of(), false);
+
+    private File tempDir;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        tempDir = Files.createTempDirectory("zipcomparator").toFile();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        org.codehaus.plexus.util.FileUtils.deleteDirectory(tempDir);
+        super.tearDown();
+    }
+
+    public void testEqualEntries() throws Exception {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("a.txt", "a".getBytes(StandardCharsets.UTF_8));
+        entries.put("b/c.txt", "c".getBytes(StandardCharsets.UTF_8));
+        File baseline = writeZip("baseline.zip", entries);
+        Thread.sleep(2000); // entries get a different timestamp
+        File reactor = writeZip("reactor.zip", entries);
+        assertEquals(ArtifactDelta.NO_DIFFERENCE, getComparator().getDelta(baseline, reactor, DATA));
+    }
+
+    public void testChangedEntriesAreReportedInOrder() throws Exception {
+        Map<String, byte[]> baselineEntries = new LinkedHashMap<>();
+        Map<String, byte[]> reactorEntries = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            baselineEntries.put("file" + i + ".bin", new byte[] { (byte) i });
+            reactorEntries.put("file" + i + ".bin", new byte[] { (byte) (i % 2 == 0 ? i : i + 1) });
+        }
+        ArtifactDelta delta = getComparator().getDelta(writeZip("baseline.zip", baselineEntries),
+                writeZip("reactor.zip", reactorEntries), DATA);
+        List<String> changed = List.copyOf(((CompoundArtifactDelta) delta).getMembers().keySet());
+        assertEquals(10, changed.size());
+        assertEquals(changed.stream().sorted().toList(), changed);
+    }
+
+    public void testLargeNestedArchivesAreComparedByEntry() throws Exception {
+        byte[] large = new byte[ContentsComparator.THRESHOLD + 1];
+        byte[] baselineNested = toZip(Map.of("large.bin", large, "changed.txt", "1".getBytes(StandardCharsets.UTF_8)));
+        byte[] reactorNested = toZip(Map.of("large.bin", large, "changed.txt", "2".getBytes(StandardCharsets.UTF_8)));
+        ArtifactDelta delta = getComparator().getDelta(writeZip("baseline.zip", Map.of("nested.jar", baselineNested)),
+                writeZip("reactor.zip", Map.of("nested.jar", reactorNested)), DATA);
+        ArtifactDelta nested = ((CompoundArtifactDelta) delta).getMembers().get("nested.jar");
+        assertEquals(List.of("changed.txt"), List.copyOf(((CompoundArtifactDelta) nested).getMembers().keySet()));
+    }
+
+    private ArtifactComparator getComparator() throws Exception {
+        return lookup(ArtifactComparator.class, ZipComparatorImpl.TYPE);
+    }
+
+    private File writeZip(String name, Map<String, byte[]> entries) throws IOException {
+        File file = new File(tempDir, name);
+        try (FileOutputStream stream = new FileOutputStream(file)) {
+            stream.write(toZip(entries));
+        }
+        return file;
+    }
+
+    private static byte[] toZip(Map<String, byte[]> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -19,19 +19,17 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -156,7 +154,7 @@ public class TychoGraphBuilder implements GraphBuilder {
 		Map<String, MavenProject> projectIdMap = projects.stream()
 				.collect(Collectors.toMap(p -> getProjectKey(p), Function.identity()));
 		int degreeOfConcurrency = request.getDegreeOfConcurrency();
-		Optional<ExecutorService> executor;
+		Optional<ForkJoinPool> executor;
 		if (degreeOfConcurrency > 1) {
 			executor = Optional.of(new ForkJoinPool(degreeOfConcurrency));
 		} else {
@@ -192,62 +190,82 @@ public class TychoGraphBuilder implements GraphBuilder {
 					}
 				}
 			}
-			Queue<ProjectRequest> queue = new ConcurrentLinkedQueue<>(graph.getSortedProjects().stream()
-					.map(p -> new ProjectRequest(p, makeDownstream, makeUpstream, null)).toList());
+			List<ProjectRequest> requests = graph.getSortedProjects().stream()
+					.map(p -> new ProjectRequest(p, makeDownstream, makeUpstream, null)).toList();
 			if (DEBUG) {
 				log.info("Computing additional " + makeBehavior
-					+ " dependencies based on initial project set of " + queue.stream().map(r -> r.mavenProject)
+					+ " dependencies based on initial project set of " + requests.stream().map(r -> r.mavenProject)
 							.map(MavenProject::getName).collect(Collectors.joining(", ")));
 			}
-			while (!queue.isEmpty()) {
-				ProjectRequest projectRequest = queue.poll();
-				if (selectedProjects.add(projectRequest.mavenProject)) {
-					if (projectRequest.addDependencies) {
-						// we fetch all dependencies here without filtering for the context, because the
-						// goal is to find as many projects that are might be required
-						dependencyClosure.getDependencyProjects(projectRequest.mavenProject, List.of())
-								.forEach(project -> {
-							if (DEBUG) {
-								log.info(" + add dependency project '" + project.getId() + "' of project '"
+			// a project might be reached through different paths, we remember separately
+			// if its dependencies and its dependants were already added so each
+			// direction is only expanded once no matter in what order requests are
+			// processed
+			Set<MavenProject> dependenciesAdded = ConcurrentHashMap.newKeySet();
+			Set<MavenProject> requiresAdded = ConcurrentHashMap.newKeySet();
+			Function<ProjectRequest, Stream<ProjectRequest>> expand = projectRequest -> {
+				selectedProjects.add(projectRequest.mavenProject);
+				List<ProjectRequest> next = new ArrayList<>();
+				if (projectRequest.addDependencies && dependenciesAdded.add(projectRequest.mavenProject)) {
+					// we fetch all dependencies here without filtering for the context, because the
+					// goal is to find as many projects that are might be required
+					for (MavenProject project : dependencyClosure.getDependencyProjects(projectRequest.mavenProject,
+							List.of())) {
+						if (DEBUG) {
+							log.info(" + add dependency project '" + project.getId() + "' of project '"
 									+ projectRequest.mavenProject.getId() + "'");
+						}
+						// we also need to add the dependencies of the dependency project
+						next.add(new ProjectRequest(project, false, true, projectRequest));
+					}
+					// special case: a (transitive) Tycho project might have declared a dependency
+					// to another project in the reactor but this can not be discovered by maven
+					// before we add it here...
+					List<Dependency> dependencies = projectRequest.mavenProject.getDependencies();
+					for (Dependency dependency : dependencies) {
+						MavenProject reactorMavenProjectDependency = projectIdMap.get(getProjectKey(dependency));
+						if (reactorMavenProjectDependency != null) {
+							if (DEBUG) {
+								log.info(" + add (maven) dependency project '" + reactorMavenProjectDependency.getId()
+										+ "' of project '" + projectRequest.mavenProject.getId() + "'");
 							}
-							// we also need to add the dependencies of the dependency project
-							queue.add(new ProjectRequest(project, false, true, projectRequest));
-						});
-						// special case: a (transitive) Tycho project might have declared a dependency
-						// to another project in the reactor but this can not be discovered by maven
-						// before we add it here...
-						List<Dependency> dependencies = projectRequest.mavenProject.getDependencies();
-						for (Dependency dependency : dependencies) {
-							MavenProject reactorMavenProjectDependency = projectIdMap.get(getProjectKey(dependency));
-							if (reactorMavenProjectDependency != null) {
-								if (DEBUG) {
-									log.info(" + add (maven) dependency project '"
-											+ reactorMavenProjectDependency.getId() + "' of project '"
-											+ projectRequest.mavenProject.getId() + "'");
-								}
-								queue.add(
-										new ProjectRequest(reactorMavenProjectDependency, false, true, projectRequest));
-							}
+							next.add(new ProjectRequest(reactorMavenProjectDependency, false, true, projectRequest));
 						}
 					}
-					if (projectRequest.addRequires) {
-						dependencyClosure.dependencies(always -> List.of())//
-								.filter(entry -> entry.getValue().stream()//
-										.flatMap(dependency -> dependencyClosure.getProject(dependency).stream())//
-										.anyMatch(projectRequest::matches))//
-								.map(Entry::getKey)//
-								.distinct()//
-								.peek(project -> {
-									if (DEBUG) {
-										log.info(" + add project '" + project.getId() + "' that depends on '"
-												+ projectRequest.mavenProject.getId() + "'...");
-									}
-								})//
-								// request dependencies of dependants, otherwise, -amd would not be able to
-								// produce a satisfiable build graph
-								.forEach(project -> queue.add(new ProjectRequest(project, true, true, projectRequest)));
+				}
+				if (projectRequest.addRequires && requiresAdded.add(projectRequest.mavenProject)) {
+					for (MavenProject project : dependencyClosure.getDependantProjects(projectRequest.mavenProject)) {
+						if (DEBUG) {
+							log.info(" + add project '" + project.getId() + "' that depends on '"
+									+ projectRequest.mavenProject.getId() + "'...");
+						}
+						// request dependencies of dependants, otherwise, -amd would not be able to
+						// produce a satisfiable build graph
+						next.add(new ProjectRequest(project, true, true, projectRequest));
+					}
+				}
+				return next.stream();
+			};
+			// the closure is expanded level by level, where all requests of one level are
+			// independent of each other and therefore can be processed in parallel
+			while (!requests.isEmpty()) {
+				List<ProjectRequest> current = requests;
+				if (executor.isPresent() && current.size() > 1) {
+					try {
+						requests = executor.get().submit(() -> current.parallelStream().flatMap(expand).toList())
+								.get();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						return Result.error(graph);
+					} catch (ExecutionException e) {
+						if (e.getCause() instanceof RuntimeException runtime) {
+							throw runtime;
+						}
+						log.error("Cannot compute project's dependency graph", e.getCause());
+						return Result.error(graph);
 					}
+				} else {
+					requests = current.stream().flatMap(expand).toList();
 				}
 			}
 			// add target projects always, they don't really add to the build times but are
@@ -96,6 +96,29 @@ public class MavenBundleWrapper {
             Function<DependencyNode, Properties> instructionsLookup, List<RemoteRepository> repositories,
             RepositorySystem repoSystem, RepositorySystemSession repositorySession,
             SyncContextFactory syncContextFactory) throws Exception {
+        DependencyNode node = resolveDependencies(artifact, repositories, repoSystem, repositorySession);
+        return getWrappedArtifact(node, instructionsLookup, repositorySession, syncContextFactory);
+    }
+
+    /**
+     * Collects and resolves the dependencies of an artifact, this is the first step of wrapping an
+     * artifact and allows to inspect the dependencies before the artifact is wrapped.
+     * 
+     * @param artifact
+     *            the artifact to wrap
+     * @param repositories
+     *            the repositories that should be used to resolve dependencies
+     * @param repoSystem
+     *            the repository system for lookup dependent items
+     * @param repositorySession
+     *            the session to use
+     * @return the root node of the dependency graph of the artifact, dependencies that could not be
+     *         resolved have no file
+     * @throws Exception
+     *             if the dependencies can't be collected
+     */
+    public static DependencyNode resolveDependencies(Artifact artifact, List<RemoteRepository> repositories,
+            RepositorySystem repoSystem, RepositorySystemSession repositorySession) throws Exception {
         CollectRequest collectRequest = new CollectRequest();
         collectRequest.setRoot(new Dependency(artifact, null));
         collectRequest.setRepositories(repositories);
@@ -116,7 +139,29 @@ public class MavenBundleWrapper {
             return true;
         });
         repoSystem.resolveDependencies(repositorySession, dependencyRequest);
+        return node;
+    }
 
+    /**
+     * Wraps the artifact of a dependency graph obtained from
+     * {@link #resolveDependencies(Artifact, List, RepositorySystem, RepositorySystemSession)}.
+     * 
+     * @param node
+     *            the root node of the resolved dependency graph
+     * @param instructionsLookup
+     *            a lookup for bnd instructions
+     * @param repositorySession
+     *            the session to use
+     * @param syncContextFactory
+     *            the sync context factory to acquire exclusive access to the wrapped artifact and
+     *            its dependencies
+     * @return the wrapped artifact
+     * @throws Exception
+     *             if wrapping the artifact fails for any reason
+     */
+    public static WrappedBundle getWrappedArtifact(DependencyNode node,
+            Function<DependencyNode, Properties> instructionsLookup, RepositorySystemSession repositorySession,
+            SyncContextFactory syncContextFactory) throws Exception {
         try (SyncContext syncContext = syncContextFactory.newInstance(repositorySession, false)) {
             Set<Artifact> lockList = new HashSet<>();
             node.accept(new DependencyVisitor() {
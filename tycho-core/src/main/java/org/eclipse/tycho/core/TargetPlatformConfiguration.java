@@ -124,6 +124,8 @@ public class TargetPlatformConfiguration implements DependencyResolverConfigurat
 
     private boolean requireEagerResolve;
 
+    private boolean parallelEnvironments;
+
     private InjectP2MavenMetadataHandling p2MavenMetadataHandling;
 
     private ReferencedRepositoryMode referencedRepositoryMode = ReferencedRepositoryMode.include;
@@ -256,6 +258,18 @@ public class TargetPlatformConfiguration implements DependencyResolverConfigurat
         this.requireEagerResolve = value;
     }
 
+    /**
+     * @return <code>true</code> if the dependencies for the configured environments should be
+     *         resolved concurrently
+     */
+    public boolean isParallelEnvironments() {
+        return parallelEnvironments;
+    }
+
+    public void setParallelEnvironments(boolean parallelEnvironments) {
+        this.parallelEnvironments = parallelEnvironments;
+    }
+
     public void setFilters(List<TargetPlatformFilter> filters) {
         this.filters = filters;
     }
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.eclipse.equinox.p2.repository.artifact.IArtifactDescriptor;
+import org.eclipse.tycho.BuildDirectory;
+import org.eclipse.tycho.CacheFiles;
+
+/**
+ * Records the artifacts of a repository whose content has been verified successfully, together
+ * with the size and timestamp of the artifact file and the checksums of the descriptor. Artifacts
+ * that have not changed since then do not need to be verified again, which saves a lot of time for
+ * repositories that are assembled incrementally.
+ */
+final class VerifiedArtifactsLedger {
+
+    private static final boolean ENABLED = Boolean
+            .parseBoolean(System.getProperty("tycho.p2.verify.ledger", "true"));
+
+    private final File file;
+    private final Properties previous = new Properties();
+    private final Properties current = new Properties();
+
+    private VerifiedArtifactsLedger(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads the ledger of the given repository from the build directory, a missing or broken ledger
+     * is treated as empty.
+     */
+    static VerifiedArtifactsLedger load(BuildDirectory buildDirectory, URI repository) {
+        String name = UUID.nameUUIDFromBytes(repository.toString().getBytes(StandardCharsets.UTF_8)).toString();
+        VerifiedArtifactsLedger ledger = new VerifiedArtifactsLedger(
+                buildDirectory.getChild("verified-artifacts/" + name + ".properties"));
+        if (ENABLED && ledger.file.isFile()) {
+            try (InputStream stream = Files.newInputStream(ledger.file.toPath())) {
+                ledger.previous.load(stream);
+            } catch (IOException | IllegalArgumentException e) {
+                ledger.previous.clear();
+            }
+        }
+        return ledger;
+    }
+
+    /**
+     * @param artifactFile
+     *            the file of the artifact in the repository, or <code>null</code> if not known
+     * @return <code>true</code> if the artifact has been verified before and has not changed since
+     *         then
+     */
+    boolean isVerified(IArtifactDescriptor descriptor, File artifactFile) {
+        String state = getState(descriptor, artifactFile);
+        return state != null && state.equals(previous.getProperty(getKey(descriptor)));
+    }
+
+    /**
+     * Records the current state of an artifact that has just been verified, or whose previous
+     * verification is still valid.
+     */
+    void markVerified(IArtifactDescriptor descriptor, File artifactFile) {
+        String state = getState(descriptor, artifactFile);
+        if (state != null) {
+            current.setProperty(getKey(descriptor), state);
+        }
+    }
+
+    /**
+     * Replaces the stored ledger with the artifacts marked as verified in this run.
+     */
+    void save() throws IOException {
+        if (!ENABLED) {
+            return;
+        }
+        CacheFiles.writeAtomically(file.toPath(), tempFile -> {
+            try (OutputStream stream = Files.newOutputStream(tempFile)) {
+                current.store(stream, null);
+            }
+        });
+    }
+
+    private static String getKey(IArtifactDescriptor descriptor) {
+        String format = descriptor.getProperty(IArtifactDescriptor.FORMAT);
+        return descriptor.getArtifactKey().toExternalForm() + (format == null ? "" : "@" + format);
+    }
+
+    private static String getState(IArtifactDescriptor descriptor, File artifactFile) {
+        if (artifactFile == null || !artifactFile.isFile()) {
+            return null;
+        }
+        // the descriptor properties contain the checksums the content is verified against
+        return artifactFile.getAbsolutePath() + ":" + artifactFile.length() + ":" + artifactFile.lastModified() + ":"
+                + CacheFiles.hash(new TreeMap<>(descriptor.getProperties()).toString());
+    }
+}
@@ -13,10 +13,18 @@
  *******************************************************************************/
 package org.eclipse.tycho.core;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 
 import org.codehaus.plexus.component.annotations.Component;
@@ -35,6 +43,7 @@ import org.eclipse.equinox.p2.query.QueryUtil;
 import org.eclipse.equinox.p2.repository.artifact.IArtifactDescriptor;
 import org.eclipse.equinox.p2.repository.artifact.IArtifactRepository;
 import org.eclipse.equinox.p2.repository.artifact.IArtifactRepositoryManager;
+import org.eclipse.equinox.p2.repository.artifact.IFileArtifactRepository;
 import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
 import org.eclipse.equinox.p2.repository.metadata.IMetadataRepositoryManager;
 import org.eclipse.tycho.BuildDirectory;
@@ -43,6 +52,9 @@ import org.eclipse.tycho.p2.tools.FacadeException;
 @Component(role = VerifierService.class)
 public class VerifierServiceImpl implements VerifierService {
 
+    private static final int THREADS = Math.max(1,
+            Integer.getInteger("tycho.p2.verify.threads", Runtime.getRuntime().availableProcessors()));
+
     private final NullProgressMonitor monitor = new NullProgressMonitor();
     @Requirement
     IProvisioningAgent agent;
@@ -65,7 +77,8 @@ public class VerifierServiceImpl implements VerifierService {
 
             boolean valid = true;
             valid &= verifyReferencedArtifactsExist(metadata, artifactRepository, logger);
-            valid &= verifyAllArtifactContent(artifactRepository, logger);
+            valid &= verifyAllArtifactContent(artifactRepository,
+                    VerifiedArtifactsLedger.load(tempDirectory, artifactRepositoryUri), logger);
             if (valid) {
                 logger.info("The integrity of the metadata repository '" + metadataRepositoryUri
                         + "' and artifact repository '" + artifactRepositoryUri + "' has been verified successfully");
@@ -102,27 +115,72 @@ public class VerifierServiceImpl implements VerifierService {
         return true;
     }
 
-    private boolean verifyAllArtifactContent(IArtifactRepository repository, Logger logger) {
+    private boolean verifyAllArtifactContent(IArtifactRepository repository, VerifiedArtifactsLedger ledger,
+            Logger logger) {
         boolean valid = true;
 
         IQueryResult<IArtifactKey> allKeys = repository
                 .query(new ExpressionMatchQuery<>(IArtifactKey.class, ExpressionUtil.TRUE_EXPRESSION), null);
         Set<IArtifactKey> set = allKeys.toSet();
         logger.debug("Verifying content of " + set.size() + " artifacts");
+        List<IArtifactDescriptor> descriptors = new ArrayList<>();
+        List<File> files = new ArrayList<>();
+        int unchanged = 0;
         for (IArtifactKey key : set) {
-            IArtifactDescriptor[] descriptors = repository.getArtifactDescriptors(key);
-            for (IArtifactDescriptor descriptor : descriptors) {
-                boolean verifyArtifactContent = verifyArtifactContent(repository, logger, descriptor);
-                logger.debug("Verifying artifact content " + descriptor + ": " + verifyArtifactContent);
-                valid &= verifyArtifactContent;
+            for (IArtifactDescriptor descriptor : repository.getArtifactDescriptors(key)) {
+                File file = repository instanceof IFileArtifactRepository fileRepository
+                        ? fileRepository.getArtifactFile(descriptor)
+                        : null;
+                if (ledger.isVerified(descriptor, file)) {
+                    logger.debug("Artifact content " + descriptor + " is unchanged since its last verification");
+                    ledger.markVerified(descriptor, file);
+                    unchanged++;
+                } else {
+                    descriptors.add(descriptor);
+                    files.add(file);
+                }
+            }
+        }
+        if (unchanged > 0) {
+            logger.info("Skipping " + unchanged + " artifacts that are unchanged since their last verification");
+        }
+        if (!descriptors.isEmpty()) {
+            // the artifacts are read concurrently, but the results are reported in a stable order
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(THREADS, descriptors.size()));
+            try {
+                List<Future<IStatus>> results = new ArrayList<>();
+                for (IArtifactDescriptor descriptor : descriptors) {
+                    results.add(executor.submit(() -> repository.getArtifact(descriptor,
+                            OutputStream.nullOutputStream(), new NullProgressMonitor())));
+                }
+                for (int i = 0; i < descriptors.size(); i++) {
+                    IArtifactDescriptor descriptor = descriptors.get(i);
+                    boolean verifyArtifactContent = reportArtifactContent(results.get(i).get(), logger);
+                    logger.debug("Verifying artifact content " + descriptor + ": " + verifyArtifactContent);
+                    if (verifyArtifactContent) {
+                        ledger.markVerified(descriptor, files.get(i));
+                    }
+                    valid &= verifyArtifactContent;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                logger.error("Verifying artifact content failed", e.getCause());
+                return false;
+            } finally {
+                executor.shutdownNow();
             }
         }
+        try {
+            ledger.save();
+        } catch (IOException e) {
+            logger.warn("Can't store the verified artifacts: " + e);
+        }
         return valid;
     }
 
-    private boolean verifyArtifactContent(IArtifactRepository repository, Logger logger,
-            IArtifactDescriptor descriptor) {
-        final IStatus status = repository.getArtifact(descriptor, OutputStream.nullOutputStream(), monitor);
+    private boolean reportArtifactContent(IStatus status, Logger logger) {
         if (!status.isOK()) {
             logStatus(status, "", logger::error);
         } else {
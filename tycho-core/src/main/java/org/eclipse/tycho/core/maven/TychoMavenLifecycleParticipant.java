@@ -54,6 +54,8 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
 import org.eclipse.equinox.p2.metadata.IRequirement;
 import org.eclipse.sisu.equinox.EquinoxServiceFactory;
+import org.eclipse.sisu.equinox.launching.EquinoxInstallationFactory;
+import org.eclipse.sisu.equinox.launching.internal.DefaultEquinoxInstallationFactory;
 import org.eclipse.tycho.BuildFailureException;
 import org.eclipse.tycho.DependencyResolutionException;
 import org.eclipse.tycho.TychoConstants;
@@ -61,6 +63,8 @@ import org.eclipse.tycho.build.BuildListeners;
 import org.eclipse.tycho.core.TychoProjectManager;
 import org.eclipse.tycho.core.osgitools.BundleReader;
 import org.eclipse.tycho.core.osgitools.DefaultBundleReader;
+import org.eclipse.tycho.osgi.framework.EclipseFrameworkPool;
+import org.eclipse.tycho.p2.repository.LocalRepositoryP2Indices;
 import org.eclipse.tycho.p2maven.MavenProjectDependencyProcessor;
 import org.eclipse.tycho.p2maven.MavenProjectDependencyProcessor.ProjectDependencyClosure;
 import org.eclipse.tycho.resolver.TychoResolver;
@@ -222,6 +226,20 @@ public class TychoMavenLifecycleParticipant extends AbstractMavenLifecyclePartic
                 throw new MavenExecutionException(e.getMessage(), e);
             }
         }
+        if (plexus.hasComponent(EclipseFrameworkPool.class)) {
+            try {
+                plexus.lookup(EclipseFrameworkPool.class).dispose();
+            } catch (ComponentLookupException e) {
+                throw new MavenExecutionException(e.getMessage(), e);
+            }
+        }
+        if (plexus.hasComponent(LocalRepositoryP2Indices.class)) {
+            try {
+                plexus.lookup(LocalRepositoryP2Indices.class).flush();
+            } catch (ComponentLookupException e) {
+                throw new MavenExecutionException(e.getMessage(), e);
+            }
+        }
     }
 
     private void validate(List<MavenProject> projects) throws MavenExecutionException {
@@ -376,6 +394,13 @@ public class TychoMavenLifecycleParticipant extends AbstractMavenLifecyclePartic
         // TODO why does the bundle reader need to cache stuff in the local maven repository?
         File localRepository = new File(session.getLocalRepository().getBasedir());
         ((DefaultBundleReader) bundleReader).setLocationRepository(localRepository);
+        try {
+            if (plexus.lookup(EquinoxInstallationFactory.class) instanceof DefaultEquinoxInstallationFactory factory) {
+                factory.setLocalRepository(localRepository);
+            }
+        } catch (ComponentLookupException e) {
+            log.debug("Can't configure the cache of unpacked bundles", e);
+        }
     }
 
 }
@@ -13,19 +13,30 @@
  *******************************************************************************/
 package org.eclipse.tycho.core.osgitools;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -35,6 +46,7 @@ import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
 import org.codehaus.plexus.logging.AbstractLogEnabled;
+import org.eclipse.tycho.CacheFiles;
 import org.eclipse.tycho.FileLockService;
 import org.eclipse.tycho.TychoConstants;
 
@@ -42,10 +54,25 @@ import org.eclipse.tycho.TychoConstants;
 public class DefaultBundleReader extends AbstractLogEnabled implements BundleReader {
 
     private static final long LOCK_TIMEOUT = Long.getLong("tycho.bundlereader.lock.timeout", 5 * 60 * 1000L);
+    private static final int MAX_CACHED_MANIFESTS = Integer.getInteger("tycho.bundlereader.cache.size", 5000);
+    private static final int MAX_PERSISTED_MANIFESTS = Integer.getInteger("tycho.bundlereader.persistent.cache.size",
+            20000);
     public static final String CACHE_PATH = ".cache/tycho";
-    private final Map<String, OsgiManifest> manifestCache = new HashMap<>();
+    static final String MANIFEST_CACHE_PATH = "manifests";
+    private final Map<String, OsgiManifest> manifestCache = Collections
+            .synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
 
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, OsgiManifest> eldest) {
+                    return size() > MAX_CACHED_MANIFESTS;
+                }
+            });
+
+    private File localRepository;
     private File cacheDir;
+    private final AtomicBoolean persistentManifestsPruned = new AtomicBoolean();
     private ConcurrentMap<String, Optional<File>> extractedFiles = new ConcurrentHashMap<>();
 
     @Requirement
@@ -102,16 +129,102 @@ public class DefaultBundleReader extends AbstractLogEnabled implements BundleRea
             // file but not a jar, assume it is MANIFEST.MF
             return loadManifestFile(bundleLocation);
         }
-        try ( // it is a jar, let's see if it has OSGi bundle manifest
-                ZipFile jar = new ZipFile(bundleLocation, ZipFile.OPEN_READ)) {
-            ZipEntry manifestEntry = jar.getEntry(JarFile.MANIFEST_NAME);
-            if (manifestEntry != null) {
-                InputStream stream = jar.getInputStream(manifestEntry);
-                return OsgiManifest.parse(stream, bundleLocation.getAbsolutePath() + "!/" + JarFile.MANIFEST_NAME);
+        String location = bundleLocation.getAbsolutePath() + "!/" + JarFile.MANIFEST_NAME;
+        byte[] manifest = readPersistentManifest(bundleLocation);
+        if (manifest == null) {
+            try ( // it is a jar, let's see if it has OSGi bundle manifest
+                    ZipFile jar = new ZipFile(bundleLocation, ZipFile.OPEN_READ)) {
+                ZipEntry manifestEntry = jar.getEntry(JarFile.MANIFEST_NAME);
+                if (manifestEntry == null) {
+                    throw new OsgiManifestParserException(bundleLocation.getAbsolutePath(),
+                            "Manifest file not found in JAR archive");
+                }
+                try (InputStream stream = jar.getInputStream(manifestEntry)) {
+                    manifest = stream.readAllBytes();
+                }
+            }
+            writePersistentManifest(bundleLocation, manifest);
+        }
+        return OsgiManifest.parse(new ByteArrayInputStream(manifest), location);
+    }
+
+    /**
+     * Reads the manifest of the given jar from the persistent cache, entries are only used if
+     * path, size and modification time of the jar are still the same as when the entry was
+     * written. Only jars in the local repository are cached, other jars (e.g. from the
+     * <code>target</code> folder of a reactor project) are rebuilt all the time.
+     * 
+     * @return the raw manifest or <code>null</code> if there is no valid cache entry
+     */
+    private byte[] readPersistentManifest(File jar) {
+        Path entry = getPersistentManifestEntry(jar);
+        if (entry == null || !Files.isRegularFile(entry)) {
+            return null;
+        }
+        try {
+            byte[] content = Files.readAllBytes(entry);
+            byte[] key = getPersistentManifestKey(jar);
+            if (content.length >= key.length && Arrays.equals(content, 0, key.length, key, 0, key.length)) {
+                // the timestamp of an entry tells when it was last used, see pruneManifestCache
+                Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+                return Arrays.copyOfRange(content, key.length, content.length);
             }
+        } catch (IOException e) {
+            // can't use the entry then...
         }
-        throw new OsgiManifestParserException(bundleLocation.getAbsolutePath(),
-                "Manifest file not found in JAR archive");
+        return null;
+    }
+
+    private void writePersistentManifest(File jar, byte[] manifest) {
+        Path entry = getPersistentManifestEntry(jar);
+        if (entry == null) {
+            return;
+        }
+        try {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            content.write(getPersistentManifestKey(jar));
+            content.write(manifest);
+            CacheFiles.writeAtomically(entry, content.toByteArray());
+        } catch (IOException e) {
+            getLogger().debug("Can't write manifest cache entry for " + jar, e);
+        }
+        if (persistentManifestsPruned.compareAndSet(false, true)) {
+            pruneManifestCache(entry.getParent());
+        }
+    }
+
+    /**
+     * Deletes the least recently used entries of the persistent manifest cache if it holds more
+     * than <code>tycho.bundlereader.persistent.cache.size</code> entries.
+     */
+    private void pruneManifestCache(Path directory) {
+        File[] entries = directory.toFile().listFiles((dir, name) -> name.endsWith(".MF"));
+        if (entries == null || entries.length <= MAX_PERSISTED_MANIFESTS) {
+            return;
+        }
+        Map<File, Long> lastUsed = new HashMap<>();
+        for (File entry : entries) {
+            lastUsed.put(entry, entry.lastModified());
+        }
+        Arrays.sort(entries, Comparator.comparing(lastUsed::get));
+        for (int i = 0; i < entries.length - MAX_PERSISTED_MANIFESTS; i++) {
+            entries[i].delete();
+        }
+    }
+
+    private Path getPersistentManifestEntry(File jar) {
+        if (cacheDir == null
+                || !jar.getAbsoluteFile().toPath().startsWith(localRepository.getAbsoluteFile().toPath())) {
+            return null;
+        }
+        String path = jar.getAbsolutePath();
+        return new File(new File(cacheDir, MANIFEST_CACHE_PATH),
+                UUID.nameUUIDFromBytes(path.getBytes(StandardCharsets.UTF_8)) + ".MF").toPath();
+    }
+
+    private static byte[] getPersistentManifestKey(File jar) {
+        return (jar.length() + ":" + jar.lastModified() + ":" + jar.getAbsolutePath() + "\n")
+                .getBytes(StandardCharsets.UTF_8);
     }
 
     private OsgiManifest loadManifestFromDirectory(File directory) throws IOException {
@@ -161,6 +274,7 @@ public class DefaultBundleReader extends AbstractLogEnabled implements BundleRea
     }
 
     public void setLocationRepository(File basedir) {
+        this.localRepository = basedir;
         this.cacheDir = new File(basedir, CACHE_PATH);
     }
 
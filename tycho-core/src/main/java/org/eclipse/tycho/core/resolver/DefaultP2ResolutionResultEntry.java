@@ -68,7 +68,7 @@ public class DefaultP2ResolutionResultEntry implements P2ResolutionResult.Entry
     }
 
     @Override
-    public File getLocation(boolean fetch) {
+    public synchronized File getLocation(boolean fetch) {
         if (resolvedFile == null && fetch) {
             resolvedFile = location.get();
         }
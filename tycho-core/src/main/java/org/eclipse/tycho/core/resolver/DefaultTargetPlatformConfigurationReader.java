@@ -64,6 +64,8 @@ public class DefaultTargetPlatformConfigurationReader {
     public static final String OPTIONAL_DEPENDENCIES = "optionalDependencies";
     public static final String LOCAL_ARTIFACTS = "localArtifacts";
     public static final String LOCAL_ARTIFACTS_PROPERTY = "tycho.localArtifacts";
+    public static final String PARALLEL_ENVIRONMENTS = "parallelEnvironments";
+    public static final String PARALLEL_ENVIRONMENTS_PROPERTY = "tycho.resolver.parallelEnvironments";
 
     public static final String FILTERS = "filters";
     public static final String RESOLVE_WITH_EXECUTION_ENVIRONMENT_CONSTRAINTS = "resolveWithExecutionEnvironmentConstraints";
@@ -101,6 +103,7 @@ public class DefaultTargetPlatformConfigurationReader {
         setRequireEagerResolve(result,
                 getStringValue(null, session, PROPERTY_REQUIRE_EAGER_RESOLVE, PROPERTY_ALIAS_REQUIRE_EAGER_RESOLVE));
         setLocalArtifacts(result, getStringValue(null, session, LOCAL_ARTIFACTS_PROPERTY, null));
+        setParallelEnvironments(result, getStringValue(null, session, PARALLEL_ENVIRONMENTS_PROPERTY, null));
         //Now use org.eclipse.tycho:target-platform-configuration if provided
         TychoProject tychoProject = projectManager.getTychoProject(project).orElse(null);
         Plugin plugin = project.getPlugin("org.eclipse.tycho:target-platform-configuration");
@@ -215,11 +218,20 @@ public class DefaultTargetPlatformConfigurationReader {
 
         setOptionalDependencies(result, resolverDom);
         setLocalArtifacts(result, resolverDom, mavenSession);
+        setParallelEnvironments(result, getStringValue(resolverDom.getChild(PARALLEL_ENVIRONMENTS), mavenSession,
+                PARALLEL_ENVIRONMENTS_PROPERTY, null));
         readExtraRequirements(result, resolverDom);
         readProfileProperties(result, resolverDom);
 
     }
 
+    private void setParallelEnvironments(TargetPlatformConfiguration result, String value) {
+        if (value == null) {
+            return;
+        }
+        result.setParallelEnvironments(Boolean.parseBoolean(value));
+    }
+
     private void setLocalArtifacts(TargetPlatformConfiguration result, Xpp3Dom resolverDom, MavenSession mavenSession) {
         String value = getStringValue(resolverDom.getChild(LOCAL_ARTIFACTS), mavenSession, LOCAL_ARTIFACTS_PROPERTY,
                 null);
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.core.resolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.tycho.CacheFiles;
+import org.eclipse.tycho.p2.repository.MetadataIO;
+import org.eclipse.tycho.p2maven.advices.MavenPropertiesAdvice;
+
+/**
+ * A cache of the installable units generated for the artifacts of maven target locations that is
+ * shared between builds. Entries are keyed by the SHA-256 hash of the artifact file and a context
+ * that describes everything else the unit depends on (e.g. the maven properties of the artifact or
+ * the BND instructions used to wrap it), so an artifact is only published again if one of them
+ * changes.
+ * <p>
+ * Each entry is a directory that holds the unit in p2 metadata format and optionally files that
+ * were generated for the artifact, e.g. source bundles or wrapped bundles. Files are written with
+ * {@link CacheFiles#writeAtomically(java.nio.file.Path, CacheFiles.ContentWriter)}, so concurrent
+ * builds on the same machine can share the cache.
+ * </p>
+ */
+final class InstallableUnitCache {
+
+    private static final boolean ENABLED = Boolean
+            .parseBoolean(System.getProperty("tycho.target.maven.cache", "true"));
+
+    /** bumped whenever the way units are generated changes */
+    private static final String FORMAT = "1";
+
+    private final File directory;
+
+    InstallableUnitCache(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @param repositoryRoot
+     *            the local maven repository
+     * @return the cache configured for this build, or <code>null</code> if caching is disabled
+     */
+    static InstallableUnitCache getDefault(File repositoryRoot) {
+        if (!ENABLED) {
+            return null;
+        }
+        String cacheDir = System.getProperty("tycho.target.maven.cache.dir");
+        return new InstallableUnitCache(cacheDir != null ? new File(cacheDir)
+                : new File(repositoryRoot, ".cache/tycho/maven-target-units"));
+    }
+
+    /**
+     * Computes the key of the cache entry for the given artifact.
+     *
+     * @param artifact
+     *            the artifact file the unit is generated from
+     * @param advice
+     *            the advice used to publish the unit, its unit properties become part of the key
+     * @param context
+     *            any further input the generated unit depends on
+     */
+    String getKey(File artifact, MavenPropertiesAdvice advice, String... context) throws IOException {
+        StringBuilder description = new StringBuilder(FORMAT);
+        description.append('\n').append(new TreeMap<>(advice.getInstallableUnitProperties(null)));
+        for (String part : context) {
+            description.append('\n').append(part);
+        }
+        String contextHash = CacheFiles.hash(description.toString()).substring(0, 32);
+        String hash = CacheFiles.cachedHash(artifact);
+        return hash.substring(0, 2) + "/" + hash + "/" + contextHash;
+    }
+
+    /**
+     * @return the cached unit of the given entry or <code>null</code> if there is none
+     */
+    IInstallableUnit getUnit(String key) {
+        File file = getFile(key, "content.xml");
+        if (!file.isFile()) {
+            return null;
+        }
+        try (InputStream stream = Files.newInputStream(file.toPath())) {
+            Set<IInstallableUnit> units = new MetadataIO().readXML(stream);
+            Iterator<IInstallableUnit> iterator = units.iterator();
+            return units.size() == 1 ? iterator.next() : null;
+        } catch (IOException | RuntimeException e) {
+            // corrupt or written by an incompatible version, simply publish again
+            return null;
+        }
+    }
+
+    void putUnit(String key, IInstallableUnit unit) {
+        try {
+            CacheFiles.writeAtomically(getFile(key, "content.xml").toPath(), temp -> {
+                try (OutputStream stream = Files.newOutputStream(temp)) {
+                    new MetadataIO().writeXML(List.of(unit), stream);
+                }
+            });
+        } catch (IOException e) {
+            // the unit is published again next time
+        }
+    }
+
+    /**
+     * @return the location of a file that belongs to the given entry, the file might not exist yet
+     */
+    File getFile(String key, String name) {
+        return new File(directory, key + "/" + name);
+    }
+}
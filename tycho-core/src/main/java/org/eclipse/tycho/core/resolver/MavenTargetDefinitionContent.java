@@ -17,6 +17,8 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
@@ -27,6 +29,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.jar.Attributes;
@@ -48,6 +56,7 @@ import org.apache.maven.repository.RepositorySystem;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.DependencyVisitor;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.spi.synccontext.SyncContextFactory;
 import org.eclipse.equinox.internal.p2.publisher.eclipse.FeatureParser;
@@ -66,6 +75,7 @@ import org.eclipse.m2e.pde.target.shared.MavenBundleWrapper;
 import org.eclipse.m2e.pde.target.shared.ProcessingMessage;
 import org.eclipse.m2e.pde.target.shared.WrappedBundle;
 import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.tycho.CacheFiles;
 import org.eclipse.tycho.IArtifactFacade;
 import org.eclipse.tycho.TychoConstants;
 import org.eclipse.tycho.core.DependencyResolutionException;
@@ -101,10 +111,22 @@ import org.xml.sax.SAXException;
 public class MavenTargetDefinitionContent implements TargetDefinitionContent {
     private static final String POM_PACKAGING_TYPE = "pom";
     public static final String ECLIPSE_SOURCE_BUNDLE_HEADER = "Eclipse-SourceBundle";
-    private final Map<IArtifactDescriptor, IInstallableUnit> repositoryContent = new HashMap<>();
+    private static final String GENERATED_SOURCE_BUNDLE = "source.jar";
+    private static final String WRAPPED_BUNDLE = "wrapped.jar";
+    private static final int THREADS = Math.max(1,
+            Integer.getInteger("tycho.target.maven.threads", Runtime.getRuntime().availableProcessors()));
+    private final Map<IArtifactDescriptor, IInstallableUnit> repositoryContent = new ConcurrentHashMap<>();
     private SupplierMetadataRepository metadataRepository;
     private FileArtifactRepository artifactRepository;
     private MavenContext mavenContext;
+    private InstallableUnitCache unitCache;
+
+    /**
+     * The outcome of processing one artifact of the location, either a feature or a bundle with
+     * its source bundles
+     */
+    private record ArtifactContent(Feature feature, IInstallableUnit bundle, List<IInstallableUnit> sourceBundles) {
+    }
 
     public MavenTargetDefinitionContent(MavenGAVLocation location, MavenDependenciesResolver mavenDependenciesResolver,
             IncludeSourceMode sourceMode, IProvisioningAgent agent, MavenContext mavenContext,
@@ -122,6 +144,7 @@ public class MavenTargetDefinitionContent implements TargetDefinitionContent {
                 .filter(Predicate.not(FeaturePublisher::isMetadataOnly)).iterator());
         artifactRepository.setName(repositoryRoot.getName());
         artifactRepository.setLocation(repositoryRoot.toURI());
+        unitCache = InstallableUnitCache.getDefault(repositoryRoot);
         Collection<BNDInstructions> instructions = location.getInstructions();
         List<Feature> features = new ArrayList<>();
         if (mavenDependenciesResolver != null) {
@@ -133,105 +156,100 @@ public class MavenTargetDefinitionContent implements TargetDefinitionContent {
                 instructionsMap.put(reference, properties);
                 logger.info((reference.isEmpty() ? "default instructions" : reference) + " = " + properties);
             }
-            List<IInstallableUnit> locationBundles = new ArrayList<>();
-            List<IInstallableUnit> locationSourceBundles = new ArrayList<>();
-            for (MavenDependency mavenDependency : location.getRoots()) {
-                DependencyDepth dependencyDepth = location.getIncludeDependencyDepth();
-                if (dependencyDepth == DependencyDepth.NONE
-                        && POM_PACKAGING_TYPE.equalsIgnoreCase(mavenDependency.getArtifactType())) {
-                    dependencyDepth = DependencyDepth.DIRECT;
-                }
-                int depth = switch (dependencyDepth) {
-                case INFINITE -> MavenDependenciesResolver.DEEP_INFINITE;
-                case DIRECT -> MavenDependenciesResolver.DEEP_DIRECT_CHILDREN;
-                default -> MavenDependenciesResolver.DEEP_NO_DEPENDENCIES;
-                };
-                Collection<?> resolve;
-                try {
-                    resolve = mavenDependenciesResolver.resolve(mavenDependency.getGroupId(),
-                            mavenDependency.getArtifactId(), mavenDependency.getVersion(),
-                            mavenDependency.getArtifactType(), mavenDependency.getClassifier(),
-                            location.getIncludeDependencyScopes(), depth, location.getRepositoryReferences());
-                } catch (DependencyResolutionException e1) {
-                    throw new TargetDefinitionResolutionException("MavenDependency " + mavenDependency + " of location "
-                            + location + " could not be resolved", e1);
-                }
-
-                Iterator<IArtifactFacade> resolvedArtifacts = resolve.stream().filter(IArtifactFacade.class::isInstance)
-                        .map(IArtifactFacade.class::cast).iterator();
-                Properties defaultProperties = WrappedArtifact.createPropertiesForPrefix("wrapped");
-                List<IInstallableUnit> bundles = new ArrayList<>();
-                List<IInstallableUnit> sourceBundles = new ArrayList<>();
-                while (resolvedArtifacts.hasNext()) {
-                    IArtifactFacade mavenArtifact = resolvedArtifacts.next();
-                    if (mavenDependency.isIgnored(mavenArtifact)) {
-                        logger.debug("Skip ignored " + mavenArtifact);
-                        continue;
-                    }
-                    if (POM_PACKAGING_TYPE.equalsIgnoreCase(mavenArtifact.getPackagingType())) {
-                        logger.debug("Skip pom artifact " + mavenArtifact);
-                        continue;
-                    }
-                    String fileName = mavenArtifact.getLocation().getName();
-                    if (!"jar".equalsIgnoreCase(FilenameUtils.getExtension(fileName))) {
-                        logger.info("Skip non-jar artifact (" + fileName + ")");
-                        continue;
-                    }
-                    logger.debug("Resolved " + mavenArtifact);
-
-                    Feature feature = new FeatureParser().parse(mavenArtifact.getLocation());
+            // wrapped bundles depend on the instructions for the artifact and for its dependencies
+            String instructionsDescription = instructions.stream()
+                    .map(instruction -> instruction.getReference() + "=" + new TreeMap<>(instruction.getInstructions()))
+                    .sorted().collect(Collectors.joining("\n"));
+            Properties defaultProperties = WrappedArtifact.createPropertiesForPrefix("wrapped");
+            Function<IArtifactFacade, ArtifactContent> artifactProcessor = mavenArtifact -> {
+                File bundleLocation = mavenArtifact.getLocation();
+                TychoMavenPropertiesAdvice advice = new TychoMavenPropertiesAdvice(mavenArtifact, mavenContext);
+                String cacheKey = getCacheKey(bundleLocation, advice, "bundle");
+                IInstallableUnit unit = getCachedUnit(cacheKey, bundleLocation, advice);
+                String symbolicName;
+                String bundleVersion;
+                if (unit != null) {
+                    // only bundles are cached, so there is no need to look for a feature
+                    symbolicName = unit.getId();
+                    bundleVersion = unit.getVersion().toString();
+                } else {
+                    Feature feature = new FeatureParser().parse(bundleLocation);
                     if (feature != null) {
-                        feature.setLocation(mavenArtifact.getLocation().getAbsolutePath());
-                        features.add(feature);
-                        continue;
+                        feature.setLocation(bundleLocation.getAbsolutePath());
+                        return new ArtifactContent(feature, null, List.of());
                     }
-
-                    String symbolicName;
-                    String bundleVersion;
                     try {
-                        File bundleLocation = mavenArtifact.getLocation();
                         BundleDescription bundleDescription = BundlesAction.createBundleDescription(bundleLocation);
                         symbolicName = bundleDescription != null ? bundleDescription.getSymbolicName() : null;
                         bundleVersion = bundleDescription != null ? bundleDescription.getVersion().toString() : null;
-                        IInstallableUnit unit;
                         if (symbolicName == null) {
                             if (location.getMissingManifestStrategy() == MissingManifestStrategy.IGNORE) {
                                 logger.info("Ignoring " + asDebugString(mavenArtifact)
                                         + " as it is not a bundle and MissingManifestStrategy is set to ignore for this location");
-                                continue;
+                                return null;
                             }
                             if (location.getMissingManifestStrategy() == MissingManifestStrategy.ERROR) {
                                 throw new TargetDefinitionResolutionException("Artifact " + asDebugString(mavenArtifact)
                                         + " is not a bundle and MissingManifestStrategy is set to error for this location");
                             }
+                            // Maven artifact info for wrapped bundles have to be stored in separate fields
+                            Map<String, String> mavenProperties = new HashMap<>();
+                            mavenProperties.put(TychoConstants.PROP_WRAPPED_GROUP_ID, mavenArtifact.getGroupId());
+                            mavenProperties.put(TychoConstants.PROP_WRAPPED_ARTIFACT_ID,
+                                    mavenArtifact.getArtifactId());
+                            mavenProperties.put(TychoConstants.PROP_WRAPPED_VERSION, mavenArtifact.getVersion());
+                            mavenProperties.put(TychoConstants.PROP_WRAPPED_CLASSIFIER,
+                                    mavenArtifact.getClassifier());
+                            MavenPropertiesAdvice wrappedAdvice = new MavenPropertiesAdvice(mavenProperties);
                             try {
-                                List<RemoteRepository> repositories = RepositoryUtils
-                                        .toRepos(MavenDependenciesResolverConfigurer.getEffectiveRepositories(
+                                List<RemoteRepository> repositories = RepositoryUtils.toRepos(
+                                        MavenDependenciesResolverConfigurer.getEffectiveRepositories(
                                                 mavenSession.getCurrentProject(), location.getRepositoryReferences(),
                                                 repositorySystem));
-                                Function<DependencyNode, Properties> instructionsLookup = node -> instructionsMap
-                                        .getOrDefault(getKey(node.getArtifact()),
-                                                instructionsMap.getOrDefault("", defaultProperties));
-                                WrappedBundle wrappedBundle = MavenBundleWrapper.getWrappedArtifact(
+                                DependencyNode dependencies = MavenBundleWrapper.resolveDependencies(
                                         new DefaultArtifact(mavenArtifact.getGroupId(), mavenArtifact.getArtifactId(),
                                                 mavenArtifact.getClassifier(), mavenArtifact.getPackagingType(),
                                                 mavenArtifact.getVersion()),
-                                        instructionsLookup, repositories, repositorySystem2,
-                                        mavenSession.getRepositorySession(), syncContextFactory);
-                                List<ProcessingMessage> directErrors = wrappedBundle.messages(false)
-                                        .filter(msg -> msg.type() == ProcessingMessage.Type.ERROR).toList();
-                                if (directErrors.isEmpty()) {
-                                    wrappedBundle.messages(true).map(ProcessingMessage::message)
-                                            .forEach(msg -> logger.warn(asDebugString(mavenArtifact) + ": " + msg));
-                                } else {
-                                    throw new RuntimeException(directErrors.stream().map(ProcessingMessage::message)
-                                            .collect(Collectors.joining(System.lineSeparator())));
+                                        repositories, repositorySystem2, mavenSession.getRepositorySession());
+                                // keyed by the input artifact and its dependencies as the generated manifest
+                                // depends on them, the wrapped bundle is kept with the cached unit
+                                String wrappedCacheKey = getCacheKey(bundleLocation, wrappedAdvice, "wrapped",
+                                        instructionsDescription, describeDependencies(dependencies));
+                                File file = wrappedCacheKey == null ? null
+                                        : unitCache.getFile(wrappedCacheKey, WRAPPED_BUNDLE);
+                                if (file != null && file.isFile()) {
+                                    unit = getCachedUnit(wrappedCacheKey, file, wrappedAdvice);
+                                }
+                                if (unit == null) {
+                                    Function<DependencyNode, Properties> instructionsLookup = node -> instructionsMap
+                                            .getOrDefault(getKey(node.getArtifact()),
+                                                    instructionsMap.getOrDefault("", defaultProperties));
+                                    WrappedBundle wrappedBundle = MavenBundleWrapper.getWrappedArtifact(dependencies,
+                                            instructionsLookup, mavenSession.getRepositorySession(),
+                                            syncContextFactory);
+                                    List<ProcessingMessage> directErrors = wrappedBundle.messages(false)
+                                            .filter(msg -> msg.type() == ProcessingMessage.Type.ERROR).toList();
+                                    if (directErrors.isEmpty()) {
+                                        wrappedBundle.messages(true).map(ProcessingMessage::message).forEach(
+                                                msg -> logger.warn(asDebugString(mavenArtifact) + ": " + msg));
+                                    } else {
+                                        throw new RuntimeException(directErrors.stream()
+                                                .map(ProcessingMessage::message)
+                                                .collect(Collectors.joining(System.lineSeparator())));
+                                    }
+                                    file = wrappedBundle.getFile().get().toFile();
+                                    File cachedFile = storeWrappedBundle(file, wrappedCacheKey);
+                                    if (cachedFile != null) {
+                                        file = cachedFile;
+                                    } else {
+                                        wrappedCacheKey = null;
+                                    }
+                                    unit = publish(BundlesAction.createBundleDescription(file), file, wrappedAdvice,
+                                            wrappedCacheKey);
                                 }
-                                File file = wrappedBundle.getFile().get().toFile();
-                                BundleDescription description = BundlesAction.createBundleDescription(file);
                                 WrappedArtifact wrappedArtifact = new WrappedArtifact(file, mavenArtifact,
-                                        mavenArtifact.getClassifier(), description.getSymbolicName(),
-                                        description.getVersion().toString(), null);
+                                        mavenArtifact.getClassifier(), unit.getId(), unit.getVersion().toString(),
+                                        null);
                                 logger.info(asDebugString(mavenArtifact)
                                         + " is wrapped as a bundle with bundle symbolic name "
                                         + wrappedArtifact.getWrappedBsn());
@@ -240,15 +258,6 @@ public class MavenTargetDefinitionContent implements TargetDefinitionContent {
                                     logger.debug("The following manifest was generated for this artifact:\r\n"
                                             + wrappedArtifact.getGeneratedManifest());
                                 }
-                                // Maven artifact info for wrapped bundles have to be stored in separate fields
-                                Map<String, String> mavenProperties = new HashMap<>();
-                                mavenProperties.put(TychoConstants.PROP_WRAPPED_GROUP_ID, mavenArtifact.getGroupId());
-                                mavenProperties.put(TychoConstants.PROP_WRAPPED_ARTIFACT_ID,
-                                        mavenArtifact.getArtifactId());
-                                mavenProperties.put(TychoConstants.PROP_WRAPPED_VERSION, mavenArtifact.getVersion());
-                                mavenProperties.put(TychoConstants.PROP_WRAPPED_CLASSIFIER,
-                                        mavenArtifact.getClassifier());
-                                unit = publish(description, file, new MavenPropertiesAdvice(mavenProperties));
                                 symbolicName = wrappedArtifact.getWrappedBsn();
                                 bundleVersion = wrappedArtifact.getWrappedVersion();
                             } catch (Exception e) {
@@ -257,86 +266,146 @@ public class MavenTargetDefinitionContent implements TargetDefinitionContent {
                             }
 
                         } else {
-                            unit = publish(bundleDescription, bundleLocation, mavenArtifact);
-                        }
-                        bundles.add(unit);
-                        if (logger.isDebugEnabled()) {
-                            logger.debug("MavenResolver: artifact " + asDebugString(mavenArtifact) + " at location "
-                                    + bundleLocation + " resolves installable unit "
-                                    + new VersionedId(unit.getId(), unit.getVersion()));
+                            unit = publish(bundleDescription, bundleLocation, advice, cacheKey);
                         }
                     } catch (BundleException | IOException e) {
                         throw new TargetDefinitionResolutionException("Artifact " + asDebugString(mavenArtifact)
                                 + " of location " + location + " could not be read", e);
                     }
+                }
+                if (logger.isDebugEnabled()) {
+                    logger.debug("MavenResolver: artifact " + asDebugString(mavenArtifact) + " at location "
+                            + bundleLocation + " resolves installable unit "
+                            + new VersionedId(unit.getId(), unit.getVersion()));
+                }
 
-                    if (includeSource) {
-                        try {
-                            Collection<?> sourceArtifacts = mavenDependenciesResolver.resolve(
-                                    mavenArtifact.getGroupId(), mavenArtifact.getArtifactId(),
-                                    mavenArtifact.getVersion(), mavenArtifact.getPackagingType(), "sources", null,
-                                    MavenDependenciesResolver.DEEP_NO_DEPENDENCIES, location.getRepositoryReferences());
-                            Iterator<IArtifactFacade> sources = sourceArtifacts.stream()
-                                    .filter(IArtifactFacade.class::isInstance).map(IArtifactFacade.class::cast)
-                                    .iterator();
-                            while (sources.hasNext()) {
-                                IArtifactFacade sourceArtifact = sources.next();
-                                File sourceFile = sourceArtifact.getLocation();
-                                try {
-                                    Manifest manifest;
-                                    try (JarFile jar = new JarFile(sourceFile)) {
-                                        manifest = Objects.requireNonNullElseGet(jar.getManifest(), Manifest::new);
-                                    }
-                                    IInstallableUnit unit;
-                                    if (isValidSourceManifest(manifest)) {
-                                        unit = publish(BundlesAction.createBundleDescription(sourceFile), sourceFile,
-                                                sourceArtifact);
-                                    } else {
-                                        unit = generateSourceBundle(symbolicName, bundleVersion, manifest, sourceFile,
-                                                sourceArtifact);
-                                    }
-                                    sourceBundles.add(unit);
-                                    if (unit != null && logger.isDebugEnabled()) {
-                                        logger.debug("MavenResolver: source-artifact " + asDebugString(sourceArtifact)
-                                                + ":sources at location " + sourceFile + " resolves installable unit "
-                                                + new VersionedId(unit.getId(), unit.getVersion()));
-                                    }
-                                } catch (IOException | BundleException e) {
-                                    logger.warn("MavenResolver: source-artifact " + asDebugString(sourceArtifact)
-                                            + ":sources at location " + sourceFile
-                                            + " cannot be converted to a source bundle: " + e);
-                                    continue;
+                List<IInstallableUnit> sourceBundles = new ArrayList<>();
+                if (includeSource) {
+                    try {
+                        Collection<?> sourceArtifacts = mavenDependenciesResolver.resolve(mavenArtifact.getGroupId(),
+                                mavenArtifact.getArtifactId(), mavenArtifact.getVersion(),
+                                mavenArtifact.getPackagingType(), "sources", null,
+                                MavenDependenciesResolver.DEEP_NO_DEPENDENCIES, location.getRepositoryReferences(),
+                                mavenSession);
+                        Iterator<IArtifactFacade> sources = sourceArtifacts.stream()
+                                .filter(IArtifactFacade.class::isInstance).map(IArtifactFacade.class::cast).iterator();
+                        while (sources.hasNext()) {
+                            IArtifactFacade sourceArtifact = sources.next();
+                            File sourceFile = sourceArtifact.getLocation();
+                            try {
+                                IInstallableUnit sourceUnit = publishSource(symbolicName, bundleVersion, sourceFile,
+                                        sourceArtifact);
+                                sourceBundles.add(sourceUnit);
+                                if (sourceUnit != null && logger.isDebugEnabled()) {
+                                    logger.debug("MavenResolver: source-artifact " + asDebugString(sourceArtifact)
+                                            + ":sources at location " + sourceFile + " resolves installable unit "
+                                            + new VersionedId(sourceUnit.getId(), sourceUnit.getVersion()));
                                 }
+                            } catch (IOException | BundleException e) {
+                                logger.warn("MavenResolver: source-artifact " + asDebugString(sourceArtifact)
+                                        + ":sources at location " + sourceFile
+                                        + " cannot be converted to a source bundle: " + e);
+                                continue;
                             }
-                        } catch (DependencyResolutionException e) {
-                            logger.warn("MavenResolver: source-artifact " + asDebugString(mavenArtifact)
-                                    + ":sources cannot be resolved: " + e);
                         }
+                    } catch (DependencyResolutionException e) {
+                        logger.warn("MavenResolver: source-artifact " + asDebugString(mavenArtifact)
+                                + ":sources cannot be resolved: " + e);
                     }
                 }
-                if (POM_PACKAGING_TYPE.equalsIgnoreCase(mavenDependency.getArtifactType())) {
-                    Optional<File> pomFacade = resolve.stream().filter(IArtifactFacade.class::isInstance)
-                            .map(IArtifactFacade.class::cast).filter(facade -> facade.getDependencyTrail().size() == 1)
-                            .filter(facade -> facade.getArtifactId().equals(mavenDependency.getArtifactId())
-                                    && facade.getGroupId().equals(mavenDependency.getGroupId())
-                                    && facade.getVersion().equals(mavenDependency.getVersion())
-                                    && facade.getPackagingType().equals(POM_PACKAGING_TYPE))
-                            .map(IArtifactFacade::getLocation).filter(Objects::nonNull).findFirst();
+                return new ArtifactContent(null, unit, sourceBundles);
+            };
+            List<IInstallableUnit> locationBundles = new ArrayList<>();
+            List<IInstallableUnit> locationSourceBundles = new ArrayList<>();
+            // artifacts are processed concurrently, but their units are collected in a stable order
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            try {
+                for (MavenDependency mavenDependency : location.getRoots()) {
+                    DependencyDepth dependencyDepth = location.getIncludeDependencyDepth();
+                    if (dependencyDepth == DependencyDepth.NONE
+                            && POM_PACKAGING_TYPE.equalsIgnoreCase(mavenDependency.getArtifactType())) {
+                        dependencyDepth = DependencyDepth.DIRECT;
+                    }
+                    int depth = switch (dependencyDepth) {
+                    case INFINITE -> MavenDependenciesResolver.DEEP_INFINITE;
+                    case DIRECT -> MavenDependenciesResolver.DEEP_DIRECT_CHILDREN;
+                    default -> MavenDependenciesResolver.DEEP_NO_DEPENDENCIES;
+                    };
+                    Collection<?> resolve;
+                    try {
+                        resolve = mavenDependenciesResolver.resolve(mavenDependency.getGroupId(),
+                                mavenDependency.getArtifactId(), mavenDependency.getVersion(),
+                                mavenDependency.getArtifactType(), mavenDependency.getClassifier(),
+                                location.getIncludeDependencyScopes(), depth, location.getRepositoryReferences());
+                    } catch (DependencyResolutionException e1) {
+                        throw new TargetDefinitionResolutionException("MavenDependency " + mavenDependency
+                                + " of location " + location + " could not be resolved", e1);
+                    }
 
-                    if (pomFacade.isPresent()) {
-                        try {
-                            MavenModelFacade model = mavenDependenciesResolver.loadModel(pomFacade.get());
-                            features.add(FeatureGenerator.generatePomFeature(model, bundles, false, logger));
-                            if (includeSource) {
-                                features.add(FeatureGenerator.generatePomFeature(model, sourceBundles, true, logger));
+                    Iterator<IArtifactFacade> resolvedArtifacts = resolve.stream()
+                            .filter(IArtifactFacade.class::isInstance).map(IArtifactFacade.class::cast).iterator();
+                    List<Future<ArtifactContent>> contents = new ArrayList<>();
+                    while (resolvedArtifacts.hasNext()) {
+                        IArtifactFacade mavenArtifact = resolvedArtifacts.next();
+                        if (mavenDependency.isIgnored(mavenArtifact)) {
+                            logger.debug("Skip ignored " + mavenArtifact);
+                            continue;
+                        }
+                        if (POM_PACKAGING_TYPE.equalsIgnoreCase(mavenArtifact.getPackagingType())) {
+                            logger.debug("Skip pom artifact " + mavenArtifact);
+                            continue;
+                        }
+                        String fileName = mavenArtifact.getLocation().getName();
+                        if (!"jar".equalsIgnoreCase(FilenameUtils.getExtension(fileName))) {
+                            logger.info("Skip non-jar artifact (" + fileName + ")");
+                            continue;
+                        }
+                        logger.debug("Resolved " + mavenArtifact);
+                        contents.add(executor.submit(() -> artifactProcessor.apply(mavenArtifact)));
+                    }
+                    List<IInstallableUnit> bundles = new ArrayList<>();
+                    List<IInstallableUnit> sourceBundles = new ArrayList<>();
+                    for (Future<ArtifactContent> future : contents) {
+                        ArtifactContent content = getContent(future);
+                        if (content == null) {
+                            continue;
+                        }
+                        if (content.feature() != null) {
+                            features.add(content.feature());
+                        } else {
+                            bundles.add(content.bundle());
+                            sourceBundles.addAll(content.sourceBundles());
+                        }
+                    }
+                    if (POM_PACKAGING_TYPE.equalsIgnoreCase(mavenDependency.getArtifactType())) {
+                        Optional<File> pomFacade = resolve.stream().filter(IArtifactFacade.class::isInstance)
+                                .map(IArtifactFacade.class::cast)
+                                .filter(facade -> facade.getDependencyTrail().size() == 1)
+                                .filter(facade -> facade.getArtifactId().equals(mavenDependency.getArtifactId())
+                                        && facade.getGroupId().equals(mavenDependency.getGroupId())
+                                        && facade.getVersion().equals(mavenDependency.getVersion())
+                                        && facade.getPackagingType().equals(POM_PACKAGING_TYPE))
+                                .map(IArtifactFacade::getLocation).filter(Objects::nonNull).findFirst();
+
+                        if (pomFacade.isPresent()) {
+                            try {
+                                MavenModelFacade model = mavenDependenciesResolver.loadModel(pomFacade.get());
+                                features.add(FeatureGenerator.generatePomFeature(model, bundles, false, logger));
+                                if (includeSource) {
+                                    features.add(
+                                            FeatureGenerator.generatePomFeature(model, sourceBundles, true, logger));
+                                }
+                            } catch (IOException | ParserConfigurationException | TransformerException
+                                    | SAXException e) {
+                                throw new TargetDefinitionResolutionException("non readable pom file");
                             }
-                        } catch (IOException | ParserConfigurationException | TransformerException | SAXException e) {
-                            throw new TargetDefinitionResolutionException("non readable pom file");
                         }
                     }
+                    locationBundles.addAll(bundles);
+                    locationSourceBundles.addAll(sourceBundles);
                 }
-                locationBundles.addAll(bundles);
-                locationSourceBundles.addAll(sourceBundles);
+            } finally {
+                executor.shutdownNow();
             }
             Element featureTemplate = location.getFeatureTemplate();
             if (featureTemplate != null) {
@@ -355,11 +424,51 @@ public class MavenTargetDefinitionContent implements TargetDefinitionContent {
         }
     }
 
+    private static ArtifactContent getContent(Future<ArtifactContent> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TargetDefinitionResolutionException("Resolving the location was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new TargetDefinitionResolutionException("Processing an artifact failed", e.getCause());
+        }
+    }
+
+    private IInstallableUnit publishSource(String symbolicName, String bundleVersion, File sourceFile,
+            IArtifactFacade sourceArtifact) throws IOException, BundleException {
+        TychoMavenPropertiesAdvice advice = new TychoMavenPropertiesAdvice(sourceArtifact, mavenContext);
+        String cacheKey = getCacheKey(sourceFile, advice, "source");
+        IInstallableUnit unit = getCachedUnit(cacheKey, sourceFile, advice);
+        if (unit != null) {
+            return unit;
+        }
+        String generatedCacheKey = getCacheKey(sourceFile, advice, "generated-source", symbolicName, bundleVersion);
+        if (generatedCacheKey != null) {
+            File generatedFile = unitCache.getFile(generatedCacheKey, GENERATED_SOURCE_BUNDLE);
+            if (generatedFile.isFile()) {
+                unit = getCachedUnit(generatedCacheKey, generatedFile, advice);
+                if (unit != null) {
+                    return unit;
+                }
+            }
+        }
+        Manifest manifest;
+        try (JarFile jar = new JarFile(sourceFile)) {
+            manifest = Objects.requireNonNullElseGet(jar.getManifest(), Manifest::new);
+        }
+        if (isValidSourceManifest(manifest)) {
+            return publish(BundlesAction.createBundleDescription(sourceFile), sourceFile, advice, cacheKey);
+        }
+        return generateSourceBundle(symbolicName, bundleVersion, manifest, sourceFile, advice, generatedCacheKey);
+    }
+
     private IInstallableUnit generateSourceBundle(String symbolicName, String bundleVersion, Manifest manifest,
-            File sourceFile, IArtifactFacade sourceArtifact) throws IOException, BundleException {
+            File sourceFile, MavenPropertiesAdvice advice, String cacheKey) throws IOException, BundleException {
 
-        File tempFile = File.createTempFile("tycho_wrapped_source", ".jar");
-        tempFile.deleteOnExit();
         Attributes attr = manifest.getMainAttributes();
         if (attr.isEmpty()) {
             attr.put(Name.MANIFEST_VERSION, "1.0");
@@ -369,7 +478,26 @@ public class MavenTargetDefinitionContent implements TargetDefinitionContent {
         attr.putValue(Constants.BUNDLE_NAME, "Source Bundle for " + symbolicName + ":" + bundleVersion);
         attr.putValue(Constants.BUNDLE_SYMBOLICNAME, symbolicName + ".source");
         attr.putValue(Constants.BUNDLE_VERSION, bundleVersion);
-        try (JarOutputStream stream = new JarOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)),
+        if (cacheKey != null) {
+            // the generated bundle is kept with the cached unit, so it is only generated once
+            File cachedFile = unitCache.getFile(cacheKey, GENERATED_SOURCE_BUNDLE);
+            try {
+                CacheFiles.writeAtomically(cachedFile.toPath(),
+                        file -> writeSourceBundle(manifest, sourceFile, file.toFile()));
+                return publish(BundlesAction.createBundleDescription(cachedFile), cachedFile, advice, cacheKey);
+            } catch (IOException e) {
+                mavenContext.getLogger().debug("Can't store generated source bundle in the cache: " + e);
+            }
+        }
+        File tempFile = File.createTempFile("tycho_wrapped_source", ".jar");
+        tempFile.deleteOnExit();
+        writeSourceBundle(manifest, sourceFile, tempFile);
+        return publish(BundlesAction.createBundleDescription(tempFile), tempFile, advice, null);
+
+    }
+
+    private static void writeSourceBundle(Manifest manifest, File sourceFile, File bundleFile) throws IOException {
+        try (JarOutputStream stream = new JarOutputStream(new BufferedOutputStream(new FileOutputStream(bundleFile)),
                 manifest)) {
             try (JarFile jar = new JarFile(sourceFile)) {
                 Enumeration<JarEntry> entries = jar.entries();
@@ -386,16 +514,98 @@ public class MavenTargetDefinitionContent implements TargetDefinitionContent {
                 }
             }
         }
-        return publish(BundlesAction.createBundleDescription(tempFile), tempFile, sourceArtifact);
+    }
 
+    /**
+     * Keeps a copy of the given wrapped bundle with the cache entry, so the bundle is still
+     * available when the unit is taken from the cache.
+     *
+     * @return the copy or <code>null</code> if the bundle can't be cached
+     */
+    private File storeWrappedBundle(File wrappedBundle, String cacheKey) {
+        if (cacheKey == null) {
+            return null;
+        }
+        File cachedFile = unitCache.getFile(cacheKey, WRAPPED_BUNDLE);
+        try {
+            CacheFiles.writeAtomically(cachedFile.toPath(),
+                    file -> Files.copy(wrappedBundle.toPath(), file, StandardCopyOption.REPLACE_EXISTING));
+            return cachedFile;
+        } catch (IOException e) {
+            mavenContext.getLogger().debug("Can't store wrapped bundle in the cache: " + e);
+            return null;
+        }
     }
 
-    private IInstallableUnit publish(BundleDescription bundleDescription, File bundleLocation,
-            IArtifactFacade mavenArtifact) {
-        return publish(bundleDescription, bundleLocation, new TychoMavenPropertiesAdvice(mavenArtifact, mavenContext));
+    /**
+     * @return the coordinates and content hashes of all dependencies in the given graph
+     */
+    private static String describeDependencies(DependencyNode root) throws IOException {
+        List<DependencyNode> nodes = new ArrayList<>();
+        root.accept(new DependencyVisitor() {
+
+            @Override
+            public boolean visitEnter(DependencyNode node) {
+                if (node != root) {
+                    nodes.add(node);
+                }
+                return true;
+            }
+
+            @Override
+            public boolean visitLeave(DependencyNode node) {
+                return true;
+            }
+        });
+        StringBuilder description = new StringBuilder();
+        for (DependencyNode node : nodes) {
+            Artifact artifact = node.getArtifact();
+            File file = artifact.getFile();
+            description.append(artifact).append('=')
+                    .append(file == null || !file.isFile() ? "missing" : CacheFiles.cachedHash(file)).append('\n');
+        }
+        return description.toString();
     }
 
-    private IInstallableUnit publish(BundleDescription bundleDescription, File bundleLocation, IPropertyAdvice advice) {
+    /**
+     * @return the key of the cache entry for the given artifact, or <code>null</code> if the unit
+     *         can't be cached
+     */
+    private String getCacheKey(File artifact, MavenPropertiesAdvice advice, String... context) {
+        if (unitCache == null) {
+            return null;
+        }
+        try {
+            return unitCache.getKey(artifact, advice, context);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Looks up the unit of an artifact in the cache and adds it to the content of this location, the
+     * artifact properties are computed again as they might depend on the location of the artifact.
+     *
+     * @return the cached unit or <code>null</code> if the artifact has to be published
+     */
+    private IInstallableUnit getCachedUnit(String cacheKey, File bundleLocation, IPropertyAdvice advice) {
+        if (cacheKey == null) {
+            return null;
+        }
+        IInstallableUnit iu = unitCache.getUnit(cacheKey);
+        if (iu == null || iu.getArtifacts().size() != 1) {
+            return null;
+        }
+        IArtifactDescriptor descriptor = FileArtifactRepository.forFile(bundleLocation,
+                iu.getArtifacts().iterator().next(), artifactRepository);
+        advice.getArtifactProperties(iu, descriptor);
+        new MavenChecksumAdvice(bundleLocation).getArtifactProperties(iu, descriptor);
+        repositoryContent.put(descriptor, iu);
+        return iu;
+    }
+
+    private IInstallableUnit publish(BundleDescription bundleDescription, File bundleLocation, IPropertyAdvice advice,
+            String cacheKey) {
         IArtifactKey key = BundlesAction.createBundleArtifactKey(bundleDescription.getSymbolicName(),
                 bundleDescription.getVersion().toString());
         IArtifactDescriptor descriptor = FileArtifactRepository.forFile(bundleLocation, key, artifactRepository);
@@ -405,6 +615,9 @@ public class MavenTargetDefinitionContent implements TargetDefinitionContent {
         publisherInfo.setArtifactOptions(IPublisherInfo.A_INDEX);
         IInstallableUnit iu = BundlePublisher.publishBundle(bundleDescription, descriptor, publisherInfo);
         repositoryContent.put(descriptor, iu);
+        if (cacheKey != null) {
+            unitCache.putUnit(cacheKey, iu);
+        }
         return iu;
     }
 
@@ -44,6 +44,12 @@ public interface P2Resolver {
 
     void setPomDependencies(PomDependencies pomDependencies);
 
+    /**
+     * Enables the concurrent resolution of the dependencies for the requested target environments,
+     * by default environments are resolved one after another.
+     */
+    void setParallelEnvironments(boolean parallelEnvironments);
+
     /**
      * Returns list ordered of resolution result, one per requested TargetEnvironment.
      * 
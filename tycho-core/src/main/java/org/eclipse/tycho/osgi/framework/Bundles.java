@@ -24,6 +24,7 @@ public record Bundles(Set<String> bundles) {
     static final String BUNDLE_SCR = "org.apache.felix.scr";
     static final String BUNDLE_CORE = "org.eclipse.core.runtime";
     static final String BUNDLE_LAUNCHER = "org.eclipse.equinox.launcher";
+    static final String BUNDLE_RESOURCES = "org.eclipse.core.resources";
 
     public static Bundles of(String... bundles) {
         return new Bundles(Set.of(bundles));
@@ -77,19 +77,22 @@ public class EclipseApplication {
     private Predicate<LogEntry> loggingFilter = always -> true;
     private Set<String> startBundles = new HashSet<>(ALWAYS_START_BUNDLES);
     private Map<File, MavenProject> baseDirMap;
+    private EclipseFrameworkPool pool;
 
     EclipseApplication(String name, P2Resolver resolver, TargetPlatform targetPlatform, Logger logger,
-            Map<File, MavenProject> baseDirMap) {
+            Map<File, MavenProject> baseDirMap, EclipseFrameworkPool pool) {
         this.name = name;
         this.resolver = resolver;
         this.targetPlatform = targetPlatform;
         this.logger = logger;
         this.baseDirMap = baseDirMap;
+        this.pool = pool;
     }
 
     public synchronized Collection<Path> getApplicationBundles() {
         if (needResolve) {
             resolvedBundles = resolveBundles(resolver);
+            needResolve = false;
             if (logger.isDebugEnabled()) {
                 logger.debug("Eclipse Application " + name + " resolved with " + resolvedBundles.size() + " bundles.");
                 for (Path path : resolvedBundles) {
@@ -195,8 +198,36 @@ public class EclipseApplication {
         }
     }
 
+    /**
+     * Starts a framework for this application in the given workspace. Frameworks that do not run
+     * an application are taken from (and returned to on {@link EclipseFramework#close()}) the
+     * {@link EclipseFrameworkPool} if they are requested from the thread that owns the workspace or
+     * the workspace is shared by all threads.
+     * 
+     * @param workspace
+     *            the workspace to use
+     * @param applicationArguments
+     *            the arguments passed to the framework
+     * @return the framework, callers must close it after use
+     */
     public <T> EclipseFramework startFramework(EclipseWorkspace<T> workspace, List<String> applicationArguments)
             throws BundleException {
+        if (pool == null || !EclipseFrameworkPool.ENABLED || applicationArguments.contains(ARG_APPLICATION)
+                || (workspace.getThread() != null && workspace.getThread() != Thread.currentThread())) {
+            return newFramework(workspace, applicationArguments, null, null);
+        }
+        FrameworkKey key = new FrameworkKey(name, workspace, List.copyOf(applicationArguments),
+                Map.copyOf(frameworkProperties), Set.copyOf(startBundles), List.copyOf(getApplicationBundles()));
+        EclipseFramework framework = pool.acquire(key);
+        if (framework != null) {
+            logger.debug("Reusing framework of Eclipse Application " + name);
+            return framework;
+        }
+        return newFramework(workspace, applicationArguments, pool, key);
+    }
+
+    private <T> EclipseFramework newFramework(EclipseWorkspace<T> workspace, List<String> applicationArguments,
+            EclipseFrameworkPool pool, FrameworkKey key) throws BundleException {
         Map<String, String> frameworkProperties = getFrameworkProperties(workspace.getWorkDir());
         frameworkProperties.putAll(this.frameworkProperties);
         if (!applicationArguments.contains(ARG_APPLICATION)) {
@@ -245,7 +276,7 @@ public class EclipseApplication {
         }
         FrameworkWiring wiring = framework.adapt(FrameworkWiring.class);
         wiring.resolveBundles(Collections.emptyList());
-        return new EclipseFramework(framework, configuration, this, connector);
+        return new EclipseFramework(framework, configuration, this, connector, pool, key);
     }
 
     private boolean isDirectoryBundly(Path bundleFile) {
@@ -333,4 +364,13 @@ public class EclipseApplication {
         return logger;
     }
 
+    /**
+     * Describes everything a started framework depends on, frameworks are only shared between
+     * users with an equal key.
+     */
+    private static record FrameworkKey(String name, EclipseWorkspace<?> workspace, List<String> arguments,
+            Map<String, String> properties, Set<String> startBundles, List<Path> bundles)
+            implements EclipseFrameworkPool.Key {
+    }
+
 }
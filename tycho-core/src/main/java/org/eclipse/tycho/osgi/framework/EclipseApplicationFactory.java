@@ -57,6 +57,9 @@ public class EclipseApplicationFactory {
     @Requirement
     private Logger logger;
 
+    @Requirement
+    private EclipseFrameworkPool frameworkPool;
+
     private MavenSession mavenSession;
 
     @Inject
@@ -70,8 +73,10 @@ public class EclipseApplicationFactory {
 
     public EclipseApplication createEclipseApplication(TargetPlatform targetPlatform, String name) {
         P2Resolver resolver = createResolver();
-        EclipseApplication application = new EclipseApplication(name, resolver, targetPlatform, logger, mavenSession
-                .getAllProjects().stream().collect(Collectors.toMap(MavenProject::getBasedir, Function.identity())));
+        EclipseApplication application = new EclipseApplication(name, resolver, targetPlatform, logger,
+                mavenSession.getAllProjects().stream()
+                        .collect(Collectors.toMap(MavenProject::getBasedir, Function.identity())),
+                frameworkPool);
         //add the bare minimum required ...
         application.addBundle(Bundles.BUNDLE_CORE);
         application.addBundle(Bundles.BUNDLE_SCR);
@@ -23,7 +23,11 @@ import java.io.StreamCorruptedException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -36,6 +40,7 @@ import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.BundleException;
 import org.osgi.framework.launch.Framework;
+import org.osgi.framework.wiring.FrameworkWiring;
 
 public class EclipseFramework implements AutoCloseable {
 
@@ -43,18 +48,70 @@ public class EclipseFramework implements AutoCloseable {
     private final EquinoxConfiguration configuration;
     private final EclipseApplication application;
     private final EclipseModuleConnector connector;
+    private final EclipseFrameworkPool pool;
+    private final EclipseFrameworkPool.Key poolKey;
+    private final List<Bundle> installedBundles = new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, Bundle> runnableBundles = new HashMap<>();
     private AtomicBoolean started = new AtomicBoolean();
 
     EclipseFramework(Framework framework, EquinoxConfiguration configuration, EclipseApplication application,
             EclipseModuleConnector connector) {
+        this(framework, configuration, application, connector, null, null);
+    }
+
+    EclipseFramework(Framework framework, EquinoxConfiguration configuration, EclipseApplication application,
+            EclipseModuleConnector connector, EclipseFrameworkPool pool, EclipseFrameworkPool.Key poolKey) {
         this.framework = framework;
         this.configuration = configuration;
         this.application = application;
         this.connector = connector;
+        this.pool = pool;
+        this.poolKey = poolKey;
     }
 
+    /**
+     * Closes the framework, if it was obtained from a pool it is reset and kept for the next user
+     * instead of being stopped.
+     */
     @Override
     public void close() {
+        if (pool != null && started.get() && reset() && pool.release(poolKey, this)) {
+            return;
+        }
+        shutdown();
+    }
+
+    /**
+     * Removes everything a user has left in the framework, that is bundles installed with
+     * {@link #install(File)} and the projects of the workspace.
+     * 
+     * @return <code>true</code> if the framework can be reused
+     */
+    private boolean reset() {
+        try {
+            if (!installedBundles.isEmpty()) {
+                for (Bundle bundle : installedBundles) {
+                    if (bundle.getState() != Bundle.UNINSTALLED) {
+                        bundle.uninstall();
+                    }
+                }
+                installedBundles.clear();
+                framework.adapt(FrameworkWiring.class).refreshBundles(null);
+            }
+            if (hasBundle(Bundles.BUNDLE_RESOURCES)) {
+                execute(new ResetWorkspace());
+            }
+            return true;
+        } catch (BundleException | InvocationTargetException | RuntimeException e) {
+            application.getLogger().debug("Can't reset framework of " + application.getName() + ", stopping it", e);
+            return false;
+        }
+    }
+
+    /**
+     * Stops the framework regardless if it is pooled or not
+     */
+    void shutdown() {
         if (started.compareAndSet(true, false)) {
             try {
                 framework.stop();
@@ -124,25 +181,22 @@ public class EclipseFramework implements AutoCloseable {
         };
     }
 
-    @SuppressWarnings("unchecked")
     public <X extends Callable<R> & Serializable, R extends Serializable> R execute(X runnable)
             throws InvocationTargetException {
         try {
             start();
             byte[] runnableBytes = getBytes(runnable);
+            if (pool != null) {
+                // a pooled framework keeps the bundle, so the runnable can cache state between executions
+                Bundle bundle = getRunnableBundle(runnable.getClass());
+                return invoke(runnable, runnableBytes, bundle);
+            }
             BundleContext bundleContext = framework.getBundleContext();
             String newBundleId = connector.newBundle(runnable.getClass());
             Bundle bundle = bundleContext.installBundle(newBundleId);
             try {
                 bundle.start();
-                Class<?> foreignClass = bundle.loadClass(runnable.getClass().getName());
-                Object foreignObject = readObject(runnableBytes, foreignClass.getClassLoader());
-                Method method = foreignClass.getMethod("call");
-                byte[] resultBytes = getBytes(method.invoke(foreignObject));
-                if (resultBytes == null) {
-                    return null;
-                }
-                return (R) readObject(resultBytes, runnable.getClass().getClassLoader());
+                return invoke(runnable, runnableBytes, bundle);
             } finally {
                 bundle.uninstall();
                 connector.release(newBundleId);
@@ -155,6 +209,31 @@ public class EclipseFramework implements AutoCloseable {
         }
     }
 
+    private Bundle getRunnableBundle(Class<?> type) throws BundleException {
+        synchronized (runnableBundles) {
+            Bundle bundle = runnableBundles.get(type);
+            if (bundle == null) {
+                bundle = framework.getBundleContext().installBundle(connector.newBundle(type));
+                bundle.start();
+                runnableBundles.put(type, bundle);
+            }
+            return bundle;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <X extends Callable<R> & Serializable, R extends Serializable> R invoke(X runnable,
+            byte[] runnableBytes, Bundle bundle) throws Exception {
+        Class<?> foreignClass = bundle.loadClass(runnable.getClass().getName());
+        Object foreignObject = readObject(runnableBytes, foreignClass.getClassLoader());
+        Method method = foreignClass.getMethod("call");
+        byte[] resultBytes = getBytes(method.invoke(foreignObject));
+        if (resultBytes == null) {
+            return null;
+        }
+        return (R) readObject(resultBytes, runnable.getClass().getClassLoader());
+    }
+
     private Object readObject(byte[] runnableBytes, ClassLoader loader)
             throws IOException, ClassNotFoundException, StreamCorruptedException {
         Object foreignObject;
@@ -195,7 +274,9 @@ public class EclipseFramework implements AutoCloseable {
 
     public Bundle install(File file) throws IOException, BundleException {
         try (FileInputStream stream = new FileInputStream(file)) {
-            return framework.getBundleContext().installBundle(file.getAbsolutePath(), stream);
+            Bundle bundle = framework.getBundleContext().installBundle(file.getAbsolutePath(), stream);
+            installedBundles.add(bundle);
+            return bundle;
         }
     }
 
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.osgi.framework;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.codehaus.plexus.component.annotations.Component;
+import org.codehaus.plexus.personality.plexus.lifecycle.phase.Disposable;
+
+/**
+ * Keeps started {@link EclipseFramework}s alive between the mojo executions of a build, so the
+ * next module that needs the same application in the same workspace (and therefore on the same
+ * thread, see {@link EclipseWorkspaceManager}) does not have to install and resolve all bundles
+ * again. Workspaces shared by all threads (see
+ * {@link EclipseWorkspaceManager#getSharedWorkspace(java.net.URI, org.apache.maven.plugin.Mojo)})
+ * share their framework as well. At most one idle framework is kept per workspace, a framework
+ * released for a workspace replaces (and shuts down) the previous one. Idle frameworks are shut
+ * down when the session ends.
+ */
+@Component(role = EclipseFrameworkPool.class)
+public class EclipseFrameworkPool implements Disposable {
+
+    static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("tycho.eclipse.framework.pool", "true"));
+
+    /**
+     * Describes a pooled framework, keys must implement equals and hashCode
+     */
+    interface Key {
+        /**
+         * @return the workspace the framework uses
+         */
+        Object workspace();
+    }
+
+    private record Idle(Key key, EclipseFramework framework) {
+    }
+
+    private final Map<Object, Idle> idle = new HashMap<>();
+
+    /**
+     * @param key
+     *            the key describing the framework
+     * @return an idle framework for the given key or <code>null</code> if there is none
+     */
+    synchronized EclipseFramework acquire(Key key) {
+        Idle entry = idle.get(key.workspace());
+        if (entry == null || !entry.key().equals(key)) {
+            return null;
+        }
+        idle.remove(key.workspace());
+        return entry.framework();
+    }
+
+    /**
+     * Offers a framework that is no longer used to the pool.
+     *
+     * @return <code>true</code> if the framework was pooled, <code>false</code> if the caller has to
+     *         shut it down
+     */
+    boolean release(Key key, EclipseFramework framework) {
+        if (!ENABLED) {
+            return false;
+        }
+        Idle previous;
+        synchronized (this) {
+            previous = idle.put(key.workspace(), new Idle(key, framework));
+        }
+        if (previous != null) {
+            previous.framework().shutdown();
+        }
+        return true;
+    }
+
+    @Override
+    public void dispose() {
+        List<Idle> frameworks;
+        synchronized (this) {
+            frameworks = new ArrayList<>(idle.values());
+            idle.clear();
+        }
+        for (Idle entry : frameworks) {
+            entry.framework().shutdown();
+        }
+    }
+
+}
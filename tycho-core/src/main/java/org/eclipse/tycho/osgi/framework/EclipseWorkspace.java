@@ -42,6 +42,10 @@ public final class EclipseWorkspace<T> {
         return key;
     }
 
+    /**
+     * @return the thread this workspace belongs to, or <code>null</code> if it is shared by all
+     *         threads
+     */
     public Thread getThread() {
         return thread;
     }
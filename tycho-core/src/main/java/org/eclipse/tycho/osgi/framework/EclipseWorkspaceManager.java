@@ -36,6 +36,7 @@ import org.codehaus.plexus.personality.plexus.lifecycle.phase.Disposable;
 public class EclipseWorkspaceManager implements Disposable {
 
     private final Map<Thread, Map<Object, EclipseWorkspace<?>>> cache = new WeakHashMap<>();
+    private final Map<Object, EclipseWorkspace<?>> shared = new ConcurrentHashMap<>();
     private final List<EclipseWorkspace<?>> toclean = new ArrayList<>();
 
     @Requirement
@@ -64,9 +65,35 @@ public class EclipseWorkspaceManager implements Disposable {
         }
     }
 
+    /**
+     * Get a workspace that is unique for the given uri and mojo but shared by all threads, callers
+     * must make sure that only one thread at a time uses it, e.g. by synchronizing on the returned
+     * workspace.
+     * 
+     * @param uri
+     * @param mojo
+     * @return an {@link EclipseWorkspace} that does not belong to a thread
+     */
+    public EclipseWorkspace<?> getSharedWorkspace(URI uri, Mojo mojo) {
+        MojoKey key = new MojoKey(uri.normalize(), mojo.getClass().getName());
+        synchronized (cache) {
+            return shared.computeIfAbsent(key, x -> {
+                try {
+                    EclipseWorkspace<MojoKey> workspace = new EclipseWorkspace<>(
+                            Files.createTempDirectory("eclipseWorkspace"), key, null);
+                    toclean.add(workspace);
+                    return workspace;
+                } catch (IOException e) {
+                    throw new IllegalStateException("can't create a temporary directory for the workspace!", e);
+                }
+            });
+        }
+    }
+
     @Override
     public void dispose() {
         cache.clear();
+        shared.clear();
         for (EclipseWorkspace<?> workspace : toclean) {
             FileUtils.deleteQuietly(workspace.getWorkDir().toFile());
         }
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.osgi.framework;
+
+import java.io.Serializable;
+import java.util.concurrent.Callable;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+/**
+ * Removes all projects from the workspace of a framework before it is reused, the content of the
+ * projects on disk is left untouched.
+ */
+public class ResetWorkspace implements Callable<Boolean>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Boolean call() throws Exception {
+        IWorkspace workspace = ResourcesPlugin.getWorkspace();
+        for (IProject project : workspace.getRoot().getProjects()) {
+            project.delete(IResource.NEVER_DELETE_PROJECT_CONTENT | IResource.FORCE, new NullProgressMonitor());
+        }
+        workspace.save(true, new NullProgressMonitor());
+        return true;
+    }
+
+}
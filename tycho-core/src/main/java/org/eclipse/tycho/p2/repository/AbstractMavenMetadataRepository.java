@@ -60,6 +60,8 @@ public abstract class AbstractMavenMetadataRepository extends AbstractMetadataRe
 
     protected void load() {
         MetadataIO io = new MetadataIO();
+        GavDataCache cache = new GavDataCache(
+                new File(new File(getLocation()), GavDataCache.METADATA_CACHE_RELPATH));
 
         for (GAV gav : metadataIndex.getProjectGAVs()) {
             try {
@@ -68,13 +70,17 @@ public abstract class AbstractMavenMetadataRepository extends AbstractMetadataRe
                 if (!localArtifactFileLocation.exists()) {
                     // if files have been manually removed from the repository, simply remove them from the index (bug 351080)
                     metadataIndex.removeGav(gav);
+                    cache.remove(gav);
                 } else {
-                    try (InputStream is = new FileInputStream(localArtifactFileLocation)) {
-                        Set<IInstallableUnit> gavUnits = io.readXML(is);
-
-                        unitsMap.put(gav, gavUnits);
-                        units.addAll(gavUnits);
-                    }
+                    byte[] content = cache.get(gav, localArtifactFileLocation, file -> {
+                        try (InputStream is = new FileInputStream(file)) {
+                            return io.writeBinary(io.readXML(is));
+                        }
+                    });
+                    Set<IInstallableUnit> gavUnits = io.readBinary(content);
+
+                    unitsMap.put(gav, gavUnits);
+                    units.addAll(gavUnits);
                 }
             } catch (IOException e) {
                 // TODO throw properly typed exception if repository cannot be loaded
@@ -82,6 +88,11 @@ public abstract class AbstractMavenMetadataRepository extends AbstractMetadataRe
             }
 
         }
+        try {
+            cache.save();
+        } catch (IOException e) {
+            // the cache is optional, the next load simply reads the files again
+        }
     }
 
     @Override
@@ -167,6 +167,7 @@ public abstract class ArtifactRepositoryBaseImpl<ArtifactDescriptorT extends IAr
         Set<ArtifactDescriptorT> descriptorsForKey = descriptorsMap.computeIfAbsent(internalDescriptor.getArtifactKey(),
                 k -> ConcurrentHashMap.newKeySet());
         descriptorsForKey.add(internalDescriptor);
+        descriptorsChanged(internalDescriptor.getArtifactKey());
     }
 
     @Override
@@ -178,6 +179,7 @@ public abstract class ArtifactRepositoryBaseImpl<ArtifactDescriptorT extends IAr
             descriptors.remove(comparableDescriptor);
             return descriptors.isEmpty() ? null : descriptors;
         });
+        descriptorsChanged(artifactKey);
     }
 
     @Override
@@ -190,6 +192,17 @@ public abstract class ArtifactRepositoryBaseImpl<ArtifactDescriptorT extends IAr
     @Override
     protected void internalRemoveDescriptors(IArtifactKey key) {
         descriptorsMap.remove(key);
+        descriptorsChanged(key);
+    }
+
+    /**
+     * Called whenever descriptors for the given key were added or removed, the default
+     * implementation does nothing.
+     * 
+     * @param key
+     *            the key whose descriptors have changed
+     */
+    protected void descriptorsChanged(IArtifactKey key) {
     }
 
     @Override
@@ -24,10 +24,14 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.tycho.FileLockService;
 import org.eclipse.tycho.core.shared.MavenContext;
@@ -35,7 +39,9 @@ import org.eclipse.tycho.core.shared.MavenLogger;
 
 /**
  * Simplistic local Maven repository index to allow efficient lookup of all installed Tycho
- * projects. The content is persisted in a local file.
+ * projects. The content is persisted in a local file, changes saved with
+ * {@link #saveIncremental()} are appended to a journal next to this file first and only merged
+ * into the index file in batches.
  */
 public class FileBasedTychoRepositoryIndex implements TychoRepositoryIndex {
 
@@ -44,24 +50,44 @@ public class FileBasedTychoRepositoryIndex implements TychoRepositoryIndex {
 
     private static final String EOL = "\n";
 
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String JOURNAL_ADD = "+";
+    private static final String JOURNAL_REMOVE = "-";
+
+    /** number of journal entries after that the journal is merged into the index file */
+    private static final int JOURNAL_BATCH_SIZE = Integer.getInteger("tycho.p2.index.batch", 500);
+
+    /** maximum time changes are only kept in the journal */
+    private static final long JOURNAL_MAX_AGE = TimeUnit.SECONDS
+            .toMillis(Long.getLong("tycho.p2.index.batch.seconds", 30));
+
     private final File indexFile;
+    private final File journalFile;
     private final MavenLogger logger;
     private final FileLockService fileLockService;
 
     private Set<GAV> addedGavs = new HashSet<>();
     private Set<GAV> removedGavs = new HashSet<>();
     private Set<GAV> gavs = new HashSet<>();
+    private List<String> pendingJournalEntries = new ArrayList<>();
+    private int journalSize;
+    private long lastFullSave = System.currentTimeMillis();
     private MavenContext mavenContext;
 
     private FileBasedTychoRepositoryIndex(File indexFile, FileLockService fileLockService, MavenContext mavenContext) {
         super();
         this.indexFile = indexFile;
+        this.journalFile = new File(indexFile.getParentFile(), indexFile.getName() + JOURNAL_SUFFIX);
         this.mavenContext = mavenContext;
         this.fileLockService = fileLockService;
         this.logger = mavenContext.getLogger();
-        if (indexFile.isFile()) {
+        if (indexFile.isFile() || journalFile.isFile()) {
             try (var locked = fileLockService.lock(indexFile)) {
-                gavs = read(new FileInputStream(indexFile));
+                if (indexFile.isFile()) {
+                    gavs = read(new FileInputStream(indexFile));
+                }
+                // changes of a previous build that were not merged yet (e.g. because it was killed)
+                applyJournal(gavs);
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
@@ -80,7 +106,9 @@ public class FileBasedTychoRepositoryIndex implements TychoRepositoryIndex {
 
     @Override
     public synchronized void addGav(GAV gav) {
-        gavs.add(gav);
+        if (gavs.add(gav)) {
+            pendingJournalEntries.add(JOURNAL_ADD + gav.toExternalForm());
+        }
         this.addedGavs.add(gav);
         if (removedGavs.contains(gav)) {
             removedGavs.remove(gav);
@@ -89,13 +117,37 @@ public class FileBasedTychoRepositoryIndex implements TychoRepositoryIndex {
 
     @Override
     public synchronized void removeGav(GAV gav) {
-        gavs.remove(gav);
+        if (gavs.remove(gav)) {
+            pendingJournalEntries.add(JOURNAL_REMOVE + gav.toExternalForm());
+        }
         this.removedGavs.add(gav);
         if (addedGavs.contains(gav)) {
             addedGavs.remove(gav);
         }
     }
 
+    @Override
+    public synchronized void saveIncremental() throws IOException {
+        if (!indexFile.isFile() || journalSize + pendingJournalEntries.size() >= JOURNAL_BATCH_SIZE
+                || System.currentTimeMillis() - lastFullSave >= JOURNAL_MAX_AGE) {
+            save();
+            return;
+        }
+        if (pendingJournalEntries.isEmpty()) {
+            return;
+        }
+        try (var locked = fileLockService.lock(indexFile);
+                Writer out = new OutputStreamWriter(
+                        new BufferedOutputStream(new FileOutputStream(journalFile, true)), StandardCharsets.UTF_8)) {
+            for (String entry : pendingJournalEntries) {
+                out.write(entry);
+                out.write(EOL);
+            }
+        }
+        journalSize += pendingJournalEntries.size();
+        pendingJournalEntries.clear();
+    }
+
     @Override
     public synchronized void save() throws IOException {
         if (addedGavs.isEmpty() && removedGavs.isEmpty() && indexFile.isFile()) {
@@ -115,14 +167,20 @@ public class FileBasedTychoRepositoryIndex implements TychoRepositoryIndex {
                 indexFile.delete();
             }
             tempFile.renameTo(indexFile);
+            // all journal entries (including the ones of other processes) are now part of the index
+            journalFile.delete();
         }
+        pendingJournalEntries.clear();
+        journalSize = 0;
+        lastFullSave = System.currentTimeMillis();
     }
 
     private synchronized void reconcile() throws IOException {
         // re-read index from file system so that changes from other
         // processes which happened in the meantime are not discarded
-        if (indexFile.isFile()) {
-            gavs = read(new FileInputStream(indexFile));
+        if (indexFile.isFile() || journalFile.isFile()) {
+            gavs = indexFile.isFile() ? read(new FileInputStream(indexFile)) : new LinkedHashSet<>();
+            applyJournal(gavs);
             for (GAV addedGav : addedGavs) {
                 addGav(addedGav);
             }
@@ -144,6 +202,30 @@ public class FileBasedTychoRepositoryIndex implements TychoRepositoryIndex {
         }
     }
 
+    private void applyJournal(Set<GAV> gavs) throws IOException {
+        if (!journalFile.isFile()) {
+            return;
+        }
+        String content = Files.readString(journalFile.toPath(), StandardCharsets.UTF_8);
+        // only complete lines are used, the last one might be incomplete if a write was interrupted
+        content = content.substring(0, content.lastIndexOf(EOL) + 1);
+        for (String line : content.split(EOL)) {
+            if (line.length() < 2) {
+                continue;
+            }
+            try {
+                GAV gav = GAV.parse(line.substring(1));
+                if (line.startsWith(JOURNAL_ADD)) {
+                    gavs.add(gav);
+                } else if (line.startsWith(JOURNAL_REMOVE)) {
+                    gavs.remove(gav);
+                }
+            } catch (IllegalArgumentException e) {
+                logger.warn("Ignoring invalid line '" + line + "' in " + journalFile);
+            }
+        }
+    }
+
     private Set<GAV> read(InputStream inStream) throws IOException {
         LinkedHashSet<GAV> result = new LinkedHashSet<>();
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(inStream, StandardCharsets.UTF_8))) {
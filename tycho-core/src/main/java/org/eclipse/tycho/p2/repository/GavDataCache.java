@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2.repository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.tycho.CacheFiles;
+
+/**
+ * A consolidated cache file for the per GAV p2 data files (<code>p2artifacts.xml</code>,
+ * <code>p2content.xml</code>) of the local Maven repository. Instead of opening thousands of small
+ * files, the whole cache is read from one memory-mapped file. Each entry holds the already parsed
+ * data of its source file in a binary form (so the XML is only parsed when the file changes) and
+ * records the length and the last modification time of the file; it is only used as long as both
+ * still match.
+ * <p>
+ * The per GAV files stay the authoritative source and the cache can be deleted at any time. New
+ * entries are appended with a single write each, so concurrent builds can share the file; an
+ * incomplete tail (e.g. from an interrupted build) is ignored, and the file is rewritten once it
+ * contains too many outdated entries.
+ * </p>
+ */
+final class GavDataCache {
+
+    static final String ARTIFACTS_CACHE_RELPATH = ".meta/p2-artifacts.cache";
+    static final String METADATA_CACHE_RELPATH = ".meta/p2-local-metadata.cache";
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("tycho.p2.index.cache", "true"));
+
+    private static final int MAGIC = 0x54594332;
+    private static final int MIN_OBSOLETE_ENTRIES = 100;
+
+    /**
+     * Computes the data to cache for a source file
+     */
+    interface Loader {
+        byte[] load(File file) throws IOException;
+    }
+
+    private record Entry(GAV gav, long length, long lastModified, byte[] data) {
+
+        boolean matches(BasicFileAttributes attributes) {
+            return length == attributes.size() && lastModified == attributes.lastModifiedTime().toMillis();
+        }
+    }
+
+    private final File cacheFile;
+    private final Map<GAV, Entry> entries = new LinkedHashMap<>();
+    private final List<Entry> appendedEntries = new ArrayList<>();
+    private int obsoleteEntries;
+    private boolean rewrite;
+
+    GavDataCache(File cacheFile) {
+        this.cacheFile = cacheFile;
+        if (ENABLED) {
+            read();
+        }
+    }
+
+    /**
+     * Returns the cached data for the given GAV if its source file has not changed since it was
+     * cached, or loads (and caches) it otherwise.
+     *
+     * @param gav
+     *            the GAV the file belongs to
+     * @param file
+     *            the source file, must exist
+     * @param loader
+     *            computes the data on a cache miss
+     * @return the data
+     */
+    synchronized byte[] get(GAV gav, File file, Loader loader) throws IOException {
+        if (!ENABLED) {
+            return loader.load(file);
+        }
+        BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+        Entry entry = entries.get(gav);
+        if (entry != null && entry.matches(attributes)) {
+            return entry.data();
+        }
+        byte[] data = loader.load(file);
+        Entry newEntry = new Entry(gav, attributes.size(), attributes.lastModifiedTime().toMillis(), data);
+        if (entries.put(gav, newEntry) != null) {
+            obsoleteEntries++;
+        }
+        appendedEntries.add(newEntry);
+        return data;
+    }
+
+    /**
+     * Drops the entry of a GAV that is no longer part of the repository
+     */
+    synchronized void remove(GAV gav) {
+        if (entries.remove(gav) != null) {
+            obsoleteEntries++;
+        }
+    }
+
+    /**
+     * Appends all entries added since the last save to the cache file, or rewrites it if it
+     * contains too many outdated entries.
+     */
+    synchronized void save() throws IOException {
+        if (!ENABLED) {
+            return;
+        }
+        if (rewrite || !cacheFile.isFile()
+                || obsoleteEntries > Math.max(MIN_OBSOLETE_ENTRIES, entries.size() / 2)) {
+            writeAll();
+        } else if (!appendedEntries.isEmpty()) {
+            try (FileChannel channel = FileChannel.open(cacheFile.toPath(), StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND)) {
+                for (Entry entry : appendedEntries) {
+                    // one write per entry so concurrent appends never interleave within an entry
+                    ByteBuffer buffer = ByteBuffer.wrap(toBytes(entry));
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+            }
+        }
+        appendedEntries.clear();
+    }
+
+    private void writeAll() throws IOException {
+        CacheFiles.writeAtomically(cacheFile.toPath(), tempFile -> {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(Integer.BYTES).putInt(MAGIC).flip();
+                channel.write(header);
+                for (Entry entry : entries.values()) {
+                    ByteBuffer buffer = ByteBuffer.wrap(toBytes(entry));
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+            }
+        });
+        obsoleteEntries = 0;
+        rewrite = false;
+    }
+
+    private void read() {
+        if (!cacheFile.isFile()) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(cacheFile.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < Integer.BYTES || size > Integer.MAX_VALUE) {
+                rewrite = true;
+                return;
+            }
+            MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC) {
+                rewrite = true;
+                return;
+            }
+            while (buffer.hasRemaining()) {
+                Entry entry;
+                try {
+                    GAV gav = new GAV(readString(buffer), readString(buffer), readString(buffer));
+                    long length = buffer.getLong();
+                    long lastModified = buffer.getLong();
+                    byte[] data = new byte[buffer.getInt()];
+                    buffer.get(data);
+                    entry = new Entry(gav, length, lastModified, data);
+                } catch (RuntimeException e) {
+                    // incomplete or corrupt tail, e.g. from an interrupted write
+                    rewrite = true;
+                    return;
+                }
+                if (entries.put(entry.gav(), entry) != null) {
+                    obsoleteEntries++;
+                }
+            }
+        } catch (IOException e) {
+            entries.clear();
+            rewrite = true;
+        }
+    }
+
+    private static byte[] toBytes(Entry entry) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(entry.data().length + 128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, entry.gav().getGroupId());
+            writeString(out, entry.gav().getArtifactId());
+            writeString(out, entry.gav().getVersion());
+            out.writeLong(entry.length());
+            out.writeLong(entry.lastModified());
+            out.writeInt(entry.data().length);
+            out.write(entry.data());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -20,13 +20,12 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.stream.Collectors;
 
 import org.eclipse.equinox.p2.core.IProvisioningAgent;
 import org.eclipse.equinox.p2.metadata.IArtifactKey;
@@ -36,7 +35,8 @@ import org.eclipse.tycho.TychoConstants;
 
 public class LocalArtifactRepository extends ArtifactRepositoryBaseImpl<GAVArtifactDescriptor> {
 
-    private Set<IArtifactKey> descriptorsOnLastSave;
+    /** keys added or removed since the last save */
+    private final Set<IArtifactKey> unsavedKeys = ConcurrentHashMap.newKeySet();
     private final LocalRepositoryP2Indices localRepoIndices;
     private final RepositoryReader contentLocator;
     private final Map<IArtifactKey, Lock> downloadLocks = new ConcurrentHashMap<>();
@@ -56,53 +56,66 @@ public class LocalArtifactRepository extends ArtifactRepositoryBaseImpl<GAVArtif
     private void loadMaven() {
         final ArtifactsIO io = new ArtifactsIO();
         TychoRepositoryIndex index = localRepoIndices.getArtifactsIndex();
+        GavDataCache cache = new GavDataCache(
+                new File(localRepoIndices.getBasedir(), GavDataCache.ARTIFACTS_CACHE_RELPATH));
 
         for (final GAV gav : index.getProjectGAVs()) {
             try {
                 File localArtifactFileLocation = contentLocator.getLocalArtifactLocation(gav,
                         TychoConstants.CLASSIFIER_P2_ARTIFACTS, ArtifactType.TYPE_P2_ARTIFACTS);
                 if (localArtifactFileLocation.isFile()) {
-                    try (InputStream is = new FileInputStream(localArtifactFileLocation)) {
-                        final Set<IArtifactDescriptor> gavDescriptors = io.readXML(is);
-                        for (IArtifactDescriptor descriptor : gavDescriptors) {
-                            if (ArtifactTransferPolicy.isCanonicalFormat(descriptor)
-                                    && gav.getGroupId().startsWith(TychoConstants.P2_GROUPID_PREFIX)) {
-                                //we must use the key to get the correct artifact GAV location
-                                GAVArtifactDescriptor copy = new GAVArtifactDescriptor(descriptor.getArtifactKey());
-                                //but retain the properties of the given descriptor
-                                descriptor.getProperties().forEach(copy::setProperty);
-                                copy.setProcessingSteps(descriptor.getProcessingSteps());
-                                copy.setRepository(this);
-                                super.internalAddDescriptor(copy);
-                            } else {
-                                super.internalAddDescriptor(descriptor);
-                            }
+                    byte[] data = cache.get(gav, localArtifactFileLocation, file -> {
+                        try (InputStream is = new FileInputStream(file)) {
+                            return io.writeBinary(io.readXML(is));
+                        }
+                    });
+                    final Set<IArtifactDescriptor> gavDescriptors = io.readBinary(data);
+                    for (IArtifactDescriptor descriptor : gavDescriptors) {
+                        if (ArtifactTransferPolicy.isCanonicalFormat(descriptor)
+                                && gav.getGroupId().startsWith(TychoConstants.P2_GROUPID_PREFIX)) {
+                            //we must use the key to get the correct artifact GAV location
+                            GAVArtifactDescriptor copy = new GAVArtifactDescriptor(descriptor.getArtifactKey());
+                            //but retain the properties of the given descriptor
+                            descriptor.getProperties().forEach(copy::setProperty);
+                            copy.setProcessingSteps(descriptor.getProcessingSteps());
+                            copy.setRepository(this);
+                            super.internalAddDescriptor(copy);
+                        } else {
+                            super.internalAddDescriptor(descriptor);
                         }
                     }
                 } else {
                     // if files have been manually removed from the repository, simply remove them from the index (bug 351080)
                     index.removeGav(gav);
+                    cache.remove(gav);
                 }
             } catch (IOException e) {
                 index.removeGav(gav);
+                cache.remove(gav);
                 localRepoIndices.getMavenContext().getLogger().debug("Cannot read stored metadata", e);
             }
         }
-
-        descriptorsOnLastSave = currentKeys();
+        try {
+            cache.save();
+        } catch (IOException e) {
+            localRepoIndices.getMavenContext().getLogger().debug("Cannot write the artifacts cache", e);
+        }
+        // everything loaded is already saved
+        unsavedKeys.clear();
     }
 
+    /**
+     * Writes the descriptors added since the last save and records them in the index. The index
+     * itself is only saved incrementally (see {@link TychoRepositoryIndex#saveIncremental()}), it is
+     * fully saved at the end of the session by {@link LocalRepositoryP2Indices#flush()}.
+     */
     public synchronized void save() {
         TychoRepositoryIndex index = localRepoIndices.getArtifactsIndex();
 
         ArtifactsIO io = new ArtifactsIO();
 
-        Set<IArtifactKey> descriptors = currentKeys();
-
-        for (IArtifactKey key : descriptors) {
-            if (descriptorsOnLastSave.contains(key)) {
-                continue;
-            }
+        for (IArtifactKey key : List.copyOf(unsavedKeys)) {
+            unsavedKeys.remove(key);
             Set<GAVArtifactDescriptor> keyDescriptors = descriptorsMap.get(key);
             if (keyDescriptors != null && !keyDescriptors.isEmpty()) {
                 // all descriptors should have the same GAV
@@ -124,17 +137,10 @@ public class LocalArtifactRepository extends ArtifactRepositoryBaseImpl<GAVArtif
         }
 
         try {
-            index.save();
+            index.saveIncremental();
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-
-        descriptorsOnLastSave = new HashSet<>(descriptors);
-    }
-
-    protected HashSet<IArtifactKey> currentKeys() {
-        return flattenedValues().map(IArtifactDescriptor::getArtifactKey)
-                .collect(Collectors.toCollection(HashSet::new));
     }
 
     @Override
@@ -191,14 +197,7 @@ public class LocalArtifactRepository extends ArtifactRepositoryBaseImpl<GAVArtif
     }
 
     @Override
-    protected void internalRemoveDescriptors(IArtifactKey key) {
-        super.internalRemoveDescriptors(key);
-        descriptorsOnLastSave.remove(key);
-    }
-
-    @Override
-    public void internalAddDescriptor(IArtifactDescriptor descriptor) {
-        super.internalAddDescriptor(descriptor);
-        descriptorsOnLastSave.remove(descriptor.getArtifactKey());
+    protected void descriptorsChanged(IArtifactKey key) {
+        unsavedKeys.add(key);
     }
 }
@@ -91,7 +91,7 @@ public class LocalMetadataRepository extends AbstractMavenMetadataRepository {
         }
 
         try {
-            metadataIndex.save();
+            metadataIndex.saveIncremental();
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -33,4 +33,10 @@ public interface LocalRepositoryP2Indices {
 
     public void add(GAV gav) throws IOException;
 
+    /**
+     * Merges the index changes that are so far only journaled into the index files. Called at the
+     * end of each build session, as the indices may outlive a session (e.g. with mvnd).
+     */
+    public void flush();
+
 }
@@ -14,16 +14,27 @@
 package org.eclipse.tycho.p2.repository;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.URI;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParserFactory;
@@ -31,17 +42,64 @@ import javax.xml.parsers.SAXParserFactory;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.equinox.internal.p2.metadata.ArtifactKey;
+import org.eclipse.equinox.internal.p2.metadata.IRequiredCapability;
+import org.eclipse.equinox.internal.p2.metadata.InstallableUnit;
+import org.eclipse.equinox.internal.p2.metadata.RequiredCapability;
+import org.eclipse.equinox.internal.p2.metadata.RequiredPropertiesMatch;
 import org.eclipse.equinox.internal.p2.metadata.repository.Messages;
 import org.eclipse.equinox.internal.p2.metadata.repository.io.MetadataParser;
 import org.eclipse.equinox.internal.p2.metadata.repository.io.MetadataWriter;
+import org.eclipse.equinox.p2.metadata.IArtifactKey;
+import org.eclipse.equinox.p2.metadata.ICopyright;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.IInstallableUnitFragment;
+import org.eclipse.equinox.p2.metadata.IInstallableUnitPatch;
+import org.eclipse.equinox.p2.metadata.ILicense;
+import org.eclipse.equinox.p2.metadata.IProvidedCapability;
+import org.eclipse.equinox.p2.metadata.IRequirement;
+import org.eclipse.equinox.p2.metadata.ITouchpointData;
+import org.eclipse.equinox.p2.metadata.ITouchpointInstruction;
+import org.eclipse.equinox.p2.metadata.ITouchpointType;
+import org.eclipse.equinox.p2.metadata.IUpdateDescriptor;
 import org.eclipse.equinox.p2.metadata.MetadataFactory;
 import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitDescription;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionRange;
+import org.eclipse.equinox.p2.metadata.expression.ExpressionUtil;
+import org.eclipse.equinox.p2.metadata.expression.IFilterExpression;
+import org.eclipse.equinox.p2.metadata.expression.IMatchExpression;
 import org.xml.sax.Attributes;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
 public class MetadataIO {
+
+    /**
+     * versions, requirements and capabilities of all units read so far, identical instances of
+     * different units (and different repositories) are shared as long as any unit still uses them
+     */
+    private static final WeakInterner<Version> VERSIONS = new WeakInterner<>();
+    private static final WeakInterner<IRequirement> REQUIREMENTS = new WeakInterner<>();
+    private static final WeakInterner<IProvidedCapability> CAPABILITIES = new WeakInterner<>();
+
+    /** tags of units in the binary form */
+    private static final byte BINARY_UNIT = 0;
+    private static final byte XML_UNIT = 1;
+
+    /** tags of requirements in the binary form */
+    private static final byte RANGE_REQUIREMENT = 0;
+    private static final byte PROPERTIES_REQUIREMENT = 1;
+
+    /** tags of capability property values in the binary form */
+    private static final byte STRING_VALUE = 0;
+    private static final byte VERSION_VALUE = 1;
+    private static final byte LONG_VALUE = 2;
+    private static final byte INTEGER_VALUE = 3;
+    private static final byte DOUBLE_VALUE = 4;
+    private static final byte BOOLEAN_VALUE = 5;
+    private static final byte LIST_VALUE = 6;
+
     private static class Writer extends MetadataWriter {
 
         public Writer(OutputStream output) {
@@ -69,8 +127,6 @@ public class MetadataIO {
 
         private PARSER_MODE mode;
 
-        private List<InstallableUnitDescription> units;
-
         public Parser(PARSER_MODE mode) {
             super(SAXParserFactory.newInstance(), BundleConstants.BUNDLE_ID);
             this.mode = mode;
@@ -88,23 +144,27 @@ public class MetadataIO {
             return null;
         }
 
-        public synchronized void parse(InputStream stream, IProgressMonitor monitor) throws IOException {
+        /**
+         * Parses the given stream and passes each unit to the consumer as soon as it is read,
+         * so the units of the document are never held all at once. A parser instance is meant
+         * to parse exactly one stream, different instances can be used concurrently.
+         */
+        public void parse(InputStream stream, Consumer<InstallableUnitDescription> consumer,
+                IProgressMonitor monitor) throws IOException {
             this.status = null;
             setProgressMonitor(monitor);
             monitor.beginTask(Messages.repo_loading, IProgressMonitor.UNKNOWN);
             try {
-                // TODO: currently not caching the parser since we make no assumptions
-                // or restrictions on concurrent parsing
                 getParser();
-                InstallableUnitsHandler handler = new InstallableUnitsHandler();
+                InstallableUnitsHandler handler = new InstallableUnitsHandler(consumer);
                 if (mode.equals(PARSER_MODE.REPO))
                     xmlReader.setContentHandler(new RepositoryDocHandler(INSTALLABLE_UNITS_ELEMENT, handler));
                 else
                     xmlReader.setContentHandler(handler);
 
                 xmlReader.parse(new InputSource(stream));
-                if (isValidXML()) {
-                    units = handler.getUnits();
+                if (!isValidXML()) {
+                    throw new IOException(status.getMessage(), status.getException());
                 }
             } catch (SAXException e) {
                 if (!(e.getException() instanceof OperationCanceledException))
@@ -137,7 +197,30 @@ public class MetadataIO {
 
         private final class InstallableUnitsHandler extends RootHandler {
 
-            private List<InstallableUnitDescription> units = new ArrayList<>();
+            private final List<InstallableUnitDescription> units;
+
+            InstallableUnitsHandler(Consumer<InstallableUnitDescription> consumer) {
+                // the unit handler adds each unit to this list once it is complete, instead of
+                // collecting them the unit is directly passed on
+                this.units = new AbstractList<>() {
+
+                    @Override
+                    public boolean add(InstallableUnitDescription description) {
+                        consumer.accept(description);
+                        return true;
+                    }
+
+                    @Override
+                    public InstallableUnitDescription get(int index) {
+                        throw new IndexOutOfBoundsException(index);
+                    }
+
+                    @Override
+                    public int size() {
+                        return 0;
+                    }
+                };
+            }
 
             @Override
             protected void handleRootAttributes(Attributes attributes) {
@@ -145,10 +228,6 @@ public class MetadataIO {
 
             }
 
-            public List<InstallableUnitDescription> getUnits() {
-                return units;
-            }
-
             @Override
             public void startElement(String name, Attributes attributes) throws SAXException {
                 if (name.equals(INSTALLABLE_UNIT_ELEMENT)) {
@@ -158,31 +237,463 @@ public class MetadataIO {
                 }
             }
         }
-
-        public List<InstallableUnitDescription> getUnits() {
-            return units;
-        }
     }
 
     public InstallableUnitDescription readOneIU(InputStream is) throws IOException {
         Parser parser = new Parser(Parser.PARSER_MODE.IU);
-
-        parser.parse(is, new NullProgressMonitor());
-        return parser.getUnits().get(0);
+        List<InstallableUnitDescription> units = new ArrayList<>(1);
+        parser.parse(is, units::add, new NullProgressMonitor());
+        return units.get(0);
     }
 
     public Set<IInstallableUnit> readXML(InputStream is) throws IOException {
+        Set<IInstallableUnit> units = new LinkedHashSet<>();
+        readXML(is, units::add);
+        return units;
+    }
+
+    /**
+     * Reads the units of the given stream and passes each one to the consumer as soon as it is
+     * read. Ids and versions, requirements and capabilities of the units are shared with all other
+     * units read by this class.
+     * 
+     * @param is
+     *            the stream to read, it is closed afterwards
+     * @param consumer
+     *            the consumer that receives the units in document order
+     * @throws IOException
+     *             if reading failed
+     */
+    public void readXML(InputStream is, Consumer<IInstallableUnit> consumer) throws IOException {
         Parser parser = new Parser(Parser.PARSER_MODE.REPO);
+        parser.parse(is, description -> {
+            share(description);
+            consumer.accept(MetadataFactory.createInstallableUnit(description));
+        }, new NullProgressMonitor());
+    }
 
-        parser.parse(is, new NullProgressMonitor());
+    private static void share(InstallableUnitDescription description) {
+        if (description.getId() != null) {
+            description.setId(description.getId().intern());
+        }
+        description.setVersion(VERSIONS.intern(description.getVersion()));
+        description.setRequirements(share(description.getRequirements()));
+        description.setMetaRequirements(share(description.getMetaRequirements()));
+        description.setCapabilities(description.getProvidedCapabilities().stream()
+                .map(MetadataIO::share).toArray(IProvidedCapability[]::new));
+    }
 
-        Set<IInstallableUnit> units = new LinkedHashSet<>();
+    private static IRequirement[] share(Collection<IRequirement> requirements) {
+        return requirements.stream().map(MetadataIO::share).toArray(IRequirement[]::new);
+    }
 
-        for (InstallableUnitDescription desc : parser.getUnits()) {
-            units.add(MetadataFactory.createInstallableUnit(desc));
+    private static IRequirement share(IRequirement requirement) {
+        IRequirement candidate = requirement;
+        // only requirements on a name and version range, other requirements are kept as they are
+        if (requirement instanceof IRequiredCapability capability) {
+            // the requirement only keeps the bounds of the range, a new range is created on each access
+            VersionRange range = capability.getRange();
+            Version minimum = VERSIONS.intern(range.getMinimum());
+            Version maximum = VERSIONS.intern(range.getMaximum());
+            if (minimum != range.getMinimum() || maximum != range.getMaximum()) {
+                VersionRange sharedRange = new VersionRange(minimum, range.getIncludeMinimum(), maximum,
+                        range.getIncludeMaximum());
+                candidate = MetadataFactory.createRequirement(capability.getNamespace().intern(),
+                        capability.getName().intern(), sharedRange, capability.getFilter(), capability.getMin(),
+                        capability.getMax(), capability.isGreedy(), capability.getDescription());
+            }
         }
+        IRequirement shared = REQUIREMENTS.intern(candidate);
+        // the description is not part of the equality of requirements
+        return Objects.equals(shared.getDescription(), candidate.getDescription()) ? shared : candidate;
+    }
 
-        return units;
+    private static IProvidedCapability share(IProvidedCapability capability) {
+        IProvidedCapability candidate = capability;
+        // capabilities with additional attributes are kept as they are
+        Map<String, Object> properties = capability.getProperties();
+        if (properties.size() == 2 && properties.containsKey(capability.getNamespace())
+                && properties.containsKey(IProvidedCapability.PROPERTY_VERSION)) {
+            Version version = capability.getVersion();
+            Version sharedVersion = VERSIONS.intern(version);
+            if (sharedVersion != version) {
+                candidate = MetadataFactory.createProvidedCapability(capability.getNamespace().intern(),
+                        capability.getName().intern(), sharedVersion);
+            }
+        }
+        return CAPABILITIES.intern(candidate);
+    }
+
+    /**
+     * Writes the given units in a compact binary form that can be read back much faster than the
+     * XML form, see {@link #readBinary(byte[])}. Units that can't be represented in this form (e.g.
+     * fragments, patches or requirements with arbitrary match expressions) are embedded in XML form.
+     */
+    public byte[] writeBinary(Collection<? extends IInstallableUnit> units) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            List<IInstallableUnit> xmlUnits = new ArrayList<>();
+            out.writeInt(units.size());
+            for (IInstallableUnit unit : units) {
+                if (isBinaryCompatible(unit)) {
+                    out.writeByte(BINARY_UNIT);
+                    writeUnit(out, unit);
+                } else {
+                    out.writeByte(XML_UNIT);
+                    xmlUnits.add(unit);
+                }
+            }
+            // all other units go to one document so the XML parser is only set up once
+            if (!xmlUnits.isEmpty()) {
+                writeXML(xmlUnits, out);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads units written by {@link #writeBinary(Collection)}. Like for units read from XML, ids
+     * and versions, requirements and capabilities are shared with all other units read by this
+     * class.
+     */
+    public Set<IInstallableUnit> readBinary(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            int count = in.readInt();
+            // units in XML form are left empty until the XML document at the end is read
+            List<IInstallableUnit> units = new ArrayList<>(count);
+            boolean hasXMLUnits = false;
+            for (int i = 0; i < count; i++) {
+                if (in.readByte() == BINARY_UNIT) {
+                    InstallableUnitDescription description = readUnit(in);
+                    share(description);
+                    units.add(MetadataFactory.createInstallableUnit(description));
+                } else {
+                    units.add(null);
+                    hasXMLUnits = true;
+                }
+            }
+            if (hasXMLUnits) {
+                Iterator<IInstallableUnit> xmlUnits = readXML(in).iterator();
+                for (int i = 0; i < count; i++) {
+                    if (units.get(i) == null) {
+                        units.set(i, xmlUnits.next());
+                    }
+                }
+            }
+            return new LinkedHashSet<>(units);
+        } catch (RuntimeException e) {
+            throw new IOException("Invalid binary installable units", e);
+        }
+    }
+
+    private static boolean isBinaryCompatible(IInstallableUnit unit) {
+        if (unit instanceof IInstallableUnitFragment || unit instanceof IInstallableUnitPatch
+                || !unit.getFragments().isEmpty() || !isBinaryCompatible(unit.getFilter())) {
+            return false;
+        }
+        for (IRequirement requirement : unit.getRequirements()) {
+            if (!isBinaryCompatible(requirement)) {
+                return false;
+            }
+        }
+        for (IRequirement requirement : unit.getMetaRequirements()) {
+            if (!isBinaryCompatible(requirement)) {
+                return false;
+            }
+        }
+        for (IProvidedCapability capability : unit.getProvidedCapabilities()) {
+            for (Object value : capability.getProperties().values()) {
+                if (!isBinaryCompatible(value, true)) {
+                    return false;
+                }
+            }
+        }
+        IUpdateDescriptor updateDescriptor = unit.getUpdateDescriptor();
+        if (updateDescriptor != null) {
+            Collection<IMatchExpression<IInstallableUnit>> updated = updateDescriptor.getIUsBeingUpdated();
+            if (updated.size() != 1) {
+                return false;
+            }
+            IMatchExpression<IInstallableUnit> expression = updated.iterator().next();
+            if (!RequiredCapability.isVersionRangeRequirement(expression) || !IInstallableUnit.NAMESPACE_IU_ID
+                    .equals(RequiredCapability.extractNamespace(expression))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBinaryCompatible(IRequirement requirement) {
+        return isBinaryCompatible(requirement.getFilter()) && (requirement instanceof IRequiredCapability
+                || RequiredPropertiesMatch.isPropertiesMatchRequirement(requirement.getMatches()));
+    }
+
+    /**
+     * Filters are written in their LDAP form, like in the XML form
+     */
+    private static boolean isBinaryCompatible(IMatchExpression<IInstallableUnit> filter) {
+        if (filter == null) {
+            return true;
+        }
+        Object[] parameters = filter.getParameters();
+        return parameters.length == 1 && parameters[0] instanceof IFilterExpression;
+    }
+
+    private static boolean isBinaryCompatible(Object value, boolean allowList) {
+        if (value instanceof List<?> list) {
+            return allowList && list.stream().allMatch(element -> isBinaryCompatible(element, false));
+        }
+        return value instanceof String || value instanceof Version || value instanceof Long
+                || value instanceof Integer || value instanceof Double || value instanceof Boolean;
+    }
+
+    private static void writeUnit(DataOutputStream out, IInstallableUnit unit) throws IOException {
+        ArtifactsIO.writeString(out, unit.getId());
+        ArtifactsIO.writeString(out, unit.getVersion().toString());
+        out.writeBoolean(unit.isSingleton());
+        Map<String, String> properties = unit.getProperties();
+        out.writeInt(properties.size());
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            ArtifactsIO.writeString(out, property.getKey());
+            ArtifactsIO.writeString(out, property.getValue());
+        }
+        Collection<IProvidedCapability> capabilities = unit.getProvidedCapabilities();
+        out.writeInt(capabilities.size());
+        for (IProvidedCapability capability : capabilities) {
+            ArtifactsIO.writeString(out, capability.getNamespace());
+            Map<String, Object> attributes = capability.getProperties();
+            out.writeInt(attributes.size());
+            for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+                ArtifactsIO.writeString(out, attribute.getKey());
+                writeValue(out, attribute.getValue());
+            }
+        }
+        writeRequirements(out, unit.getRequirements());
+        writeRequirements(out, unit.getMetaRequirements());
+        Collection<IArtifactKey> artifacts = unit.getArtifacts();
+        out.writeInt(artifacts.size());
+        for (IArtifactKey artifact : artifacts) {
+            ArtifactsIO.writeString(out, artifact.getClassifier());
+            ArtifactsIO.writeString(out, artifact.getId());
+            ArtifactsIO.writeString(out, artifact.getVersion().toString());
+        }
+        ITouchpointType touchpointType = unit.getTouchpointType();
+        boolean hasTouchpointType = touchpointType != null && !ITouchpointType.NONE.equals(touchpointType);
+        out.writeBoolean(hasTouchpointType);
+        if (hasTouchpointType) {
+            ArtifactsIO.writeString(out, touchpointType.getId());
+            ArtifactsIO.writeString(out, touchpointType.getVersion().toString());
+        }
+        Collection<ITouchpointData> touchpointData = unit.getTouchpointData();
+        out.writeInt(touchpointData.size());
+        for (ITouchpointData data : touchpointData) {
+            Map<String, ITouchpointInstruction> instructions = data.getInstructions();
+            out.writeInt(instructions.size());
+            for (Map.Entry<String, ITouchpointInstruction> instruction : instructions.entrySet()) {
+                ArtifactsIO.writeString(out, instruction.getKey());
+                ArtifactsIO.writeString(out, instruction.getValue().getBody());
+                ArtifactsIO.writeString(out, instruction.getValue().getImportAttribute());
+            }
+        }
+        IUpdateDescriptor updateDescriptor = unit.getUpdateDescriptor();
+        out.writeBoolean(updateDescriptor != null);
+        if (updateDescriptor != null) {
+            IMatchExpression<IInstallableUnit> updated = updateDescriptor.getIUsBeingUpdated().iterator().next();
+            ArtifactsIO.writeString(out, RequiredCapability.extractName(updated));
+            ArtifactsIO.writeString(out, RequiredCapability.extractRange(updated).toString());
+            out.writeInt(updateDescriptor.getSeverity());
+            ArtifactsIO.writeString(out, updateDescriptor.getDescription());
+            writeURI(out, updateDescriptor.getLocation());
+        }
+        Collection<ILicense> licenses = unit.getLicenses();
+        out.writeInt(licenses.size());
+        for (ILicense license : licenses) {
+            writeURI(out, license.getLocation());
+            ArtifactsIO.writeString(out, license.getBody());
+        }
+        ICopyright copyright = unit.getCopyright();
+        out.writeBoolean(copyright != null);
+        if (copyright != null) {
+            writeURI(out, copyright.getLocation());
+            ArtifactsIO.writeString(out, copyright.getBody());
+        }
+        writeFilter(out, unit.getFilter());
+    }
+
+    private static InstallableUnitDescription readUnit(DataInputStream in) throws IOException {
+        InstallableUnitDescription description = new InstallableUnitDescription();
+        description.setId(ArtifactsIO.readString(in));
+        description.setVersion(Version.create(ArtifactsIO.readString(in)));
+        description.setSingleton(in.readBoolean());
+        int properties = in.readInt();
+        for (int i = 0; i < properties; i++) {
+            description.setProperty(ArtifactsIO.readString(in), ArtifactsIO.readString(in));
+        }
+        IProvidedCapability[] capabilities = new IProvidedCapability[in.readInt()];
+        for (int i = 0; i < capabilities.length; i++) {
+            String namespace = ArtifactsIO.readString(in);
+            int size = in.readInt();
+            Map<String, Object> attributes = new LinkedHashMap<>();
+            for (int j = 0; j < size; j++) {
+                attributes.put(ArtifactsIO.readString(in), readValue(in));
+            }
+            if (attributes.size() == 2 && attributes.get(namespace) instanceof String name
+                    && attributes.get(IProvidedCapability.PROPERTY_VERSION) instanceof Version version) {
+                // the plain form is much cheaper to create as it skips the validation of the attributes
+                capabilities[i] = MetadataFactory.createProvidedCapability(namespace, name, version);
+            } else {
+                capabilities[i] = MetadataFactory.createProvidedCapability(namespace, attributes);
+            }
+        }
+        description.setCapabilities(capabilities);
+        description.setRequirements(readRequirements(in));
+        description.setMetaRequirements(readRequirements(in));
+        IArtifactKey[] artifacts = new IArtifactKey[in.readInt()];
+        for (int i = 0; i < artifacts.length; i++) {
+            artifacts[i] = new ArtifactKey(ArtifactsIO.readString(in), ArtifactsIO.readString(in),
+                    Version.create(ArtifactsIO.readString(in)));
+        }
+        description.setArtifacts(artifacts);
+        if (in.readBoolean()) {
+            description.setTouchpointType(MetadataFactory.createTouchpointType(ArtifactsIO.readString(in),
+                    Version.create(ArtifactsIO.readString(in))));
+        }
+        int touchpointData = in.readInt();
+        for (int i = 0; i < touchpointData; i++) {
+            int size = in.readInt();
+            Map<String, Object> instructions = new LinkedHashMap<>();
+            for (int j = 0; j < size; j++) {
+                instructions.put(ArtifactsIO.readString(in), MetadataFactory
+                        .createTouchpointInstruction(ArtifactsIO.readString(in), ArtifactsIO.readString(in)));
+            }
+            description.addTouchpointData(MetadataFactory.createTouchpointData(instructions));
+        }
+        if (in.readBoolean()) {
+            description.setUpdateDescriptor(MetadataFactory.createUpdateDescriptor(ArtifactsIO.readString(in),
+                    VersionRange.create(ArtifactsIO.readString(in)), in.readInt(), ArtifactsIO.readString(in),
+                    readURI(in)));
+        }
+        ILicense[] licenses = new ILicense[in.readInt()];
+        for (int i = 0; i < licenses.length; i++) {
+            licenses[i] = MetadataFactory.createLicense(readURI(in), ArtifactsIO.readString(in));
+        }
+        description.setLicenses(licenses);
+        if (in.readBoolean()) {
+            description.setCopyright(MetadataFactory.createCopyright(readURI(in), ArtifactsIO.readString(in)));
+        }
+        description.setFilter(readFilter(in));
+        return description;
+    }
+
+    private static void writeRequirements(DataOutputStream out, Collection<IRequirement> requirements)
+            throws IOException {
+        out.writeInt(requirements.size());
+        for (IRequirement requirement : requirements) {
+            if (requirement instanceof IRequiredCapability capability) {
+                out.writeByte(RANGE_REQUIREMENT);
+                ArtifactsIO.writeString(out, capability.getNamespace());
+                ArtifactsIO.writeString(out, capability.getName());
+                ArtifactsIO.writeString(out, capability.getRange().toString());
+            } else {
+                out.writeByte(PROPERTIES_REQUIREMENT);
+                IMatchExpression<IInstallableUnit> matches = requirement.getMatches();
+                ArtifactsIO.writeString(out, RequiredPropertiesMatch.extractNamespace(matches));
+                ArtifactsIO.writeString(out, RequiredPropertiesMatch.extractPropertiesMatch(matches).toString());
+            }
+            writeFilter(out, requirement.getFilter());
+            out.writeInt(requirement.getMin());
+            out.writeInt(requirement.getMax());
+            out.writeBoolean(requirement.isGreedy());
+            ArtifactsIO.writeString(out, requirement.getDescription());
+        }
+    }
+
+    private static IRequirement[] readRequirements(DataInputStream in) throws IOException {
+        IRequirement[] requirements = new IRequirement[in.readInt()];
+        for (int i = 0; i < requirements.length; i++) {
+            byte kind = in.readByte();
+            String namespace = ArtifactsIO.readString(in);
+            if (kind == RANGE_REQUIREMENT) {
+                String name = ArtifactsIO.readString(in);
+                VersionRange range = VersionRange.create(ArtifactsIO.readString(in));
+                requirements[i] = MetadataFactory.createRequirement(namespace, name, range, readFilter(in),
+                        in.readInt(), in.readInt(), in.readBoolean(), ArtifactsIO.readString(in));
+            } else {
+                IFilterExpression propertiesMatch = ExpressionUtil.parseLDAP(ArtifactsIO.readString(in));
+                requirements[i] = MetadataFactory.createRequirement(namespace, propertiesMatch, readFilter(in),
+                        in.readInt(), in.readInt(), in.readBoolean(), ArtifactsIO.readString(in));
+            }
+        }
+        return requirements;
+    }
+
+    private static void writeFilter(DataOutputStream out, IMatchExpression<IInstallableUnit> filter)
+            throws IOException {
+        ArtifactsIO.writeString(out, filter == null ? null : filter.getParameters()[0].toString());
+    }
+
+    private static IMatchExpression<IInstallableUnit> readFilter(DataInputStream in) throws IOException {
+        String filter = ArtifactsIO.readString(in);
+        return filter == null ? null : InstallableUnit.parseFilter(filter);
+    }
+
+    private static void writeURI(DataOutputStream out, URI uri) throws IOException {
+        ArtifactsIO.writeString(out, uri == null ? null : uri.toString());
+    }
+
+    private static URI readURI(DataInputStream in) throws IOException {
+        String uri = ArtifactsIO.readString(in);
+        return uri == null ? null : URI.create(uri);
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof String string) {
+            out.writeByte(STRING_VALUE);
+            ArtifactsIO.writeString(out, string);
+        } else if (value instanceof Version version) {
+            out.writeByte(VERSION_VALUE);
+            ArtifactsIO.writeString(out, version.toString());
+        } else if (value instanceof Long number) {
+            out.writeByte(LONG_VALUE);
+            out.writeLong(number);
+        } else if (value instanceof Integer number) {
+            out.writeByte(INTEGER_VALUE);
+            out.writeInt(number);
+        } else if (value instanceof Double number) {
+            out.writeByte(DOUBLE_VALUE);
+            out.writeDouble(number);
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(BOOLEAN_VALUE);
+            out.writeBoolean(bool);
+        } else {
+            List<?> list = (List<?>) value;
+            out.writeByte(LIST_VALUE);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+        case STRING_VALUE -> ArtifactsIO.readString(in);
+        case VERSION_VALUE -> Version.create(ArtifactsIO.readString(in));
+        case LONG_VALUE -> in.readLong();
+        case INTEGER_VALUE -> in.readInt();
+        case DOUBLE_VALUE -> in.readDouble();
+        case BOOLEAN_VALUE -> in.readBoolean();
+        case LIST_VALUE -> {
+            int size = in.readInt();
+            List<Object> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(readValue(in));
+            }
+            yield list;
+        }
+        default -> throw new IOException("Unknown value type " + type);
+        };
     }
 
     public void writeXML(Collection<? extends IInstallableUnit> units, OutputStream os) throws IOException {
@@ -53,6 +53,18 @@ public interface TychoRepositoryIndex {
      */
     void save() throws IOException;
 
+    /**
+     * Persists the changes performed via {@link #addGav(GAV)} and {@link #removeGav(GAV)} in a
+     * cheaper way than {@link #save()}, e.g. by only appending them to a journal that is
+     * incorporated the next time the index is read or fully saved. Implementations decide when
+     * enough changes are collected to perform a full {@link #save()}.
+     * 
+     * @throws IOException
+     */
+    default void saveIncremental() throws IOException {
+        save();
+    }
+
     MavenContext getMavenContext();
 
 }
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2.repository;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares equal immutable objects, like {@link String#intern()} does for strings. Objects are only
+ * weakly referenced, so an object is dropped from the interner once nothing else uses it.
+ * <p>
+ * The interner is backed by a {@link ConcurrentHashMap}, so threads interning objects
+ * concurrently never block each other.
+ * </p>
+ */
+final class WeakInterner<T> {
+
+    private final ConcurrentHashMap<Entry<T>, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+
+    /**
+     * @return the instance that is equal to the given object and was interned first, or the given
+     *         object if there is none yet
+     */
+    T intern(T object) {
+        if (object == null) {
+            return null;
+        }
+        expungeCleared();
+        Entry<T> entry = new Entry<>(object, queue);
+        while (true) {
+            Entry<T> existing = entries.putIfAbsent(entry, entry);
+            if (existing == null) {
+                return object;
+            }
+            T shared = existing.get();
+            if (shared != null) {
+                return shared;
+            }
+            // cleared but not yet expunged
+            entries.remove(existing, existing);
+        }
+    }
+
+    private void expungeCleared() {
+        Reference<? extends T> cleared;
+        while ((cleared = queue.poll()) != null) {
+            entries.remove(cleared, cleared);
+        }
+    }
+
+    private static final class Entry<T> extends WeakReference<T> {
+        private final int hash;
+
+        Entry(T object, ReferenceQueue<T> queue) {
+            super(object, queue);
+            this.hash = object.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Entry<?> other) || other.hash != hash) {
+                return false;
+            }
+            // a cleared entry is only equal to itself, so it can still be removed
+            Object object = get();
+            return object != null && object.equals(other.get());
+        }
+    }
+}
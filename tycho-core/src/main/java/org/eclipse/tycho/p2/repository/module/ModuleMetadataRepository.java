@@ -78,7 +78,7 @@ public class ModuleMetadataRepository extends AbstractMetadataRepository2 {
         try {
             MetadataIO io = new MetadataIO();
             FileInputStream is = new FileInputStream(storage);
-            units.addAll(io.readXML(is));
+            io.readXML(is, units::add);
 
         } catch (IOException e) {
             String message = "I/O error while reading repository from " + storage;
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2resolver;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.SessionScoped;
+import org.codehaus.plexus.component.annotations.Component;
+import org.codehaus.plexus.component.annotations.Requirement;
+import org.codehaus.plexus.logging.Logger;
+import org.eclipse.tycho.core.resolver.P2ResolutionResult;
+import org.eclipse.tycho.p2maven.transport.TychoRepositoryTransport;
+
+/**
+ * Fetches the artifacts of a resolution result in the background, so that the downloads that would
+ * otherwise happen one by one whenever a mojo first accesses an artifact run concurrently right
+ * after the resolution. Artifacts are only prefetched once per build session, even if several
+ * modules resolve them, and callers accessing an artifact that is still being fetched simply wait
+ * for it.
+ */
+@Component(role = ArtifactPrefetcher.class)
+@SessionScoped
+public class ArtifactPrefetcher {
+
+    static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("tycho.p2.prefetch", "true"));
+
+    private static final int MAX_PARALLEL_FETCHES = Math.max(1, Integer.getInteger("tycho.p2.prefetch.threads", 4));
+
+    /** the number of progress messages logged for a large prefetch */
+    private static final int PROGRESS_STEPS = 4;
+
+    /** the minimum number of artifacts between two progress messages */
+    private static final int MIN_PROGRESS_STEP = 25;
+
+    /** artifacts prefetched in this session, a new session checks the local repository again */
+    private final Set<String> prefetched = ConcurrentHashMap.newKeySet();
+
+    @Requirement
+    private Logger logger;
+
+    public ArtifactPrefetcher() {
+    }
+
+    ArtifactPrefetcher(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Starts fetching all not yet available artifacts of the given entries, the call does not wait
+     * for the downloads to finish.
+     *
+     * @param entries
+     *            the entries of one or more resolution results
+     */
+    public void prefetch(Collection<P2ResolutionResult.Entry> entries) {
+        prefetch(entries, TychoRepositoryTransport.getDownloadExecutor());
+    }
+
+    void prefetch(Collection<P2ResolutionResult.Entry> entries, Executor executor) {
+        Queue<P2ResolutionResult.Entry> queue = new ConcurrentLinkedQueue<>();
+        for (P2ResolutionResult.Entry entry : entries) {
+            if (entry.getLocation(false) == null && prefetched.add(getKey(entry))) {
+                queue.add(entry);
+            }
+        }
+        int total = queue.size();
+        if (total == 0) {
+            return;
+        }
+        logger.info("Prefetching " + total + " artifacts using " + Math.min(total, MAX_PARALLEL_FETCHES)
+                + " parallel downloads");
+        int progressStep = Math.max(total / PROGRESS_STEPS, MIN_PROGRESS_STEP);
+        long start = System.currentTimeMillis();
+        AtomicInteger remaining = new AtomicInteger(total);
+        AtomicInteger failed = new AtomicInteger();
+        AtomicLong bytes = new AtomicLong();
+        Runnable worker = () -> {
+            P2ResolutionResult.Entry entry;
+            while ((entry = queue.poll()) != null) {
+                try {
+                    File file = entry.getLocation(true);
+                    if (file != null && file.isFile()) {
+                        bytes.addAndGet(file.length());
+                    }
+                } catch (RuntimeException e) {
+                    // the error is reported again when the artifact is actually used
+                    failed.incrementAndGet();
+                    prefetched.remove(getKey(entry));
+                    logger.debug("Prefetching " + getKey(entry) + " failed", e);
+                }
+                int left = remaining.decrementAndGet();
+                if (left == 0) {
+                    String summary = "Prefetched " + (total - failed.get()) + " of " + total + " artifacts ("
+                            + bytes.get() / 1024 + " KiB) in " + (System.currentTimeMillis() - start) + " ms";
+                    if (failed.get() > 0) {
+                        logger.info(summary + ", " + failed.get() + " failed and will be fetched on first use");
+                    } else {
+                        logger.info(summary);
+                    }
+                } else {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Prefetched " + getKey(entry) + ", " + left + " artifacts remaining");
+                    }
+                    int done = total - left;
+                    if (done % progressStep == 0) {
+                        logger.info("Prefetched " + done + " of " + total + " artifacts");
+                    }
+                }
+            }
+        };
+        for (int i = 0; i < Math.min(total, MAX_PARALLEL_FETCHES); i++) {
+            executor.execute(worker);
+        }
+    }
+
+    private static String getKey(P2ResolutionResult.Entry entry) {
+        return entry.getType() + ":" + entry.getId() + ":" + entry.getVersion() + ":" + entry.getClassifier();
+    }
+}
@@ -18,6 +18,7 @@ import java.io.IOException;
 
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
+import org.codehaus.plexus.personality.plexus.lifecycle.phase.Disposable;
 import org.eclipse.tycho.FileLockService;
 import org.eclipse.tycho.core.shared.MavenContext;
 import org.eclipse.tycho.p2.repository.FileBasedTychoRepositoryIndex;
@@ -26,7 +27,7 @@ import org.eclipse.tycho.p2.repository.LocalRepositoryP2Indices;
 import org.eclipse.tycho.p2.repository.TychoRepositoryIndex;
 
 @Component(role = LocalRepositoryP2Indices.class)
-public class LocalRepositoryP2IndicesImpl implements LocalRepositoryP2Indices {
+public class LocalRepositoryP2IndicesImpl implements LocalRepositoryP2Indices, Disposable {
 
     // injected members
     @Requirement
@@ -90,6 +91,26 @@ public class LocalRepositoryP2IndicesImpl implements LocalRepositoryP2Indices {
         index.save();
     }
 
+    @Override
+    public void dispose() {
+        flush();
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (!initialized) {
+            return;
+        }
+        // merge the changes that are so far only journaled into the index files
+        for (TychoRepositoryIndex index : new TychoRepositoryIndex[] { artifactsIndex, metadataIndex }) {
+            try {
+                index.save();
+            } catch (IOException e) {
+                mavenContext.getLogger().debug("Saving local repository index failed", e);
+            }
+        }
+    }
+
     public File getLocalRepositoryRoot() {
         if (localRepositoryRoot == null) {
             localRepositoryRoot = mavenContext.getLocalRepositoryRoot();
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2resolver;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.equinox.p2.core.ProvisionException;
+import org.eclipse.equinox.p2.repository.IRepository;
+import org.eclipse.equinox.p2.repository.IRepositoryReference;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepositoryManager;
+import org.eclipse.tycho.core.shared.DuplicateFilteringLoggingProgressMonitor;
+import org.eclipse.tycho.core.shared.MavenLogger;
+
+/**
+ * Loads metadata repositories (and if requested the metadata repositories they reference)
+ * concurrently with a bounded number of threads. Loading is started with
+ * {@link #schedule(URI)} and the result is obtained with {@link #load(URI)}, callers are
+ * expected to walk the repositories in their desired order so the result stays deterministic no
+ * matter in what order the repositories actually finish loading.
+ */
+class MetadataRepositoryLoader implements AutoCloseable {
+
+    static final int DEFAULT_THREADS = Integer.getInteger("tycho.p2.repository.load-threads", 4);
+
+    private final IMetadataRepositoryManager repositoryManager;
+    private final MavenLogger logger;
+    private final boolean includeReferences;
+    private final ExecutorService executorService;
+    private final Executor executor;
+    private final Map<URI, CompletableFuture<IMetadataRepository>> repositories = new ConcurrentHashMap<>();
+
+    /**
+     * @param repositoryManager
+     *            the manager used to load the repositories
+     * @param logger
+     *            the logger for progress reporting
+     * @param includeReferences
+     *            if referenced metadata repositories should be loaded as well
+     * @param threads
+     *            the maximum number of repositories loaded in parallel, a value &lt;= 1 means
+     *            repositories are loaded in the calling thread
+     */
+    MetadataRepositoryLoader(IMetadataRepositoryManager repositoryManager, MavenLogger logger,
+            boolean includeReferences, int threads) {
+        this.repositoryManager = repositoryManager;
+        this.logger = logger;
+        this.includeReferences = includeReferences;
+        if (threads > 1) {
+            executorService = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+
+                private AtomicInteger cnt = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r);
+                    thread.setName("Tycho-Repository-Loader-" + cnt.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            executor = executorService;
+        } else {
+            executorService = null;
+            executor = Runnable::run;
+        }
+    }
+
+    /**
+     * Schedules the given location for loading if not already done
+     *
+     * @param location
+     *            the location of the metadata repository
+     */
+    void schedule(URI location) {
+        CompletableFuture<IMetadataRepository> future = new CompletableFuture<>();
+        if (repositories.putIfAbsent(location.normalize(), future) != null) {
+            return;
+        }
+        executor.execute(() -> {
+            IMetadataRepository repository;
+            try {
+                repository = repositoryManager.loadRepository(location,
+                        new DuplicateFilteringLoggingProgressMonitor(logger));
+            } catch (ProvisionException | RuntimeException e) {
+                future.completeExceptionally(e);
+                return;
+            }
+            future.complete(repository);
+            if (includeReferences) {
+                // fetch the references ahead, if they are actually used is decided by the caller
+                for (IRepositoryReference reference : repository.getReferences()) {
+                    if ((reference.getOptions() | IRepository.ENABLED) != 0
+                            && reference.getType() == IRepository.TYPE_METADATA) {
+                        schedule(reference.getLocation());
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Loads the metadata repository at the given location, waiting for a previously scheduled
+     * load to complete
+     *
+     * @param location
+     *            the location of the metadata repository
+     * @return the loaded repository
+     * @throws ProvisionException
+     *             if loading the repository failed
+     */
+    IMetadataRepository load(URI location) throws ProvisionException {
+        schedule(location);
+        try {
+            return repositories.get(location.normalize()).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ProvisionException provisionException) {
+                throw provisionException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+}
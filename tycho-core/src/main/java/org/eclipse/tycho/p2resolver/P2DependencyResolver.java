@@ -20,6 +20,7 @@ package org.eclipse.tycho.p2resolver;
 import java.io.File;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -114,6 +115,9 @@ public class P2DependencyResolver implements DependencyResolver, Initializable {
     @Requirement
     private TychoProjectManager projectManager;
 
+    @Requirement
+    private ArtifactPrefetcher artifactPrefetcher;
+
     @Requirement
     private PlexusContainer plexus;
 
@@ -335,6 +339,7 @@ public class P2DependencyResolver implements DependencyResolver, Initializable {
 
         resolver.setAdditionalFilterProperties(configuration.getProfileProperties());
         resolver.setPomDependencies(configuration.getPomDependencies());
+        resolver.setParallelEnvironments(configuration.isParallelEnvironments());
 
         for (ReactorProject otherProject : reactorProjects) {
             projects.put(otherProject.getBasedir(), otherProject);
@@ -387,6 +392,14 @@ public class P2DependencyResolver implements DependencyResolver, Initializable {
 
             multiPlatform.addPlatform(environment, platform);
         }
+        if (ArtifactPrefetcher.ENABLED) {
+            List<P2ResolutionResult.Entry> entries = new ArrayList<>();
+            for (P2ResolutionResult result : results.values()) {
+                entries.addAll(result.getArtifacts());
+                entries.addAll(result.getDependencyFragments());
+            }
+            artifactPrefetcher.prefetch(entries);
+        }
 
         return multiPlatform;
     }
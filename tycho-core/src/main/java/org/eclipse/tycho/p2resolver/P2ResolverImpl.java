@@ -30,9 +30,14 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
-import org.apache.felix.resolver.util.CopyOnWriteSet;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.equinox.p2.metadata.IArtifactKey;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
@@ -93,6 +98,11 @@ public class P2ResolverImpl implements P2Resolver {
 
     private PomDependencies pomDependencies = PomDependencies.ignore;
 
+    private static final int THREADS = Math.max(1,
+            Integer.getInteger("tycho.resolver.threads", Runtime.getRuntime().availableProcessors()));
+
+    private boolean parallelEnvironments;
+
     private P2ResolverFactoryImpl p2ResolverFactoryImpl;
 
     public P2ResolverImpl(TargetPlatformFactory targetPlatformFactory, P2ResolverFactoryImpl p2ResolverFactoryImpl,
@@ -117,19 +127,50 @@ public class P2ResolverImpl implements P2Resolver {
 
         // we need a linked hashmap to maintain iteration-order, some of the code relies on it!
         Map<TargetEnvironment, P2ResolutionResult> results = new LinkedHashMap<>();
-        Set<IInstallableUnit> usedTargetPlatformUnits = new LinkedHashSet<>();
-        Set<IInstallableUnit> usedShadowedUnits = new CopyOnWriteSet<>();
-        for (TargetEnvironment environment : environments) {
-            results.put(environment,
-                    resolveDependencies(Collections.emptySet(), project, new ProjectorResolutionStrategy(logger) {
-                        @Override
-                        protected Slicer newSlicer(IQueryable<IInstallableUnit> availableUnits,
-                                Map<String, String> properties) {
-                            return super.newSlicer(
-                                    new ShadowedUnitsQueryable(targetPlatform, availableUnits, usedShadowedUnits),
-                                    properties);
-                        }
-                    }, environment, targetPlatform, usedTargetPlatformUnits));
+        // environments might be resolved concurrently so the shared sets must be thread-safe
+        Set<IInstallableUnit> usedTargetPlatformUnits = Collections.synchronizedSet(new LinkedHashSet<>());
+        Set<IInstallableUnit> usedShadowedUnits = ConcurrentHashMap.newKeySet();
+        Function<TargetEnvironment, P2ResolutionResult> resolver = environment -> resolveDependencies(
+                Collections.emptySet(), project, new ProjectorResolutionStrategy(logger) {
+                    @Override
+                    protected Slicer newSlicer(IQueryable<IInstallableUnit> availableUnits,
+                            Map<String, String> properties) {
+                        return super.newSlicer(
+                                new ShadowedUnitsQueryable(targetPlatform, availableUnits, usedShadowedUnits),
+                                properties);
+                    }
+                }, environment, targetPlatform, usedTargetPlatformUnits);
+        if (parallelEnvironments && environments.size() > 1) {
+            // each environment uses its own strategy (and therefore projector), the results are
+            // collected in the order of the environments
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(THREADS, environments.size()));
+            try {
+                List<Future<P2ResolutionResult>> resolved = new ArrayList<>();
+                for (TargetEnvironment environment : environments) {
+                    resolved.add(executor.submit(() -> resolver.apply(environment)));
+                }
+                for (int i = 0; i < environments.size(); i++) {
+                    results.put(environments.get(i), resolved.get(i).get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DependencyResolutionException("Resolving the dependencies of " + project + " was interrupted",
+                        e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new DependencyResolutionException("Cannot resolve dependencies of " + project, e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        } else {
+            for (TargetEnvironment environment : environments) {
+                results.put(environment, resolver.apply(environment));
+            }
         }
         targetPlatform.reportUsedLocalIUs(usedTargetPlatformUnits);
         for (IInstallableUnit unit : usedShadowedUnits) {
@@ -228,7 +269,8 @@ public class P2ResolverImpl implements P2Resolver {
             if (project != null && p2ResolverFactoryImpl != null && pomDependencies != PomDependencies.ignore) {
                 data.setAdditionalUnitStore(p2ResolverFactoryImpl.getPomUnits().createPomQueryable(project));
             }
-            newState = strategy.resolve(environment, monitor);
+            // progress monitors are not thread-safe and environments might be resolved in parallel
+            newState = strategy.resolve(environment, new LoggingProgressMonitor(logger));
         } catch (ResolverException e) {
             logger.info(e.getSelectionContext());
             logger.error("Cannot resolve project dependencies:");
@@ -320,6 +362,11 @@ public class P2ResolverImpl implements P2Resolver {
 
     }
 
+    @Override
+    public void setParallelEnvironments(boolean parallelEnvironments) {
+        this.parallelEnvironments = parallelEnvironments;
+    }
+
     public List<IRequirement> getAdditionalRequirements() {
         return additionalRequirements;
     }
@@ -419,14 +419,22 @@ public class TargetPlatformFactoryImpl implements TargetPlatformFactory {
 
         List<IMetadataRepository> metadataRepositories = new ArrayList<>();
         Set<URI> loaded = new HashSet<>();
-        for (MavenRepositoryLocation location : completeRepositories) {
-            artifactRepositories.add(location.getURL());
-            try {
-                loadMetadataRepository(location, metadataRepositories, loaded, artifactRepositories, includeReferences);
-            } catch (ProvisionException e) {
-                String idMessage = location.getId() == null ? "" : " with ID '" + location.getId() + "'";
-                throw new RuntimeException(
-                        "Failed to load p2 repository" + idMessage + " from location " + location.getURL(), e);
+        try (MetadataRepositoryLoader loader = new MetadataRepositoryLoader(remoteMetadataRepositoryManager, logger,
+                includeReferences, MetadataRepositoryLoader.DEFAULT_THREADS)) {
+            // start loading of all repositories upfront, the result is then collected in the declared order
+            for (MavenRepositoryLocation location : completeRepositories) {
+                loader.schedule(location.getURL());
+            }
+            for (MavenRepositoryLocation location : completeRepositories) {
+                artifactRepositories.add(location.getURL());
+                try {
+                    loadMetadataRepository(location, metadataRepositories, loaded, artifactRepositories,
+                            includeReferences, loader);
+                } catch (ProvisionException e) {
+                    String idMessage = location.getId() == null ? "" : " with ID '" + location.getId() + "'";
+                    throw new RuntimeException(
+                            "Failed to load p2 repository" + idMessage + " from location " + location.getURL(), e);
+                }
             }
         }
         if (includeLocalMavenRepo) {
@@ -444,15 +452,14 @@ public class TargetPlatformFactoryImpl implements TargetPlatformFactory {
             logger.debug("Added " + countElements(locallyInstalledIUs.iterator())
                     + " locally built units to the target platform");
         }
-
         return result;
     }
 
     private void loadMetadataRepository(MavenRepositoryLocation location,
             List<IMetadataRepository> metadataRepositories, Set<URI> loaded, Set<URI> artifactRepositories,
-            boolean includeReferences) throws ProvisionException {
+            boolean includeReferences, MetadataRepositoryLoader loader) throws ProvisionException {
         if (loaded.add(location.getURL().normalize())) {
-            IMetadataRepository repository = remoteMetadataRepositoryManager.loadRepository(location.getURL(), monitor);
+            IMetadataRepository repository = loader.load(location.getURL());
             metadataRepositories.add(repository);
             if (includeReferences) {
                 for (IRepositoryReference reference : repository.getReferences()) {
@@ -461,7 +468,8 @@ public class TargetPlatformFactoryImpl implements TargetPlatformFactory {
                             try {
                                 loadMetadataRepository(
                                         new MavenRepositoryLocation(reference.getNickname(), reference.getLocation()),
-                                        metadataRepositories, loaded, artifactRepositories, includeReferences);
+                                        metadataRepositories, loaded, artifactRepositories, includeReferences,
+                                        loader);
                             } catch (ProvisionException e) {
                                 logger.warn("Loading referenced repository failed: " + e.getMessage(),
                                         logger.isDebugEnabled() ? e : null);
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.core.resolver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.tycho.p2maven.advices.MavenPropertiesAdvice;
+import org.eclipse.tycho.test.util.InstallableUnitUtil;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class InstallableUnitCacheTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testUnitIsCachedByContentAndContext() throws Exception {
+        InstallableUnitCache cache = new InstallableUnitCache(tempFolder.newFolder("cache"));
+        File artifact = tempFolder.newFile("bundle.jar");
+        Files.writeString(artifact.toPath(), "content");
+        MavenPropertiesAdvice advice = new MavenPropertiesAdvice("group", "bundle", "1.0.0");
+        String key = cache.getKey(artifact, advice, "bundle");
+        assertNull(cache.getUnit(key));
+
+        IInstallableUnit unit = InstallableUnitUtil.createIUArtifact("bundle", "1.0.0", "bundle", "1.0.0");
+        cache.putUnit(key, unit);
+        IInstallableUnit cached = cache.getUnit(key);
+        assertEquals(unit, cached);
+        assertEquals(unit.getArtifacts(), cached.getArtifacts());
+
+        // the same content at another location shares the entry
+        File copy = tempFolder.newFile("copy.jar");
+        Files.writeString(copy.toPath(), "content");
+        assertEquals(key, cache.getKey(copy, advice, "bundle"));
+
+        assertNotEquals(key, cache.getKey(artifact, advice, "wrapped"));
+        assertNotEquals(key, cache.getKey(artifact, new MavenPropertiesAdvice("group", "bundle", "1.0.1"), "bundle"));
+        File changed = tempFolder.newFile("changed.jar");
+        Files.writeString(changed.toPath(), "changed content");
+        assertNotEquals(key, cache.getKey(changed, advice, "bundle"));
+    }
+
+    @Test
+    public void testCorruptEntryIsIgnored() throws Exception {
+        InstallableUnitCache cache = new InstallableUnitCache(tempFolder.newFolder("cache"));
+        File artifact = tempFolder.newFile("bundle.jar");
+        String key = cache.getKey(artifact, new MavenPropertiesAdvice("group", "bundle", "1.0.0"));
+        File entry = cache.getFile(key, "content.xml");
+        entry.getParentFile().mkdirs();
+        Files.writeString(entry.toPath(), "<units");
+        assertNull(cache.getUnit(key));
+    }
+}
@@ -19,6 +19,7 @@ import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.nio.file.Files;
 
 import org.codehaus.plexus.util.FileUtils;
 import org.eclipse.tycho.core.osgitools.BundleReader;
@@ -125,6 +126,32 @@ public class DefaultBundleReaderTest extends TychoPlexusTestCase {
         assertEquals("org.eclipse.tycho.test", manifest.getBundleSymbolicName());
     }
 
+    @Test
+    public void testLoadManifestFromPersistentCache() throws Exception {
+        File jar = new File(cacheDir, "test.jar");
+        FileUtils.copyFile(new File("src/test/resources/bundlereader/jarshape/test.jar"), jar);
+        long lastModified = jar.lastModified();
+        assertEquals("org.eclipse.tycho.test", bundleReader.loadManifest(jar).getBundleSymbolicName());
+        // destroy the jar but keep size and timestamp => the cached manifest must be used
+        Files.write(jar.toPath(), new byte[(int) jar.length()]);
+        jar.setLastModified(lastModified);
+        DefaultBundleReader otherReader = new DefaultBundleReader();
+        otherReader.setLocationRepository(cacheDir);
+        assertEquals("org.eclipse.tycho.test", otherReader.loadManifest(jar).getBundleSymbolicName());
+        // a changed timestamp invalidates the cached manifest
+        jar.setLastModified(lastModified - 10000);
+        DefaultBundleReader changedReader = new DefaultBundleReader();
+        changedReader.setLocationRepository(cacheDir);
+        assertThrows(OsgiManifestParserException.class, () -> changedReader.loadManifest(jar));
+    }
+
+    @Test
+    public void testJarsOutsideOfLocalRepositoryAreNotPersisted() throws Exception {
+        File jar = new File("src/test/resources/bundlereader/jarshape/test.jar");
+        assertEquals("org.eclipse.tycho.test", bundleReader.loadManifest(jar).getBundleSymbolicName());
+        assertFalse(new File(cacheDir, DefaultBundleReader.CACHE_PATH + "/manifests").exists());
+    }
+
     @Test
     public void testLoadManifestFromInvalidDir() throws Exception {
         // dir has no META-INF/MANIFEST.MF nor plugin.xml/fragment.xml
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2resolver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.codehaus.plexus.logging.Logger;
+import org.eclipse.tycho.core.resolver.DefaultP2ResolutionResultEntry;
+import org.eclipse.tycho.core.resolver.P2ResolutionResult;
+import org.junit.Test;
+
+public class ArtifactPrefetcherTest {
+
+    @Test
+    public void testMissingArtifactsAreFetchedOnce() {
+        AtomicInteger fetches = new AtomicInteger();
+        P2ResolutionResult.Entry missing = createEntry("prefetch.missing", fetches);
+        P2ResolutionResult.Entry sameInOtherModule = createEntry("prefetch.missing", fetches);
+        P2ResolutionResult.Entry available = new DefaultP2ResolutionResultEntry("eclipse-plugin", "prefetch.available",
+                "1.0.0", null, new File("available.jar"));
+
+        ArtifactPrefetcher prefetcher = new ArtifactPrefetcher(mock(Logger.class));
+        prefetcher.prefetch(List.of(missing, available), Runnable::run);
+        prefetcher.prefetch(List.of(sameInOtherModule), Runnable::run);
+
+        assertEquals(1, fetches.get());
+        assertEquals(new File("prefetch.missing.jar"), missing.getLocation(false));
+        // the artifact is fetched on first access only
+        assertNull(sameInOtherModule.getLocation(false));
+    }
+
+    @Test
+    public void testArtifactsAreFetchedAgainInNewSession() {
+        AtomicInteger fetches = new AtomicInteger();
+        new ArtifactPrefetcher(mock(Logger.class)).prefetch(List.of(createEntry("prefetch.session", fetches)),
+                Runnable::run);
+        new ArtifactPrefetcher(mock(Logger.class)).prefetch(List.of(createEntry("prefetch.session", fetches)),
+                Runnable::run);
+
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    public void testSummaryAndProgressAreLoggedAtInfo() {
+        AtomicInteger fetches = new AtomicInteger();
+        List<P2ResolutionResult.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entries.add(createEntry("prefetch.progress" + i, fetches));
+        }
+        Logger logger = mock(Logger.class);
+        new ArtifactPrefetcher(logger).prefetch(entries, Runnable::run);
+
+        verify(logger).info(startsWith("Prefetching 100 artifacts"));
+        verify(logger).info("Prefetched 25 of 100 artifacts");
+        verify(logger).info("Prefetched 50 of 100 artifacts");
+        verify(logger).info("Prefetched 75 of 100 artifacts");
+        verify(logger).info(startsWith("Prefetched 100 of 100 artifacts ("));
+        verify(logger, times(5)).info(startsWith("Prefetch"));
+    }
+
+    private static P2ResolutionResult.Entry createEntry(String id, AtomicInteger fetches) {
+        return new DefaultP2ResolutionResultEntry("eclipse-plugin", id, "1.0.0", null, () -> {
+            fetches.incrementAndGet();
+            return new File(id + ".jar");
+        });
+    }
+}
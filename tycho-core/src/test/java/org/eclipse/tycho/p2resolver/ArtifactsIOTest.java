@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2resolver;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.equinox.internal.p2.artifact.repository.simple.SimpleArtifactDescriptor;
+import org.eclipse.equinox.internal.p2.metadata.ArtifactKey;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactDescriptor;
+import org.eclipse.equinox.p2.repository.artifact.spi.ArtifactDescriptor;
+import org.eclipse.equinox.p2.repository.artifact.spi.ProcessingStepDescriptor;
+import org.eclipse.tycho.p2.repository.ArtifactsIO;
+import org.junit.Test;
+
+public class ArtifactsIOTest {
+
+    @Test
+    public void testBinaryRoundTripOfRepositories() throws Exception {
+        for (String repository : List.of("e342", "patch")) {
+            Set<IArtifactDescriptor> expected;
+            try (InputStream is = new FileInputStream(
+                    new File("src/test/resources/repositories/" + repository + "/artifacts.xml"))) {
+                expected = new ArtifactsIO().readXML(is);
+            }
+            assertSameDescriptors(expected, new ArtifactsIO().readBinary(new ArtifactsIO().writeBinary(expected)));
+        }
+    }
+
+    @Test
+    public void testBinaryRoundTripKeepsDescriptorTypes() throws Exception {
+        ArtifactKey key = new ArtifactKey("osgi.bundle", "a", Version.create("1.0.0"));
+        SimpleArtifactDescriptor simple = new SimpleArtifactDescriptor(key);
+        simple.setProperty(IArtifactDescriptor.FORMAT, IArtifactDescriptor.FORMAT_PACKED);
+        simple.setRepositoryProperty("artifact.reference", "file:/a.jar");
+        simple.setProcessingSteps(new ProcessingStepDescriptor[] {
+                new ProcessingStepDescriptor("org.eclipse.equinox.p2.processing.Pack200Unpacker", null, true) });
+        ArtifactDescriptor plain = new ArtifactDescriptor(new ArtifactKey("binary", "b", Version.create("2.0.0")));
+        plain.setProperty("download.size", "42");
+        Set<IArtifactDescriptor> expected = new LinkedHashSet<>(List.of(simple, plain));
+        assertSameDescriptors(expected, new ArtifactsIO().readBinary(new ArtifactsIO().writeBinary(expected)));
+    }
+
+    private static void assertSameDescriptors(Set<IArtifactDescriptor> expected, Set<IArtifactDescriptor> actual) {
+        assertEquals(expected.size(), actual.size());
+        Iterator<IArtifactDescriptor> actualDescriptors = actual.iterator();
+        for (IArtifactDescriptor descriptor : expected) {
+            IArtifactDescriptor read = actualDescriptors.next();
+            assertEquals(descriptor.getClass(), read.getClass());
+            assertEquals(descriptor.getArtifactKey(), read.getArtifactKey());
+            assertEquals(descriptor.getProperties(), read.getProperties());
+            assertArrayEquals(descriptor.getProcessingSteps(), read.getProcessingSteps());
+            if (descriptor instanceof SimpleArtifactDescriptor simple) {
+                assertEquals(simple.getRepositoryProperties(),
+                        ((SimpleArtifactDescriptor) read).getRepositoryProperties());
+            }
+        }
+    }
+}
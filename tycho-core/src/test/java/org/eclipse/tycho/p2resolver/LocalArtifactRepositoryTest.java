@@ -22,6 +22,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Files;
 
 import org.codehaus.plexus.component.repository.exception.ComponentLookupException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -33,6 +34,7 @@ import org.eclipse.equinox.p2.core.IProvisioningAgent;
 import org.eclipse.equinox.p2.core.ProvisionException;
 import org.eclipse.equinox.p2.metadata.IArtifactKey;
 import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactDescriptor;
 import org.eclipse.equinox.p2.repository.artifact.IArtifactRepository;
 import org.eclipse.equinox.p2.repository.artifact.IArtifactRequest;
 import org.eclipse.equinox.p2.repository.artifact.spi.ArtifactDescriptor;
@@ -96,6 +98,26 @@ public class LocalArtifactRepositoryTest extends TychoPlexusTestCase {
         assertTrue(artifactIndex.getProjectGAVs().isEmpty());
     }
 
+    @Test
+    public void testIncrementalSaveUsesJournal() throws ComponentLookupException {
+        LocalArtifactRepository repo = new LocalArtifactRepository(lookup(IProvisioningAgent.class),
+                mvnRepo.getLocalRepositoryIndex());
+        repo.addDescriptor(newBundleArtifactDescriptor(false));
+        repo.save();
+        repo.addDescriptor(newBundleArtifactDescriptor(true));
+        repo.save();
+
+        File journal = new File(mvnRepo.getLocalRepositoryRoot(),
+                FileBasedTychoRepositoryIndex.ARTIFACTS_INDEX_RELPATH + ".journal");
+        assertTrue(journal.isFile());
+        // the journal must be taken into account even if it was never merged (e.g. the build was killed)
+        assertEquals(2, createArtifactsIndex(mvnRepo.getLocalRepositoryRoot()).getProjectGAVs().size());
+
+        mvnRepo.getLocalRepositoryIndex().flush();
+        assertFalse(journal.isFile());
+        assertEquals(2, createArtifactsIndex(mvnRepo.getLocalRepositoryRoot()).getProjectGAVs().size());
+    }
+
     @Test
     public void getP2Location() throws ComponentLookupException {
         LocalArtifactRepository repo = new LocalArtifactRepository(lookup(IProvisioningAgent.class),
@@ -229,6 +251,35 @@ public class LocalArtifactRepositoryTest extends TychoPlexusTestCase {
         assertTrue(repo.contains(p2Artifact.getArtifactKey()));
     }
 
+    @Test
+    public void reloadFromCache() throws Exception {
+        LocalArtifactRepository repo = new LocalArtifactRepository(lookup(IProvisioningAgent.class),
+                mvnRepo.getLocalRepositoryIndex());
+        ArtifactDescriptor mavenArtifact = newBundleArtifactDescriptor(true);
+        writeDummyArtifact(repo, mavenArtifact);
+        repo.save();
+
+        // the first load fills the consolidated cache
+        repo = new LocalArtifactRepository(lookup(IProvisioningAgent.class), mvnRepo.getLocalRepositoryIndex());
+        assertTrue(new File(mvnRepo.getLocalRepositoryRoot(), ".meta/p2-artifacts.cache").isFile());
+
+        // destroy the per GAV file but keep size and timestamp => the cached descriptors must be used
+        File artifactsFile = new File(mvnRepo.getLocalRepositoryRoot(),
+                "group/org.eclipse.tycho.test.maven/1.0.0/org.eclipse.tycho.test.maven-1.0.0-p2artifacts.xml");
+        long lastModified = artifactsFile.lastModified();
+        Files.write(artifactsFile.toPath(), new byte[(int) artifactsFile.length()]);
+        artifactsFile.setLastModified(lastModified);
+        repo = new LocalArtifactRepository(lookup(IProvisioningAgent.class), mvnRepo.getLocalRepositoryIndex());
+        assertTrue(repo.contains(mavenArtifact.getArtifactKey()));
+        IArtifactDescriptor cached = repo.getArtifactDescriptors(mavenArtifact.getArtifactKey())[0];
+        assertEquals("group", cached.getProperty(TychoConstants.PROP_GROUP_ID));
+
+        // a changed timestamp invalidates the cache entry
+        artifactsFile.setLastModified(lastModified - 10000);
+        repo = new LocalArtifactRepository(lookup(IProvisioningAgent.class), mvnRepo.getLocalRepositoryIndex());
+        assertFalse(repo.contains(mavenArtifact.getArtifactKey()));
+    }
+
     @Test
     public void testGetArtifactsNoRequests() throws ComponentLookupException {
         LocalArtifactRepository repo = new LocalArtifactRepository(lookup(IProvisioningAgent.class),
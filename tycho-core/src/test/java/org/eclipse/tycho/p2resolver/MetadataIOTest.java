@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2resolver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.eclipse.equinox.internal.p2.metadata.ArtifactKey;
+import org.eclipse.equinox.internal.p2.metadata.IRequiredCapability;
+import org.eclipse.equinox.internal.p2.metadata.InstallableUnit;
+import org.eclipse.equinox.p2.metadata.ICopyright;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.ILicense;
+import org.eclipse.equinox.p2.metadata.IProvidedCapability;
+import org.eclipse.equinox.p2.metadata.IRequirement;
+import org.eclipse.equinox.p2.metadata.IUpdateDescriptor;
+import org.eclipse.equinox.p2.metadata.MetadataFactory;
+import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitDescription;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionRange;
+import org.eclipse.equinox.p2.metadata.expression.ExpressionUtil;
+import org.eclipse.tycho.p2.repository.MetadataIO;
+import org.junit.Test;
+
+public class MetadataIOTest {
+
+    @Test
+    public void testStreamingReadSharesVersions() throws Exception {
+        byte[] xml = write(List.of(createUnit("a", "1.0.0"), createUnit("b", "1.0.0"), createUnit("c", "2.0.0")));
+        List<IInstallableUnit> units = new ArrayList<>();
+        new MetadataIO().readXML(new ByteArrayInputStream(xml), units::add);
+        assertEquals(List.of("a", "b", "c"), units.stream().map(IInstallableUnit::getId).toList());
+        assertSame(units.get(0).getVersion(), units.get(1).getVersion());
+        Set<IInstallableUnit> other = new MetadataIO().readXML(new ByteArrayInputStream(xml));
+        assertSame(units.get(2).getVersion(), other.stream().skip(2).findFirst().get().getVersion());
+    }
+
+    @Test
+    public void testRequirementAndCapabilityVersionsAreShared() throws Exception {
+        byte[] xml = write(List.of(createUnit("a", "1.0.0", "x"), createUnit("b", "1.0.0", "z")));
+        List<IInstallableUnit> units = new ArrayList<>();
+        new MetadataIO().readXML(new ByteArrayInputStream(xml), units::add);
+        IRequiredCapability first = (IRequiredCapability) units.get(0).getRequirements().iterator().next();
+        IRequiredCapability second = (IRequiredCapability) units.get(1).getRequirements().iterator().next();
+        assertEquals("z", second.getName());
+        assertSame(first.getRange().getMinimum(), second.getRange().getMinimum());
+        assertSame(units.get(0).getVersion(), second.getRange().getMinimum());
+        assertSame(units.get(0).getVersion(), units.get(1).getProvidedCapabilities().iterator().next().getVersion());
+    }
+
+    @Test
+    public void testRequirementsAreShared() throws Exception {
+        byte[] xml = write(List.of(createUnit("a", "1.0.0", "y"), createUnit("b", "1.0.0", "y")));
+        List<IInstallableUnit> units = new ArrayList<>();
+        new MetadataIO().readXML(new ByteArrayInputStream(xml), units::add);
+        assertSame(units.get(0).getRequirements().iterator().next(),
+                units.get(1).getRequirements().iterator().next());
+    }
+
+    @Test
+    public void testConcurrentRead() throws Exception {
+        byte[] xml = write(IntStream.range(0, 100).mapToObj(i -> createUnit("unit" + i, "1.0." + i)).toList());
+        IntStream.range(0, 8).parallel().forEach(i -> {
+            try {
+                assertEquals(100, new MetadataIO().readXML(new ByteArrayInputStream(xml)).size());
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+    }
+
+    @Test
+    public void testBinaryRoundTripOfRepositories() throws Exception {
+        for (String repository : List.of("e342", "e361", "fragments", "patch", "launchers", "requirejreius")) {
+            Set<IInstallableUnit> expected = readRepositoryUnits(repository);
+            assertTrue(repository, !expected.isEmpty());
+            assertSameUnits(expected, new MetadataIO().readBinary(new MetadataIO().writeBinary(expected)));
+        }
+    }
+
+    @Test
+    public void testBinaryRoundTripOfUnitDetails() throws Exception {
+        InstallableUnitDescription description = new InstallableUnitDescription();
+        description.setId("rich");
+        description.setVersion(Version.create("1.2.3.qualifier"));
+        description.setSingleton(true);
+        description.setProperty("org.eclipse.equinox.p2.name", "Rich Unit");
+        description.setProperty(InstallableUnitDescription.PROP_TYPE_GROUP, "true");
+        description.setCapabilities(new IProvidedCapability[] {
+                MetadataFactory.createProvidedCapability(IInstallableUnit.NAMESPACE_IU_ID, "rich",
+                        Version.create("1.2.3.qualifier")),
+                MetadataFactory.createProvidedCapability("osgi.service",
+                        Map.of("osgi.service", "svc", "objectClass", List.of("a.A", "b.B"), "ranking", 5L,
+                                "enabled", true)) });
+        description.setRequirements(new IRequirement[] {
+                MetadataFactory.createRequirement(IInstallableUnit.NAMESPACE_IU_ID, "x",
+                        new VersionRange("[1.0.0,2.0.0)"), InstallableUnit.parseFilter("(osgi.os=linux)"), 0, 1,
+                        false, "optional x"),
+                MetadataFactory.createRequirement("osgi.service", ExpressionUtil.parseLDAP("(objectClass=a.A)"),
+                        null, 1, 1, true, null) });
+        description.setMetaRequirements(new IRequirement[] { MetadataFactory.createRequirement(
+                IInstallableUnit.NAMESPACE_IU_ID, "meta", VersionRange.emptyRange, null, false, false) });
+        description.setArtifacts(
+                new ArtifactKey[] { new ArtifactKey("osgi.bundle", "rich", description.getVersion()) });
+        description.setTouchpointType(MetadataFactory.createTouchpointType("org.eclipse.equinox.p2.osgi",
+                Version.create("1.0.0")));
+        description.addTouchpointData(MetadataFactory.createTouchpointData(
+                Map.of("manifest", MetadataFactory.createTouchpointInstruction("Bundle-SymbolicName: rich", null),
+                        "zipped", MetadataFactory.createTouchpointInstruction("true", "org.eclipse.zip"))));
+        description.setUpdateDescriptor(MetadataFactory.createUpdateDescriptor("rich",
+                new VersionRange("[0.0.0,1.2.3)"), IUpdateDescriptor.HIGH, "update", URI.create("http://example.org")));
+        description.setLicenses(new ILicense[] { MetadataFactory.createLicense(null, "license") });
+        description.setCopyright(MetadataFactory.createCopyright(URI.create("http://example.org/c"), "copyright"));
+        description.setFilter(InstallableUnit.parseFilter("(&(osgi.os=linux)(osgi.arch=x86_64))"));
+        Set<IInstallableUnit> expected = Set.of(MetadataFactory.createInstallableUnit(description));
+        assertSameUnits(expected, new MetadataIO().readBinary(new MetadataIO().writeBinary(expected)));
+    }
+
+    /**
+     * Reads the units of a repository content.xml, which embeds them in the format of
+     * {@link MetadataIO}
+     */
+    private static Set<IInstallableUnit> readRepositoryUnits(String repository) throws Exception {
+        String content = Files.readString(Path.of("src/test/resources/repositories", repository, "content.xml"));
+        String units = content.substring(content.indexOf("<units"), content.lastIndexOf("</units>") + 8);
+        return new MetadataIO().readXML(new ByteArrayInputStream(units.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void assertSameUnits(Set<IInstallableUnit> expected, Set<IInstallableUnit> actual) {
+        assertEquals(expected.size(), actual.size());
+        Iterator<IInstallableUnit> actualUnits = actual.iterator();
+        for (IInstallableUnit unit : expected) {
+            IInstallableUnit read = actualUnits.next();
+            assertEquals(unit.getClass(), read.getClass());
+            assertEquals(unit.getId(), read.getId());
+            assertEquals(unit.getVersion(), read.getVersion());
+            assertEquals(unit.isSingleton(), read.isSingleton());
+            assertEquals(unit.getProperties(), read.getProperties());
+            assertEquals(unit.getProvidedCapabilities(), read.getProvidedCapabilities());
+            assertEquals(unit.getRequirements(), read.getRequirements());
+            assertEquals(unit.getMetaRequirements(), read.getMetaRequirements());
+            assertEquals(unit.getArtifacts(), read.getArtifacts());
+            assertEquals(unit.getTouchpointType(), read.getTouchpointType());
+            assertEquals(unit.getTouchpointData(), read.getTouchpointData());
+            assertEquals(unit.getLicenses(), read.getLicenses());
+            assertEquals(unit.getFilter(), read.getFilter());
+            IUpdateDescriptor update = unit.getUpdateDescriptor();
+            if (update != null) {
+                IUpdateDescriptor readUpdate = read.getUpdateDescriptor();
+                assertNotNull(readUpdate);
+                assertEquals(update.getIUsBeingUpdated(), readUpdate.getIUsBeingUpdated());
+                assertEquals(update.getSeverity(), readUpdate.getSeverity());
+                assertEquals(update.getDescription(), readUpdate.getDescription());
+                assertEquals(update.getLocation(), readUpdate.getLocation());
+            }
+            ICopyright copyright = unit.getCopyright();
+            if (copyright != null) {
+                assertEquals(copyright.getLocation(), read.getCopyright().getLocation());
+                assertEquals(copyright.getBody(), read.getCopyright().getBody());
+            }
+        }
+    }
+
+    private static byte[] write(List<IInstallableUnit> units) throws Exception {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        new MetadataIO().writeXML(units, os);
+        return os.toByteArray();
+    }
+
+    private static IInstallableUnit createUnit(String id, String version, String... requiredIds) {
+        InstallableUnitDescription description = new InstallableUnitDescription();
+        description.setId(id);
+        description.setVersion(Version.create(version));
+        description.setCapabilities(new IProvidedCapability[] {
+                MetadataFactory.createProvidedCapability(IInstallableUnit.NAMESPACE_IU_ID, id, Version.create(version)) });
+        description.setRequirements(Arrays.stream(requiredIds)
+                .map(requiredId -> MetadataFactory.createRequirement(IInstallableUnit.NAMESPACE_IU_ID, requiredId,
+                        new VersionRange("[1.0.0,2.0.0)"), null, false, false))
+                .toArray(IRequirement[]::new));
+        return MetadataFactory.createInstallableUnit(description);
+    }
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2resolver;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.List;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.equinox.p2.core.ProvisionException;
+import org.eclipse.equinox.p2.repository.IRepository;
+import org.eclipse.equinox.p2.repository.IRepositoryReference;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepositoryManager;
+import org.eclipse.tycho.core.shared.MavenLogger;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MetadataRepositoryLoaderTest {
+
+    private static final URI PARENT = URI.create("https://example.org/composite/");
+    private static final URI CHILD = URI.create("https://example.org/child/");
+    private static final URI BROKEN = URI.create("https://example.org/broken/");
+
+    private IMetadataRepositoryManager manager;
+    private IMetadataRepository parent;
+    private IMetadataRepository child;
+
+    @Before
+    public void setup() throws ProvisionException {
+        manager = mock(IMetadataRepositoryManager.class);
+        parent = mock(IMetadataRepository.class);
+        child = mock(IMetadataRepository.class);
+        IRepositoryReference reference = mock(IRepositoryReference.class);
+        when(reference.getLocation()).thenReturn(CHILD);
+        when(reference.getType()).thenReturn(IRepository.TYPE_METADATA);
+        when(reference.getOptions()).thenReturn(IRepository.ENABLED);
+        when(parent.getReferences()).thenReturn(List.of(reference));
+        when(child.getReferences()).thenReturn(List.of());
+        when(manager.loadRepository(eq(PARENT), any(IProgressMonitor.class))).thenReturn(parent);
+        when(manager.loadRepository(eq(CHILD), any(IProgressMonitor.class))).thenReturn(child);
+        when(manager.loadRepository(eq(BROKEN), any(IProgressMonitor.class)))
+                .thenThrow(new ProvisionException(Status.error("broken")));
+    }
+
+    @Test
+    public void testParallelLoadingLoadsEachRepositoryOnce() throws Exception {
+        try (MetadataRepositoryLoader loader = new MetadataRepositoryLoader(manager, mock(MavenLogger.class), true,
+                4)) {
+            loader.schedule(PARENT);
+            loader.schedule(PARENT);
+            assertSame(parent, loader.load(PARENT));
+            assertSame(child, loader.load(CHILD));
+        }
+        verify(manager, times(1)).loadRepository(eq(PARENT), any(IProgressMonitor.class));
+        verify(manager, times(1)).loadRepository(eq(CHILD), any(IProgressMonitor.class));
+    }
+
+    @Test
+    public void testSerialLoading() throws Exception {
+        try (MetadataRepositoryLoader loader = new MetadataRepositoryLoader(manager, mock(MavenLogger.class), false,
+                1)) {
+            assertSame(parent, loader.load(PARENT));
+            assertSame(child, loader.load(CHILD));
+        }
+    }
+
+    @Test
+    public void testFailureIsReported() throws Exception {
+        try (MetadataRepositoryLoader loader = new MetadataRepositoryLoader(manager, mock(MavenLogger.class), true,
+                4)) {
+            loader.schedule(BROKEN);
+            loader.load(BROKEN);
+            fail("ProvisionException expected");
+        } catch (ProvisionException e) {
+            // expected
+        }
+    }
+
+}
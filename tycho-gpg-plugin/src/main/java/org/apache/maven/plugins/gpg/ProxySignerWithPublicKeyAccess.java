@@ -38,6 +38,8 @@ public class ProxySignerWithPublicKeyAccess extends AbstractGpgSigner {
 
     private KeyStore publicKeys;
 
+    private String signingKeyId;
+
     public ProxySignerWithPublicKeyAccess(AbstractGpgSigner delegate, String signer, File pgpInfo, File secretKeys) {
         this.delegate = delegate;
         this.setLog(delegate.getLog());
@@ -115,6 +117,26 @@ public class ProxySignerWithPublicKeyAccess extends AbstractGpgSigner {
         }
     }
 
+    /**
+     * Determines the ID of the key used for signing by signing an empty file.
+     */
+    public synchronized String getSigningKeyId() throws MojoExecutionException {
+        if (signingKeyId == null) {
+            try {
+                var dummy = Files.createTempFile("dummy", ".txt");
+                try {
+                    signingKeyId = PGPPublicKeyService
+                            .toHex(generateSignature(dummy.toFile()).all().iterator().next().getKeyID());
+                } finally {
+                    Files.delete(dummy);
+                }
+            } catch (IOException e) {
+                throw new MojoExecutionException(e.getMessage(), e);
+            }
+        }
+        return signingKeyId;
+    }
+
     @Override
     protected void generateSignatureForFile(File file, File signature) throws MojoExecutionException {
         if (signer != null) {
@@ -11,6 +11,9 @@ package org.eclipse.tycho.gpg;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 
@@ -38,7 +41,9 @@ import org.eclipse.equinox.p2.repository.artifact.IArtifactDescriptor;
 import org.eclipse.equinox.p2.repository.artifact.IFileArtifactRepository;
 import org.eclipse.equinox.p2.repository.artifact.spi.ArtifactDescriptor;
 import org.eclipse.osgi.signedcontent.SignedContentFactory;
+import org.eclipse.tycho.CacheFiles;
 import org.eclipse.tycho.MavenRepositoryLocation;
+import org.eclipse.tycho.gpg.SignatureCache.JarSignature;
 import org.eclipse.tycho.p2maven.repository.P2RepositoryManager;
 
 /**
@@ -137,6 +142,21 @@ public class SignRepositoryArtifactsMojo extends AbstractGpgMojoExtension {
     @Parameter
     private List<String> forceSignature;
 
+    /**
+     * Configure to {@code true} to reuse the PGP signatures of artifacts that have been signed
+     * with the same key in a previous build, and to remember which jars are signed by a jarsigner.
+     * Entries are keyed by the SHA-256 hash of the artifact, so unchanged artifacts are neither
+     * verified nor signed again.
+     */
+    @Parameter(property = "tycho.pgp.signer.cache", defaultValue = "true")
+    private boolean useSignatureCache;
+
+    /**
+     * The location of the cache used if {@link #useSignatureCache} is enabled.
+     */
+    @Parameter(property = "tycho.pgp.signer.cache.dir", defaultValue = "${settings.localRepository}/.cache/tycho/pgp-signatures")
+    private File signatureCacheDirectory;
+
     @Component(role = UnArchiver.class, hint = "zip")
     private ZipUnArchiver zipUnArchiver;
 
@@ -172,6 +192,8 @@ public class SignRepositoryArtifactsMojo extends AbstractGpgMojoExtension {
         var keys = KeyStore.create();
 
         try {
+            var cache = useSignatureCache ? new SignatureCache(signatureCacheDirectory, getTrustConfiguration())
+                    : null;
             var artifactRepository = (IFileArtifactRepository) repositoryManager
                     .getArtifactRepository(new MavenRepositoryLocation("", repository.toURI()));
 
@@ -188,7 +210,12 @@ public class SignRepositoryArtifactsMojo extends AbstractGpgMojoExtension {
             var descriptors = artifactKeys.stream().map(artifactRepository::getArtifactDescriptors)
                     .flatMap(Arrays::stream).toList();
             descriptors.parallelStream()
-                    .forEach(it -> handle(it, artifactRepository.getArtifactFile(it), signer, keys));
+                    .forEach(it -> handle(it, artifactRepository.getArtifactFile(it), signer, keys, cache));
+            if (cache != null && cache.getReusedCount() + cache.getAddedCount() > 0) {
+                getLog().info("Reused " + cache.getReusedCount() + " of "
+                        + (cache.getReusedCount() + cache.getAddedCount()) + " PGP signatures from "
+                        + cache.getDirectory());
+            }
 
             if (addPublicKeyToRepo && !keys.isEmpty()) {
                 artifactRepository.setProperty(PGPSignatureVerifier.PGP_SIGNER_KEYS_PROPERTY_NAME,
@@ -230,7 +257,7 @@ public class SignRepositoryArtifactsMojo extends AbstractGpgMojoExtension {
     }
 
     private void handle(IArtifactDescriptor artifactDescriptor, File artifact, ProxySignerWithPublicKeyAccess signer,
-            KeyStore allKeys) {
+            KeyStore allKeys, SignatureCache cache) {
         if (artifact != null) {
             var existingKeys = artifactDescriptor.getProperty(PGPSignatureVerifier.PGP_SIGNER_KEYS_PROPERTY_NAME);
             var existingSignatures = artifactDescriptor.getProperty(PGPSignatureVerifier.PGP_SIGNATURES_PROPERTY_NAME);
@@ -240,6 +267,14 @@ public class SignRepositoryArtifactsMojo extends AbstractGpgMojoExtension {
             }
 
             IArtifactKey artifactKey = artifactDescriptor.getArtifactKey();
+            String hash = null;
+            if (cache != null) {
+                try {
+                    hash = CacheFiles.hash(artifact.toPath());
+                } catch (IOException e) {
+                    throw new RuntimeException(e.getMessage(), e);
+                }
+            }
 
             if (forceSignature == null || !forceSignature.contains(artifactKey.getId())) {
                 var classifier = artifactKey.getClassifier();
@@ -249,29 +284,25 @@ public class SignRepositoryArtifactsMojo extends AbstractGpgMojoExtension {
                 }
 
                 if (!isBinary) {
-                    try {
-                        var signedContent = signedContentFactory.getSignedContent(artifact);
-                        if (signedContent.isSigned()) {
-                            for (var signerInfo : signedContent.getSignerInfos()) {
-                                // Check that the signature was produced within the validity range of the certificate.
-                                // If invalid, this throws CertificateExpiredException or CertificateNotYetValidException.
-                                // That ensures we continue the logic that follows as if the content were not signed.
-                                signedContent.checkValidity(signerInfo);
-                            }
-
-                            if (skipIfJarsigned) {
-                                return;
-                            }
-                            if (skipIfJarsignedAndAnchored) {
-                                for (var signerInfo : signedContent.getSignerInfos()) {
-                                    if (signerInfo.getTrustAnchor() != null) {
-                                        return;
-                                    }
-                                }
+                    JarSignature jarSignature = cache == null ? null : cache.getJarSignature(hash);
+                    if (jarSignature == null) {
+                        try {
+                            jarSignature = getJarSignature(artifact);
+                            if (cache != null) {
+                                cache.putJarSignature(hash, jarSignature);
                             }
+                        } catch (Exception e) {
+                            //$FALL-THROUGH$ Treat as unsigned.
+                            jarSignature = JarSignature.UNSIGNED;
+                        }
+                    }
+                    if (jarSignature.signed()) {
+                        if (skipIfJarsigned) {
+                            return;
+                        }
+                        if (skipIfJarsignedAndAnchored && jarSignature.anchored()) {
+                            return;
                         }
-                    } catch (Exception e) {
-                        //$FALL-THROUGH$ Treat as unsigned.
                     }
                 }
             }
@@ -282,7 +313,19 @@ public class SignRepositoryArtifactsMojo extends AbstractGpgMojoExtension {
             }
 
             try {
-                var signatures = signer.generateSignature(artifact);
+                SignatureStore signatures;
+                if (cache != null) {
+                    String keyId = signer.getSigningKeyId();
+                    String cachedSignatures = cache.getSignatures(hash, keyId);
+                    if (cachedSignatures != null) {
+                        signatures = SignatureStore.create(cachedSignatures);
+                    } else {
+                        signatures = signer.generateSignature(artifact);
+                        cache.putSignatures(hash, keyId, signatures.toArmoredString());
+                    }
+                } else {
+                    signatures = signer.generateSignature(artifact);
+                }
                 var signerKeys = signatures.all().stream().map(PGPSignature::getKeyID)
                         .flatMap(id -> signer.getPublicKeys().getKeys(id).stream()).toList();
                 var keyStore = KeyStore.create(existingKeys);
@@ -303,4 +346,49 @@ public class SignRepositoryArtifactsMojo extends AbstractGpgMojoExtension {
             }
         }
     }
+
+    /**
+     * Determines if the given jar is signed by a jarsigner and if one of its signers is anchored
+     */
+    private JarSignature getJarSignature(File artifact) throws Exception {
+        var signedContent = signedContentFactory.getSignedContent(artifact);
+        if (!signedContent.isSigned()) {
+            return JarSignature.UNSIGNED;
+        }
+        boolean anchored = false;
+        boolean timestamped = true;
+        for (var signerInfo : signedContent.getSignerInfos()) {
+            // Check that the signature was produced within the validity range of the certificate.
+            // If invalid, this throws CertificateExpiredException or CertificateNotYetValidException.
+            // That ensures we continue the logic that follows as if the content were not signed.
+            signedContent.checkValidity(signerInfo);
+            anchored |= signerInfo.getTrustAnchor() != null;
+            // without a timestamp the certificate is checked against the current time
+            timestamped &= signedContent.getSigningTime(signerInfo) != null;
+        }
+        return new JarSignature(true, anchored, timestamped);
+    }
+
+    /**
+     * @return a hash of the configuration the trust anchors of jar signers are taken from, i.e. the
+     *         configured trust engines and the content of the key store they use
+     */
+    private static String getTrustConfiguration() throws IOException {
+        String keyStore = System.getProperty("osgi.framework.keystore");
+        Path keyStoreFile = null;
+        if (keyStore == null) {
+            keyStoreFile = Path.of(System.getProperty("java.home"), "lib", "security", "cacerts");
+        } else if (keyStore.startsWith("file:")) {
+            try {
+                keyStoreFile = Path.of(URI.create(keyStore));
+            } catch (IllegalArgumentException e) {
+                // not a valid file URL, only its value is used
+            }
+        }
+        String keyStoreHash = keyStoreFile != null && Files.isRegularFile(keyStoreFile)
+                ? CacheFiles.hash(keyStoreFile)
+                : "";
+        return CacheFiles.hash(keyStore + "\n" + System.getProperty("osgi.signedcontent.trust.engine") + "\n"
+                + keyStoreHash);
+    }
 }
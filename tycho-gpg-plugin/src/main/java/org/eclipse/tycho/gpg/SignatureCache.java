@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.tycho.gpg;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tycho.CacheFiles;
+
+/**
+ * A cache of PGP signatures that is shared between builds, keyed by the SHA-256 hash of the signed
+ * file and the ID of the signing key. A PGP signature stays valid for the same content and key, so
+ * artifacts that are shipped unchanged with every build only need to be signed once.
+ * <p>
+ * Besides the signatures, the cache also remembers if a jar is signed by a jarsigner, so the
+ * (expensive) verification of the jar signature is only done once for each jar. This state is only
+ * kept if it can't change over time, i.e. if the jar is unsigned or all its signers are timestamped,
+ * as the certificates of other signers are checked against the current time. It is also keyed by the
+ * trust configuration the signers are anchored in.
+ * </p>
+ */
+class SignatureCache {
+
+    /**
+     * The jarsigner state of a jar
+     *
+     * @param signed
+     *            if the jar has a jar signature that passed the validity check of all its signers
+     * @param anchored
+     *            if one of the signers is anchored in the trust store
+     * @param timestamped
+     *            if the validity of all signers was checked against the time of a timestamp
+     *            authority instead of the current time
+     */
+    record JarSignature(boolean signed, boolean anchored, boolean timestamped) {
+
+        static final JarSignature UNSIGNED = new JarSignature(false, false, false);
+
+        /**
+         * @return <code>true</code> if this state does not depend on the time it was determined
+         */
+        boolean isPermanent() {
+            return !signed || timestamped;
+        }
+
+        String toExternalForm() {
+            return signed + " " + anchored + " " + timestamped;
+        }
+
+        static JarSignature parse(String externalForm) {
+            String[] parts = externalForm.trim().split(" ");
+            return new JarSignature(Boolean.parseBoolean(parts[0]), Boolean.parseBoolean(parts[1]),
+                    Boolean.parseBoolean(parts[2]));
+        }
+    }
+
+    private final File directory;
+    private final String trustConfiguration;
+    private final AtomicInteger reused = new AtomicInteger();
+    private final AtomicInteger added = new AtomicInteger();
+
+    /**
+     * @param directory
+     *            the directory of the cache
+     * @param trustConfiguration
+     *            a hash of the configuration the trust anchors of jar signers are taken from
+     */
+    SignatureCache(File directory, String trustConfiguration) {
+        this.directory = directory;
+        this.trustConfiguration = trustConfiguration;
+    }
+
+    /**
+     * @return the cached armored signatures of the given key for the content with the given hash,
+     *         or <code>null</code> if there are none
+     */
+    String getSignatures(String hash, String keyId) {
+        String signatures = read(getFile(hash, keyId + ".asc"));
+        if (signatures != null) {
+            reused.incrementAndGet();
+        }
+        return signatures;
+    }
+
+    void putSignatures(String hash, String keyId, String armoredSignatures) {
+        write(getFile(hash, keyId + ".asc"), armoredSignatures);
+        added.incrementAndGet();
+    }
+
+    /**
+     * @return the cached jarsigner state of the jar with the given hash, or <code>null</code> if
+     *         the jar was not yet verified
+     */
+    JarSignature getJarSignature(String hash) {
+        String state = read(getJarSignatureFile(hash));
+        if (state != null) {
+            try {
+                return JarSignature.parse(state);
+            } catch (RuntimeException e) {
+                // written by another version, simply verify again
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remembers the jarsigner state of the jar with the given hash, if it is
+     * {@link JarSignature#isPermanent() permanent}.
+     */
+    void putJarSignature(String hash, JarSignature signature) {
+        if (signature.isPermanent()) {
+            write(getJarSignatureFile(hash), signature.toExternalForm());
+        }
+    }
+
+    /**
+     * @return the number of signatures that were taken from the cache
+     */
+    int getReusedCount() {
+        return reused.get();
+    }
+
+    /**
+     * @return the number of signatures that were added to the cache
+     */
+    int getAddedCount() {
+        return added.get();
+    }
+
+    File getDirectory() {
+        return directory;
+    }
+
+    private File getJarSignatureFile(String hash) {
+        return getFile(hash, "jarsigner-" + trustConfiguration);
+    }
+
+    private File getFile(String hash, String name) {
+        return new File(directory, hash.substring(0, 2) + "/" + hash + "/" + name);
+    }
+
+    private static String read(File file) {
+        try {
+            return Files.readString(file.toPath(), StandardCharsets.US_ASCII);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A failure to write is not fatal, the signature is simply created again next time.
+     */
+    private static void write(File file, String content) {
+        try {
+            CacheFiles.writeAtomically(file.toPath(), content.getBytes(StandardCharsets.US_ASCII));
+        } catch (IOException e) {
+            // ignored, see above
+        }
+    }
+}
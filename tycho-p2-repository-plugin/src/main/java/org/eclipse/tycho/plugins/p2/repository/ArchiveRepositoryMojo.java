@@ -52,6 +52,21 @@ public final class ArchiveRepositoryMojo extends AbstractRepositoryMojo {
     @Parameter(defaultValue = "false")
     private boolean skipArchive;
 
+    /**
+     * Whether to write the archive with a streaming archiver that stores already compressed files
+     * (jars, xz, ...) as they are and deflates all other files in parallel. If <code>false</code>,
+     * the plexus zip archiver is used.
+     */
+    @Parameter(property = "tycho.p2.archive.parallel", defaultValue = "false")
+    private boolean parallelArchive;
+
+    /**
+     * The number of threads used to deflate files if {@link #parallelArchive} is enabled, defaults
+     * to the number of processors.
+     */
+    @Parameter(property = "tycho.p2.archive.threads")
+    private int archiveThreads;
+
     @Component
     private FileLockService fileLockService;
 
@@ -64,9 +79,15 @@ public final class ArchiveRepositoryMojo extends AbstractRepositoryMojo {
         File destFile = getBuildDirectory().getChild(finalName + ".zip");
         try (var repoLock = fileLockService.lockVirtually(repositoryLocation);
                 var destLock = fileLockService.lockVirtually(destFile);) {
-            inflater.addFileSet(DefaultFileSet.fileSet(repositoryLocation).prefixed(""));
-            inflater.setDestFile(destFile);
-            inflater.createArchive();
+            if (parallelArchive) {
+                new ParallelZipArchiver(
+                        archiveThreads > 0 ? archiveThreads : Runtime.getRuntime().availableProcessors())
+                        .createArchive(repositoryLocation, destFile);
+            } else {
+                inflater.addFileSet(DefaultFileSet.fileSet(repositoryLocation).prefixed(""));
+                inflater.setDestFile(destFile);
+                inflater.createArchive();
+            }
         } catch (ArchiverException | IOException e) {
             throw new MojoExecutionException("Error packing p2 repository", e);
         }
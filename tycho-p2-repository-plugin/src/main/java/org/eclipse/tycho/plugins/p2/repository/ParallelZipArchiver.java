@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.plugins.p2.repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.codehaus.plexus.util.DirectoryScanner;
+
+/**
+ * Writes a directory into a zip file. Files that are compressed already (jars, xz, ...) are stored
+ * as they are, all other files are deflated in parallel while the archive is written sequentially,
+ * so nothing is staged in temporary files. Like the plexus archiver, the default excludes of
+ * plexus (version control metadata, editor backups, ...) are not archived.
+ */
+final class ParallelZipArchiver {
+
+    private static final Set<String> COMPRESSED_EXTENSIONS = Set.of("jar", "zip", "war", "gz", "xz", "png", "jpg",
+            "jpeg", "gif");
+
+    /** larger files are deflated while writing instead of being buffered in memory */
+    private static final long MAX_BUFFERED_SIZE = 32 * 1024 * 1024;
+
+    /** the number of entries prepared ahead of the one currently written, per thread */
+    private static final int PREFETCH_PER_THREAD = 4;
+
+    private interface Entry {
+        void writeTo(ZipArchiveOutputStream out) throws IOException;
+    }
+
+    private final int threads;
+
+    ParallelZipArchiver(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    void createArchive(File directory, File destFile) throws IOException {
+        Path root = directory.toPath();
+        DirectoryScanner scanner = new DirectoryScanner();
+        scanner.setBasedir(directory);
+        scanner.addDefaultExcludes();
+        scanner.scan();
+        List<Path> paths = Stream.concat(Stream.of(scanner.getIncludedDirectories()),
+                Stream.of(scanner.getIncludedFiles())).filter(name -> !name.isEmpty()).map(root::resolve).sorted()
+                .toList();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(destFile)) {
+            Deque<Future<Entry>> pending = new ArrayDeque<>();
+            int next = 0;
+            int window = threads * PREFETCH_PER_THREAD;
+            for (int i = 0; i < paths.size(); i++) {
+                while (next < paths.size() && next < i + window) {
+                    Path path = paths.get(next++);
+                    pending.add(prepare(executor, path, getEntryName(root, path)));
+                }
+                pending.poll().get().writeTo(out);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while creating " + destFile, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Future<Entry> prepare(ExecutorService executor, Path path, String name) throws IOException {
+        if (Files.isDirectory(path)) {
+            return CompletableFuture.completedFuture(out -> {
+                ZipArchiveEntry entry = new ZipArchiveEntry(name + "/");
+                entry.setTime(Files.getLastModifiedTime(path).toMillis());
+                out.putArchiveEntry(entry);
+                out.closeArchiveEntry();
+            });
+        }
+        if (isCompressed(name)) {
+            return CompletableFuture.completedFuture(out -> writeStreaming(out, path, name, ZipEntry.STORED));
+        }
+        if (Files.size(path) > MAX_BUFFERED_SIZE) {
+            return CompletableFuture.completedFuture(out -> writeStreaming(out, path, name, ZipEntry.DEFLATED));
+        }
+        return executor.submit(() -> deflate(path, name));
+    }
+
+    private static void writeStreaming(ZipArchiveOutputStream out, Path path, String name, int method)
+            throws IOException {
+        ZipArchiveEntry entry = new ZipArchiveEntry(name);
+        entry.setMethod(method);
+        entry.setTime(Files.getLastModifiedTime(path).toMillis());
+        // the output is seekable, so the sizes and the checksum are filled in afterwards
+        out.putArchiveEntry(entry);
+        Files.copy(path, out);
+        out.closeArchiveEntry();
+    }
+
+    private static Entry deflate(Path path, String name) throws IOException {
+        CRC32 crc = new CRC32();
+        long size = 0;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try (InputStream in = Files.newInputStream(path);
+                DeflaterOutputStream deflated = new DeflaterOutputStream(bytes, deflater, 64 * 1024)) {
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, read);
+                deflated.write(buffer, 0, read);
+                size += read;
+            }
+        } finally {
+            deflater.end();
+        }
+        ZipArchiveEntry entry = new ZipArchiveEntry(name);
+        entry.setMethod(ZipEntry.DEFLATED);
+        entry.setTime(Files.getLastModifiedTime(path).toMillis());
+        entry.setCrc(crc.getValue());
+        entry.setSize(size);
+        entry.setCompressedSize(bytes.size());
+        byte[] data = bytes.toByteArray();
+        return out -> out.addRawArchiveEntry(entry, new ByteArrayInputStream(data));
+    }
+
+    private static boolean isCompressed(String name) {
+        int dot = name.lastIndexOf('.');
+        return dot >= 0 && COMPRESSED_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    private static String getEntryName(Path root, Path path) {
+        return root.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+}
@@ -14,6 +14,8 @@ package org.eclipse.tycho.plugins.p2.repository;
 
 import java.io.File;
 import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -34,7 +36,8 @@ import org.eclipse.tycho.p2.tools.FacadeException;
  */
 @Mojo(name = "verify-repository", defaultPhase = LifecyclePhase.VERIFY, threadSafe = true)
 public class VerifyIntegrityRepositoryMojo extends AbstractP2Mojo implements LogEnabled {
-    private static final Object LOCK = new Object();
+    /** only one verification per repository at a time, different repositories are verified in parallel */
+    private static final Map<File, Object> LOCKS = new ConcurrentHashMap<>();
     private Logger logger;
 
     @Component
@@ -42,8 +45,8 @@ public class VerifyIntegrityRepositoryMojo extends AbstractP2Mojo implements Log
 
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
-        synchronized (LOCK) {
-            File repositoryDir = getBuildDirectory().getChild("repository");
+        File repositoryDir = getBuildDirectory().getChild("repository").getAbsoluteFile();
+        synchronized (LOCKS.computeIfAbsent(repositoryDir, dir -> new Object())) {
             logger.info("Verifying p2 repositories in " + repositoryDir);
             URI repositoryUri = repositoryDir.toURI();
             try {
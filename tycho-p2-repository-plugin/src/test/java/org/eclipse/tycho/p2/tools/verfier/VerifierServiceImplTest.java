@@ -59,6 +59,16 @@ public class VerifierServiceImplTest extends TychoPlexusTestCase {
         assertEquals(true, verify(repositories));
     }
 
+    @Test
+    public void testUnchangedArtifactsAreOnlyVerifiedOnce() throws Exception {
+        final RepositoryReferences repositories = sourceRepos("selfsigned");
+        assertEquals(true, verify(repositories));
+        assertTrue(logger.messages.stream().noneMatch(message -> message.startsWith("Skipping")));
+        logger.messages.clear();
+        assertEquals(true, verify(repositories));
+        assertTrue(logger.messages.stream().anyMatch(message -> message.startsWith("Skipping")));
+    }
+
     @Test
     public void testFileRepositoryWithWrongMd5Sum() throws Exception {
         final RepositoryReferences repositories = sourceRepos("wrong_checksum");
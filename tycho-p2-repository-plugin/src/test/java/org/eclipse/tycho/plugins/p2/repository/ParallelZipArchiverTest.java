@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.plugins.p2.repository;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ParallelZipArchiverTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testArchiveContent() throws Exception {
+        File repository = tempFolder.newFolder("repository");
+        File plugins = new File(repository, "plugins");
+        plugins.mkdirs();
+        byte[] jar = new byte[10000];
+        Files.write(new File(plugins, "bundle_1.0.0.jar").toPath(), jar);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            lines.add("<unit id='unit" + i + "'/>");
+        }
+        Files.write(new File(repository, "content.xml").toPath(), lines, StandardCharsets.UTF_8);
+        // excluded by default, as with the plexus archiver
+        new File(repository, ".git").mkdirs();
+        Files.writeString(new File(repository, ".git/config").toPath(), "");
+        Files.writeString(new File(repository, "content.xml~").toPath(), "");
+        File destFile = new File(tempFolder.getRoot(), "repository.zip");
+
+        new ParallelZipArchiver(4).createArchive(repository, destFile);
+
+        try (ZipFile zip = new ZipFile(destFile)) {
+            assertEquals(List.of("content.xml", "plugins/", "plugins/bundle_1.0.0.jar"),
+                    zip.stream().map(ZipEntry::getName).toList());
+            ZipEntry content = zip.getEntry("content.xml");
+            assertEquals(ZipEntry.DEFLATED, content.getMethod());
+            assertTrue(content.getCompressedSize() < content.getSize());
+            assertArrayEquals(Files.readAllBytes(new File(repository, "content.xml").toPath()),
+                    zip.getInputStream(content).readAllBytes());
+            ZipEntry bundle = zip.getEntry("plugins/bundle_1.0.0.jar");
+            assertEquals(ZipEntry.STORED, bundle.getMethod());
+            assertArrayEquals(jar, zip.getInputStream(bundle).readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.surefire.osgibooter;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.FrameworkEvent;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.wiring.FrameworkWiring;
+
+/**
+ * A headless test application that stays alive and runs the tests of one test bundle after the
+ * other. The runtime contains everything but the test bundles, those are installed before and
+ * uninstalled after each run.
+ * <p>
+ * The application listens on a loopback port that is written to the file given with
+ * <code>-daemonportfile</code>, together with a random secret. The file is only readable by its
+ * owner, and every connection must start with the secret, otherwise it is dropped. Connections
+ * are handled one at a time, each connection is one request of the form
+ *
+ * <pre>
+ * &lt;secret&gt;
+ * bundle &lt;location&gt;
+ * dev &lt;symbolic name&gt;=&lt;dev class path entries&gt;
+ * run &lt;test properties file&gt;
+ * </pre>
+ *
+ * that is answered with <code>result &lt;exit code&gt;</code>, or just <code>shutdown</code> to stop
+ * the application. The application also stops if its standard input is closed, i.e. if the
+ * launching process is gone.
+ * </p>
+ */
+public class TestDaemonApplication implements IApplication {
+
+    private static final int ERROR_EXIT_CODE = 13;
+
+    /** how long a client may take to authenticate before the connection is dropped */
+    private static final int AUTHENTICATION_TIMEOUT = (int) TimeUnit.SECONDS.toMillis(10);
+
+    private volatile ServerSocket serverSocket;
+
+    @Override
+    public Object start(IApplicationContext context) throws Exception {
+        String[] args = Platform.getCommandLineArgs();
+        File portFile = new File(getArgumentValue(args, "-daemonportfile"));
+        BundleContext bundleContext = FrameworkUtil.getBundle(TestDaemonApplication.class).getBundleContext();
+        String secret = TestDaemonSecret.create();
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            serverSocket = server;
+            writePortFile(portFile, server.getLocalPort(), secret);
+            watchParent();
+            while (!server.isClosed()) {
+                // the next client is only accepted once the current request is finished
+                try (Socket socket = server.accept()) {
+                    if (!handleRequest(socket, secret, bundleContext, args)) {
+                        break;
+                    }
+                } catch (IOException e) {
+                    if (!server.isClosed()) {
+                        e.printStackTrace();
+                    }
+                }
+            }
+        } finally {
+            portFile.delete();
+        }
+        return IApplication.EXIT_OK;
+    }
+
+    @Override
+    public void stop() {
+        ServerSocket server = serverSocket;
+        if (server != null) {
+            try {
+                server.close();
+            } catch (IOException e) {
+                // nothing we can do about it
+            }
+        }
+    }
+
+    private boolean handleRequest(Socket socket, String secret, BundleContext bundleContext, String[] args)
+            throws IOException {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        socket.setSoTimeout(AUTHENTICATION_TIMEOUT);
+        try {
+            if (!TestDaemonSecret.authenticate(reader, secret)) {
+                // not our client, the connection is dropped without an answer
+                return true;
+            }
+        } catch (SocketTimeoutException e) {
+            return true;
+        }
+        socket.setSoTimeout(0);
+        List<String> locations = new ArrayList<>();
+        Map<String, String> devEntries = new LinkedHashMap<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.startsWith("bundle ")) {
+                locations.add(line.substring("bundle ".length()));
+            } else if (line.startsWith("dev ")) {
+                String entry = line.substring("dev ".length());
+                int separator = entry.indexOf('=');
+                devEntries.put(entry.substring(0, separator), entry.substring(separator + 1));
+            } else if (line.startsWith("run ")) {
+                int result = runTests(bundleContext, args, locations, devEntries,
+                        new File(line.substring("run ".length())));
+                writer.write("result " + result + "\n");
+                writer.flush();
+                return true;
+            } else if ("shutdown".equals(line)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int runTests(BundleContext bundleContext, String[] args, List<String> locations,
+            Map<String, String> devEntries, File testPropertiesFile) {
+        List<Bundle> bundles = new ArrayList<>();
+        try {
+            updateDevProperties(devEntries, true);
+            for (String location : locations) {
+                bundles.add(bundleContext.installBundle("reference:" + new File(location).toURI()));
+            }
+            refresh(bundleContext, bundles);
+            Properties testProps = new Properties();
+            try (InputStream stream = new FileInputStream(testPropertiesFile)) {
+                testProps.load(stream);
+            }
+            OsgiSurefireBooter.printBundleInfos(testProps);
+            return OsgiSurefireBooter.run(args, testProps);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ERROR_EXIT_CODE;
+        } finally {
+            try {
+                for (Bundle bundle : bundles) {
+                    bundle.uninstall();
+                }
+                refresh(bundleContext, null);
+                updateDevProperties(devEntries, false);
+            } catch (Exception e) {
+                // the next run will most likely fail as well then, so we better stop here
+                e.printStackTrace();
+                stop();
+            }
+        }
+    }
+
+    /**
+     * Refreshes the given bundles (or all bundles pending removal if <code>null</code>) and
+     * resolves the new ones, so fragments attach to their hosts before the tests run.
+     */
+    private static void refresh(BundleContext bundleContext, List<Bundle> bundles) throws InterruptedException {
+        FrameworkWiring wiring = bundleContext.getBundle(0).adapt(FrameworkWiring.class);
+        CountDownLatch refreshed = new CountDownLatch(1);
+        wiring.refreshBundles(bundles, event -> {
+            if (event.getType() == FrameworkEvent.PACKAGES_REFRESHED || event.getType() == FrameworkEvent.ERROR) {
+                refreshed.countDown();
+            }
+        });
+        refreshed.await(1, TimeUnit.MINUTES);
+        if (bundles != null) {
+            wiring.resolveBundles(bundles);
+        }
+    }
+
+    /**
+     * Adds or removes the dev class path entries of the test bundles, the framework re-reads the
+     * file as soon as its timestamp changes.
+     */
+    private static void updateDevProperties(Map<String, String> devEntries, boolean add) throws IOException {
+        if (devEntries.isEmpty()) {
+            return;
+        }
+        String devLocation = System.getProperty("osgi.dev");
+        if (devLocation == null) {
+            throw new IOException("The test runtime was launched without osgi.dev properties");
+        }
+        File file = new File(new URL(devLocation).getPath());
+        long lastModified = file.lastModified();
+        Properties properties = new Properties();
+        try (InputStream stream = new FileInputStream(file)) {
+            properties.load(stream);
+        }
+        for (Map.Entry<String, String> entry : devEntries.entrySet()) {
+            if (add) {
+                properties.setProperty(entry.getKey(), entry.getValue());
+            } else {
+                properties.remove(entry.getKey());
+            }
+        }
+        try (OutputStream stream = new FileOutputStream(file)) {
+            properties.store(stream, null);
+        }
+        // make sure the change is noticed even on file systems with a coarse timestamp resolution
+        file.setLastModified(Math.max(System.currentTimeMillis(), lastModified + 1000));
+    }
+
+    private void watchParent() {
+        Thread thread = new Thread(() -> {
+            try {
+                while (System.in.read() >= 0) {
+                    // we are only interested in the end of the stream
+                }
+            } catch (IOException e) {
+                // the parent is gone as well
+            }
+            stop();
+        }, "Test daemon parent watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Writes the port and the secret to a file that only the current user can read, the file is
+     * complete as soon as it exists.
+     */
+    private static void writePortFile(File portFile, int port, String secret) throws IOException {
+        Path tempFile = Paths.get(portFile.getPath() + ".tmp");
+        Files.deleteIfExists(tempFile);
+        try {
+            Files.createFile(tempFile,
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } catch (UnsupportedOperationException e) {
+            // no POSIX permissions (e.g. Windows), restrict access as far as possible
+            Files.createFile(tempFile);
+            File file = tempFile.toFile();
+            file.setReadable(false, false);
+            file.setReadable(true, true);
+            file.setWritable(false, false);
+            file.setWritable(true, true);
+        }
+        Files.write(tempFile, (port + "\n" + secret + "\n").getBytes(StandardCharsets.UTF_8));
+        Files.move(tempFile, portFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String getArgumentValue(String[] args, String argumentName) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (argumentName.equalsIgnoreCase(args[i])) {
+                return args[i + 1];
+            }
+        }
+        throw new IllegalArgumentException(argumentName + " command line parameter is not specified");
+    }
+}
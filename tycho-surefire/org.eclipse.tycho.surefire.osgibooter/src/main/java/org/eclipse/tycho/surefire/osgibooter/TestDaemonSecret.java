@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.surefire.osgibooter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+
+/**
+ * The secret that a client of the {@link TestDaemonApplication} must send first on every
+ * connection.
+ */
+public final class TestDaemonSecret {
+
+    private TestDaemonSecret() {
+    }
+
+    /**
+     * @return a new random secret
+     */
+    public static String create() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        StringBuilder hex = new StringBuilder();
+        for (byte b : secret) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Reads the first line of a request and checks that it is the given secret
+     *
+     * @return <code>true</code> if the request may be handled, <code>false</code> if it has to be
+     *         dropped because the secret is wrong or missing
+     */
+    public static boolean authenticate(BufferedReader request, String secret) throws IOException {
+        String authentication = request.readLine();
+        return authentication != null && MessageDigest.isEqual(secret.getBytes(StandardCharsets.UTF_8),
+                authentication.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -21,8 +21,10 @@ package org.eclipse.tycho.surefire;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -39,7 +41,11 @@ import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.resolver.ArtifactResolutionException;
@@ -108,6 +114,13 @@ public abstract class AbstractEclipseTestMojo extends AbstractTestMojo {
 
     private static final ConcurrencyLock CONCURRENCY_LOCK = new ConcurrencyLock();
 
+    /**
+     * installations of test daemons by their key, an installation is only created once even if
+     * modules with the same key are built concurrently
+     */
+    private static final Map<String, EquinoxInstallation> DAEMON_INSTALLATIONS = new ConcurrentHashMap<>();
+    private static final Map<String, Object> DAEMON_INSTALLATION_LOCKS = new ConcurrentHashMap<>();
+
     /**
      * <a href=
      * "https://help.eclipse.org/latest/topic/org.eclipse.platform.doc.isv/reference/misc/runtime-options.html#osgiinstancearea"
@@ -566,6 +579,36 @@ public abstract class AbstractEclipseTestMojo extends AbstractTestMojo {
     @Parameter
     private int reactorConcurrencyLevel;
 
+    /**
+     * Splits the test classes into the given number of shards that are executed concurrently, each
+     * in its own forked test runtime with a separate configuration area and data directory. Shards
+     * are balanced using the test durations recorded in the reports of a previous run (if any), all
+     * shards write to the common <code>reportsDirectory</code> and each shard counts against the
+     * {@link #reactorConcurrencyLevel}. Sharding is disabled if a {@link #debugPort} is set.
+     */
+    @Parameter(property = "tycho.surefire.shards", defaultValue = "1")
+    private int testShards;
+
+    /**
+     * Runs the tests in a test runtime that is kept alive for the rest of the build. The test
+     * bundle of this project is installed into the runtime for the test run only, so all test
+     * projects whose test runtime is otherwise identical (same bundles, configuration and launch
+     * arguments) share one runtime and do not pay the startup costs again. The shared runtime uses
+     * the root directory of the build as its working directory and its own data directory, so
+     * tests must not rely on either of them.
+     * <p>
+     * The daemon is only used with the <code>default</code> {@link #testRuntime}, and not together
+     * with the UI harness, a {@link #debugPort} or {@link #testShards}.
+     * </p>
+     */
+    @Parameter(property = "tycho.surefire.daemon", defaultValue = "false")
+    private boolean useTestDaemon;
+
+    /** bundle locations and dev entries of this project, only set if the test daemon is used */
+    private List<File> daemonTestBundles;
+    private Map<String, String> daemonDevEntries;
+    private String daemonKey;
+
     public enum ClassLoaderOrder {
         booterFirst, testProbeFirst
     }
@@ -631,6 +674,14 @@ public abstract class AbstractEclipseTestMojo extends AbstractTestMojo {
             }
         }
         if (equinoxTestRuntime != null) {
+            if (daemonKey != null) {
+                runTestDaemon(equinoxTestRuntime);
+                return;
+            }
+            if (testShards > 1 && debugPort <= 0 && scanResult.size() > 1) {
+                runTestShards(equinoxTestRuntime, scanResult);
+                return;
+            }
             try (AutoCloseable runLock = CONCURRENCY_LOCK.aquire(reactorConcurrencyLevel)) {
                 runTest(equinoxTestRuntime);
             } catch (InterruptedException e) {
@@ -761,6 +812,7 @@ public abstract class AbstractEclipseTestMojo extends AbstractTestMojo {
 
         work.mkdirs();
 
+        daemonTestBundles = isUseTestDaemon() ? new ArrayList<>() : null;
         EquinoxInstallationDescription testRuntime = new DefaultEquinoxInstallationDescription();
         testRuntime.setDefaultBundleStartLevel(defaultStartLevel);
         testRuntime.addBundlesToExplode(getBundlesToExplode());
@@ -781,12 +833,12 @@ public abstract class AbstractEclipseTestMojo extends AbstractTestMojo {
                 // Contrary to what's written above, we use the project's root directory only when
                 // we do not need custom metadata. If we need, we load the test bundle as JAR instead
                 if (useMetadataDirectory(otherProject)) {
-                    addBundle(testRuntime, artifact.getKey(), metadataDirectory);
+                    addProjectBundle(testRuntime, otherProject, artifact.getKey(), metadataDirectory);
                     continue;
                 }
                 File file = otherProject.getArtifact(artifact.getClassifier());
                 if (file != null) {
-                    addBundle(testRuntime, artifact.getKey(), file);
+                    addProjectBundle(testRuntime, otherProject, artifact.getKey(), file);
                     continue;
                 }
             }
@@ -802,6 +854,9 @@ public abstract class AbstractEclipseTestMojo extends AbstractTestMojo {
         setupTestBundles(testFrameworkBundles, testRuntime);
 
         getReportsDirectory().mkdirs();
+        if (daemonTestBundles != null) {
+            return createDaemonInstallation(testRuntime);
+        }
         return installationFactory.createInstallation(testRuntime, work);
     }
 
@@ -809,6 +864,81 @@ public abstract class AbstractEclipseTestMojo extends AbstractTestMojo {
         return otherProject.sameProject(project) && project.getBasedir().equals(metadataDirectory);
     }
 
+    private boolean isUseTestDaemon() {
+        return useTestDaemon && "default".equals(testRuntime) && !useUIHarness && debugPort <= 0 && testShards <= 1;
+    }
+
+    private void addProjectBundle(EquinoxInstallationDescription runtime, ReactorProject otherProject,
+            ArtifactKey artifact, File file) {
+        if (daemonTestBundles != null && otherProject.sameProject(project)) {
+            // installed into the running daemon for the test run only
+            daemonTestBundles.add(file);
+        } else {
+            addBundle(runtime, artifact, file);
+        }
+    }
+
+    /**
+     * Returns the installation of the daemon that can run the tests of this project, the
+     * installation is only created if there is no such daemon running yet.
+     */
+    private EquinoxInstallation createDaemonInstallation(EquinoxInstallationDescription testRuntime)
+            throws MojoExecutionException {
+        String testBundle = getTestBundleSymbolicName();
+        daemonDevEntries = new LinkedHashMap<>();
+        String devEntries = testRuntime.getDevEntries().remove(testBundle);
+        if (devEntries != null) {
+            daemonDevEntries.put(testBundle, devEntries);
+        }
+        // makes sure the runtime is launched with a dev.properties file the daemon can update
+        testRuntime.addDevEntries(TestDaemon.APPLICATION, "bin");
+        File daemonsDirectory = new File(session.getTopLevelProject().getBuild().getDirectory(),
+                "tycho-test-daemons");
+        File placeholder = new File(daemonsDirectory, "daemon");
+        EquinoxInstallation placeholderInstallation = new EquinoxInstallation() {
+
+            @Override
+            public File getLocation() {
+                return placeholder;
+            }
+
+            @Override
+            public File getLauncherJar() {
+                return placeholder;
+            }
+
+            @Override
+            public File getConfigurationLocation() {
+                return placeholder;
+            }
+
+            @Override
+            public EquinoxInstallationDescription getInstallationDescription() {
+                return testRuntime;
+            }
+        };
+        try {
+            daemonKey = TestDaemon.computeKey(testRuntime,
+                    createCommandLine(placeholderInstallation, placeholder, placeholder, placeholder));
+        } catch (MalformedURLException e) {
+            throw new MojoExecutionException("Can't create test daemon command line", e);
+        }
+        TestDaemon daemon = TestDaemon.get(daemonKey);
+        if (daemon != null) {
+            return daemon.getInstallation();
+        }
+        synchronized (DAEMON_INSTALLATION_LOCKS.computeIfAbsent(daemonKey, key -> new Object())) {
+            EquinoxInstallation installation = DAEMON_INSTALLATIONS.get(daemonKey);
+            // the directory is gone if the build directory was cleaned in the meantime
+            if (installation == null || !installation.getLocation().isDirectory()) {
+                installation = installationFactory.createInstallation(testRuntime,
+                        new File(daemonsDirectory, daemonKey));
+                DAEMON_INSTALLATIONS.put(daemonKey, installation);
+            }
+            return installation;
+        }
+    }
+
     private void addBundle(EquinoxInstallationDescription runtime, ArtifactKey artifact, File file) {
         if (file == null) {
             throw new IllegalArgumentException("File for artifact " + artifact + " is null");
@@ -983,13 +1113,119 @@ public abstract class AbstractEclipseTestMojo extends AbstractTestMojo {
             if (deleteOsgiDataDirectory) {
                 FileUtils.deleteDirectory(osgiDataDirectory);
             }
-            cli = createCommandLine(testRuntime);
+            cli = createCommandLine(testRuntime, testRuntime.getConfigurationLocation(), osgiDataDirectory,
+                    surefireProperties);
             getLog().info("Executing test runtime with timeout (seconds): " + forkedProcessTimeoutInSeconds
                     + ", logs, if any, will be placed at: " + logFile.getAbsolutePath());
             result = launcher.execute(cli, forkedProcessTimeoutInSeconds);
         } catch (Exception e) {
             throw new MojoExecutionException("Error while executing platform", e);
         }
+        handleResult(result, cli, logFile);
+    }
+
+    private void runTestDaemon(EquinoxInstallation testRuntime) throws MojoExecutionException, MojoFailureException {
+        int result;
+        TestDaemon daemon;
+        try (AutoCloseable runLock = CONCURRENCY_LOCK.aquire(reactorConcurrencyLevel)) {
+            daemon = TestDaemon.get(daemonKey);
+            if (daemon == null) {
+                File dataDirectory = new File(testRuntime.getLocation(), "data");
+                FileUtils.deleteDirectory(dataDirectory);
+                LaunchConfiguration cli = createCommandLine(testRuntime, testRuntime.getConfigurationLocation(),
+                        dataDirectory, surefireProperties);
+                getLog().info("Starting test daemon at " + testRuntime.getLocation());
+                daemon = TestDaemon.start(daemonKey, testRuntime, cli,
+                        new File(session.getExecutionRootDirectory()));
+            }
+            getLog().info("Executing tests in test daemon with timeout (seconds): " + forkedProcessTimeoutInSeconds);
+            result = daemon.runTests(daemonTestBundles, daemonDevEntries, surefireProperties,
+                    forkedProcessTimeoutInSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            throw new MojoExecutionException("Error while executing tests in test daemon", e);
+        }
+        handleResult(result, daemon.getLaunchConfiguration(),
+                new File(daemon.getInstallation().getLocation(), "data/.metadata/.log"));
+    }
+
+    private record ShardResult(int result, LaunchConfiguration cli, File logFile) {
+    }
+
+    private void runTestShards(EquinoxInstallation testRuntime, ScanResult scanResult)
+            throws MojoExecutionException, MojoFailureException {
+        List<ScanResult> shards = TestShards.split(scanResult, testShards, getReportsDirectory());
+        getLog().info("Executing " + scanResult.size() + " test classes in " + shards.size()
+                + " test runtimes with timeout (seconds): " + forkedProcessTimeoutInSeconds);
+        Properties properties = new Properties();
+        try (InputStream stream = new FileInputStream(surefireProperties)) {
+            properties.load(stream);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Can't read test launcher properties file", e);
+        }
+        Map<String, String> allClasses = new HashMap<>();
+        scanResult.writeTo(allClasses);
+        allClasses.keySet().forEach(key -> properties.remove("__provider." + key));
+        ExecutorService executor = Executors.newFixedThreadPool(shards.size());
+        List<ShardResult> results = new ArrayList<>();
+        try {
+            List<Future<ShardResult>> futures = new ArrayList<>();
+            for (int i = 0; i < shards.size(); i++) {
+                File shardDirectory = new File(surefireProperties.getParentFile(), "test-shards/" + i);
+                File configuration = new File(shardDirectory, "configuration");
+                File dataDirectory = new File(shardDirectory, "data");
+                File shardProperties = new File(shardDirectory, "surefire.properties");
+                try {
+                    FileUtils.deleteDirectory(shardDirectory);
+                    FileUtils.copyDirectoryStructure(testRuntime.getConfigurationLocation(), configuration);
+                } catch (IOException e) {
+                    throw new MojoExecutionException("Can't create test runtime configuration for shard " + i, e);
+                }
+                Map<String, String> shardMap = propertiesAsMap(properties);
+                Map<String, String> shardClasses = new HashMap<>();
+                shards.get(i).writeTo(shardClasses);
+                shardClasses.forEach((key, value) -> shardMap.put("__provider." + key, value));
+                storeProperties(shardMap, shardProperties);
+                futures.add(executor.submit(() -> {
+                    try (AutoCloseable runLock = CONCURRENCY_LOCK.aquire(reactorConcurrencyLevel)) {
+                        LaunchConfiguration cli = createCommandLine(testRuntime, configuration, dataDirectory,
+                                shardProperties);
+                        return new ShardResult(launcher.execute(cli, forkedProcessTimeoutInSeconds), cli,
+                                new File(dataDirectory, ".metadata/.log"));
+                    }
+                }));
+            }
+            for (Future<ShardResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            throw new MojoExecutionException("Error while executing platform", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        // unexpected errors take precedence, then test failures, and only if no shard ran a test there are no tests
+        for (ShardResult shardResult : results) {
+            int result = shardResult.result();
+            if (result != 0 && result != 254 && result != 255) {
+                handleResult(result, shardResult.cli(), shardResult.logFile());
+            }
+        }
+        if (results.stream().anyMatch(r -> r.result() == 255)) {
+            handleResult(255, null, null);
+        } else if (results.stream().allMatch(r -> r.result() == 254)) {
+            handleResult(254, null, null);
+        } else {
+            handleResult(0, null, null);
+        }
+    }
+
+    private void handleResult(int result, LaunchConfiguration cli, File logFile)
+            throws MojoExecutionException, MojoFailureException {
         switch (result) {
         case 0:
             handleSuccess();
@@ -1065,8 +1301,8 @@ public abstract class AbstractEclipseTestMojo extends AbstractTestMojo {
         return String.valueOf(result);
     }
 
-    private EquinoxLaunchConfiguration createCommandLine(EquinoxInstallation testRuntime)
-            throws MalformedURLException, MojoExecutionException {
+    private EquinoxLaunchConfiguration createCommandLine(EquinoxInstallation testRuntime, File configurationLocation,
+            File dataDirectory, File testProperties) throws MalformedURLException, MojoExecutionException {
         EquinoxLaunchConfiguration cli = new EquinoxLaunchConfiguration(testRuntime);
 
         String executable = getJavaExecutable();
@@ -1099,11 +1335,11 @@ public abstract class AbstractEclipseTestMojo extends AbstractTestMojo {
         if (getLog().isDebugEnabled() || showEclipseLog) {
             cli.addProgramArguments("-consolelog");
         }
-        addProgramArgs(cli, "-data", osgiDataDirectory.getAbsolutePath(), //
+        addProgramArgs(cli, "-data", dataDirectory.getAbsolutePath(), //
                 "-install", testRuntime.getLocation().getAbsolutePath(), //
-                "-configuration", testRuntime.getConfigurationLocation().getAbsolutePath(), //
+                "-configuration", configurationLocation.getAbsolutePath(), //
                 "-application", getTestApplication(), //
-                "-testproperties", surefireProperties.getAbsolutePath());
+                "-testproperties", testProperties.getAbsolutePath());
         if (application != null) {
             cli.addProgramArguments("-testApplication", application);
         }
@@ -0,0 +1,268 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.surefire;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.exec.PumpStreamHandler;
+import org.eclipse.sisu.equinox.launching.BundleReference;
+import org.eclipse.sisu.equinox.launching.BundleStartLevel;
+import org.eclipse.sisu.equinox.launching.EquinoxInstallation;
+import org.eclipse.sisu.equinox.launching.EquinoxInstallationDescription;
+import org.eclipse.sisu.equinox.launching.LaunchConfiguration;
+import org.eclipse.tycho.CacheFiles;
+
+/**
+ * A test runtime that is started once and then runs the tests of all test bundles of the build
+ * that share the same runtime, see <code>TestDaemonApplication</code> in the osgibooter for the
+ * protocol. Running daemons are shared by all mojo executions of the build and are stopped when the
+ * session ends, see {@link TestDaemonBuildListener}. The output of a daemon is pumped to
+ * {@link System#out} and {@link System#err}, just like the output of a forked test runtime.
+ */
+final class TestDaemon {
+
+    static final String APPLICATION = "org.eclipse.tycho.surefire.osgibooter.headlesstestdaemon";
+
+    private static final long STARTUP_TIMEOUT = TimeUnit.MINUTES.toMillis(2);
+
+    private static final Map<String, TestDaemon> DAEMONS = new ConcurrentHashMap<>();
+
+    private final String key;
+    private final EquinoxInstallation installation;
+    private final LaunchConfiguration cli;
+    private final Process process;
+    private final PumpStreamHandler output;
+    private final int port;
+    /** sent first on every connection, the daemon drops connections without it */
+    private final String secret;
+
+    private TestDaemon(String key, EquinoxInstallation installation, LaunchConfiguration cli, Process process,
+            PumpStreamHandler output, int port, String secret) {
+        this.key = key;
+        this.installation = installation;
+        this.cli = cli;
+        this.process = process;
+        this.output = output;
+        this.port = port;
+        this.secret = secret;
+    }
+
+    /**
+     * @return the running daemon with the given key or <code>null</code> if there is none
+     */
+    static TestDaemon get(String key) {
+        TestDaemon daemon = DAEMONS.get(key);
+        if (daemon != null && !daemon.process.isAlive()) {
+            DAEMONS.remove(key, daemon);
+            return null;
+        }
+        return daemon;
+    }
+
+    /**
+     * Launches a new daemon for the given installation, the program arguments of the launch
+     * configuration are used except for the application and the test properties.
+     */
+    static synchronized TestDaemon start(String key, EquinoxInstallation installation, LaunchConfiguration cli,
+            File workingDirectory) throws IOException, InterruptedException {
+        TestDaemon running = get(key);
+        if (running != null) {
+            return running;
+        }
+        File portFile = new File(installation.getLocation(), "daemon.port");
+        Files.deleteIfExists(portFile.toPath());
+        List<String> command = new ArrayList<>();
+        command.add(cli.getJvmExecutable());
+        command.addAll(List.of(cli.getVMArguments()));
+        command.add("-jar");
+        command.add(cli.getLauncherJar().getAbsolutePath());
+        String[] programArguments = cli.getProgramArguments();
+        for (int i = 0; i < programArguments.length; i++) {
+            if ("-application".equals(programArguments[i])) {
+                command.add(programArguments[i++]);
+                command.add(APPLICATION);
+            } else if ("-testproperties".equals(programArguments[i])) {
+                i++;
+            } else {
+                command.add(programArguments[i]);
+            }
+        }
+        command.add("-daemonportfile");
+        command.add(portFile.getAbsolutePath());
+        ProcessBuilder builder = new ProcessBuilder(command).directory(workingDirectory);
+        builder.environment().putAll(cli.getEnvironment());
+        // standard input is kept open so the daemon notices when we are gone
+        Process process = builder.start();
+        PumpStreamHandler output = new PumpStreamHandler(System.out, System.err);
+        output.setProcessOutputStream(process.getInputStream());
+        output.setProcessErrorStream(process.getErrorStream());
+        output.start();
+        long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT;
+        while (!portFile.isFile()) {
+            if (!process.isAlive()) {
+                output.stop();
+                throw new IOException("Test daemon terminated during startup with exit code " + process.exitValue());
+            }
+            if (System.currentTimeMillis() > deadline) {
+                process.destroyForcibly();
+                output.stop();
+                throw new IOException("Test daemon did not start within " + STARTUP_TIMEOUT / 1000 + " seconds");
+            }
+            Thread.sleep(100);
+        }
+        // the file holds the port and the secret of the daemon
+        List<String> portFileLines = Files.readAllLines(portFile.toPath(), StandardCharsets.UTF_8);
+        int port = Integer.parseInt(portFileLines.get(0).trim());
+        TestDaemon daemon = new TestDaemon(key, installation, cli, process, output, port,
+                portFileLines.get(1).trim());
+        DAEMONS.put(key, daemon);
+        return daemon;
+    }
+
+    EquinoxInstallation getInstallation() {
+        return installation;
+    }
+
+    LaunchConfiguration getLaunchConfiguration() {
+        return cli;
+    }
+
+    /**
+     * Runs the tests described by the given test properties, the bundles are only installed for
+     * this run. Concurrent calls wait for each other.
+     *
+     * @return the exit code of the test run, with the same meaning as the one of a forked runtime
+     */
+    synchronized int runTests(Collection<File> bundles, Map<String, String> devEntries, File testProperties,
+            int timeoutInSeconds) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            if (timeoutInSeconds > 0) {
+                socket.setSoTimeout((int) TimeUnit.SECONDS.toMillis(timeoutInSeconds));
+            }
+            Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+            writer.write(secret + "\n");
+            for (File bundle : bundles) {
+                writer.write("bundle " + bundle.getAbsolutePath() + "\n");
+            }
+            for (Map.Entry<String, String> entry : devEntries.entrySet()) {
+                writer.write("dev " + entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+            writer.write("run " + testProperties.getAbsolutePath() + "\n");
+            writer.flush();
+            String line = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))
+                    .readLine();
+            if (line == null || !line.startsWith("result ")) {
+                throw new IOException("Test daemon terminated unexpectedly");
+            }
+            return Integer.parseInt(line.substring("result ".length()));
+        } catch (SocketTimeoutException e) {
+            stop();
+            throw new IOException("Test run did not finish within " + timeoutInSeconds + " seconds", e);
+        } catch (IOException e) {
+            if (!process.isAlive()) {
+                DAEMONS.remove(key, this);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stops all running daemons
+     */
+    static void stopAll() {
+        DAEMONS.values().forEach(TestDaemon::stop);
+    }
+
+    void stop() {
+        DAEMONS.remove(key, this);
+        if (process.isAlive()) {
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                socket.getOutputStream().write((secret + "\nshutdown\n").getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                // we are going to destroy it anyway
+            }
+            try {
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            output.stop();
+        } catch (IOException e) {
+            // nothing more to report
+        }
+    }
+
+    /**
+     * Computes the key of the daemon that can run tests for the given runtime, two runtimes share a
+     * daemon if they contain the same bundles with the same configuration and are launched with the
+     * same arguments.
+     */
+    static String computeKey(EquinoxInstallationDescription description, LaunchConfiguration cli) {
+        List<String> parts = new ArrayList<>();
+        description.getBundles().stream()
+                .sorted(Comparator.comparing(BundleReference::getId).thenComparing(BundleReference::getVersion))
+                .forEach(bundle -> parts.add("bundle:" + bundle.getId() + ":" + bundle.getVersion() + ":"
+                        + describe(bundle.getLocation())));
+        description.getFrameworkExtensions().forEach(extension -> parts.add("extension:" + describe(extension)));
+        description.getBundlesToExplode().stream().sorted().forEach(id -> parts.add("explode:" + id));
+        new TreeMap<>(description.getBundleStartLevel()).values().forEach(level -> parts.add("level:" + describe(level)));
+        parts.add("defaultLevel:" + describe(description.getDefaultBundleStartLevel()));
+        new TreeMap<>(description.getPlatformProperties())
+                .forEach((name, value) -> parts.add("property:" + name + "=" + value));
+        new TreeMap<>(description.getDevEntries()).forEach((name, value) -> parts.add("dev:" + name + "=" + value));
+        parts.add("jvm:" + cli.getJvmExecutable());
+        parts.add("vmargs:" + String.join(" ", cli.getVMArguments()));
+        parts.add("args:" + String.join(" ", cli.getProgramArguments()));
+        new TreeMap<>(cli.getEnvironment()).forEach((name, value) -> parts.add("env:" + name + "=" + value));
+        MessageDigest digest = CacheFiles.newDigest();
+        for (String part : parts) {
+            CacheFiles.update(digest, part);
+        }
+        return CacheFiles.toHex(digest).substring(0, 32);
+    }
+
+    private static String describe(File file) {
+        return file.getAbsolutePath() + ":" + file.lastModified();
+    }
+
+    private static String describe(BundleStartLevel level) {
+        if (level == null) {
+            return "none";
+        }
+        return level.getId() + ":" + level.getLevel() + ":" + level.isAutoStart();
+    }
+}
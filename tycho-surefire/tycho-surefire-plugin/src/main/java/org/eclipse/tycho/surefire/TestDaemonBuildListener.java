@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.surefire;
+
+import org.apache.maven.execution.MavenSession;
+import org.codehaus.plexus.component.annotations.Component;
+import org.eclipse.tycho.build.BuildListener;
+
+/**
+ * Stops the {@link TestDaemon}s started by the build when the session ends.
+ */
+@Component(role = BuildListener.class, hint = "test-daemon")
+public class TestDaemonBuildListener implements BuildListener {
+
+    @Override
+    public void buildStarted(MavenSession session) {
+        // daemons are started on demand
+    }
+
+    @Override
+    public void buildEnded(MavenSession session) {
+        TestDaemon.stopAll();
+    }
+
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.surefire;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.maven.surefire.api.util.DefaultScanResult;
+import org.apache.maven.surefire.api.util.ScanResult;
+
+/**
+ * Splits the test classes of a test bundle into shards of about the same expected duration. The
+ * durations are taken from the surefire reports of a previous run, classes without a previous
+ * report are assumed to take the average time of the known classes.
+ */
+class TestShards {
+
+    private static final double DEFAULT_DURATION = 1.0;
+
+    private TestShards() {
+    }
+
+    /**
+     * @param scanResult
+     *            the test classes to split
+     * @param shards
+     *            the maximum number of shards
+     * @param reportsDirectory
+     *            the directory containing the surefire reports of a previous run, might not exist
+     * @return the non-empty shards
+     */
+    static List<ScanResult> split(ScanResult scanResult, int shards, File reportsDirectory) {
+        Map<String, Double> durations = readDurations(reportsDirectory);
+        double defaultDuration = durations.values().stream().mapToDouble(Double::doubleValue).average()
+                .orElse(DEFAULT_DURATION);
+        List<String> classes = new ArrayList<>();
+        for (int i = 0; i < scanResult.size(); i++) {
+            classes.add(scanResult.getClassName(i));
+        }
+        // longest first, each class goes to the shard with the smallest total so far
+        classes.sort(Comparator.comparingDouble((String c) -> durations.getOrDefault(c, defaultDuration)).reversed());
+        int count = Math.max(1, Math.min(shards, classes.size()));
+        List<List<String>> shardClasses = new ArrayList<>();
+        double[] totals = new double[count];
+        for (int i = 0; i < count; i++) {
+            shardClasses.add(new ArrayList<>());
+        }
+        for (String testClass : classes) {
+            int smallest = 0;
+            for (int i = 1; i < count; i++) {
+                if (totals[i] < totals[smallest]) {
+                    smallest = i;
+                }
+            }
+            shardClasses.get(smallest).add(testClass);
+            totals[smallest] += durations.getOrDefault(testClass, defaultDuration);
+        }
+        List<ScanResult> result = new ArrayList<>();
+        for (List<String> shard : shardClasses) {
+            if (!shard.isEmpty()) {
+                result.add(new DefaultScanResult(shard));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads the test class durations (in seconds) from the <code>TEST-*.xml</code> reports in the
+     * given directory, only the attributes of the root element are read.
+     */
+    static Map<String, Double> readDurations(File reportsDirectory) {
+        Map<String, Double> durations = new HashMap<>();
+        File[] reports = reportsDirectory.listFiles((dir, name) -> name.startsWith("TEST-") && name.endsWith(".xml"));
+        if (reports == null) {
+            return durations;
+        }
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        for (File report : reports) {
+            try (InputStream stream = Files.newInputStream(report.toPath())) {
+                XMLStreamReader reader = factory.createXMLStreamReader(stream);
+                try {
+                    while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+                        // skip the prolog
+                    }
+                    if (reader.isStartElement() && "testsuite".equals(reader.getLocalName())) {
+                        String name = reader.getAttributeValue(null, "name");
+                        String time = reader.getAttributeValue(null, "time");
+                        if (name != null && time != null) {
+                            durations.merge(name, Double.parseDouble(time.replace(",", "")), Double::sum);
+                        }
+                    }
+                } finally {
+                    reader.close();
+                }
+            } catch (IOException | XMLStreamException | NumberFormatException e) {
+                // a broken report only means we have no timing for this class
+            }
+        }
+        return durations;
+    }
+}
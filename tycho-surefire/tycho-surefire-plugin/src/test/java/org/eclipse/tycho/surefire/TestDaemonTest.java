@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.surefire;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.eclipse.sisu.equinox.launching.DefaultEquinoxInstallationDescription;
+import org.eclipse.sisu.equinox.launching.internal.EquinoxLaunchConfiguration;
+import org.eclipse.tycho.surefire.osgibooter.TestDaemonSecret;
+import org.junit.Test;
+
+public class TestDaemonTest {
+
+    @Test
+    public void testSameRuntimeSharesKey() {
+        assertEquals(TestDaemon.computeKey(createDescription("1.0.0"), createCommandLine("-Xmx1g")),
+                TestDaemon.computeKey(createDescription("1.0.0"), createCommandLine("-Xmx1g")));
+    }
+
+    @Test
+    public void testDifferentBundlesOrArgumentsChangeKey() {
+        String key = TestDaemon.computeKey(createDescription("1.0.0"), createCommandLine("-Xmx1g"));
+        assertNotEquals(key, TestDaemon.computeKey(createDescription("1.0.1"), createCommandLine("-Xmx1g")));
+        assertNotEquals(key, TestDaemon.computeKey(createDescription("1.0.0"), createCommandLine("-Xmx2g")));
+    }
+
+    @Test
+    public void testRequestWithSecretIsAccepted() throws IOException {
+        String secret = TestDaemonSecret.create();
+        assertTrue(TestDaemonSecret.authenticate(request(secret + "\nrun test.properties\n"), secret));
+    }
+
+    @Test
+    public void testRequestWithWrongSecretIsRejected() throws IOException {
+        String secret = TestDaemonSecret.create();
+        assertFalse(TestDaemonSecret.authenticate(request(TestDaemonSecret.create() + "\nshutdown\n"), secret));
+        assertFalse(TestDaemonSecret.authenticate(request(secret.substring(1) + "\nshutdown\n"), secret));
+        assertFalse(TestDaemonSecret.authenticate(request(secret + "0\nshutdown\n"), secret));
+    }
+
+    @Test
+    public void testRequestWithoutSecretIsRejected() throws IOException {
+        String secret = TestDaemonSecret.create();
+        assertFalse(TestDaemonSecret.authenticate(request("shutdown\n"), secret));
+        assertFalse(TestDaemonSecret.authenticate(request("\nshutdown\n"), secret));
+        assertFalse(TestDaemonSecret.authenticate(request(""), secret));
+    }
+
+    private static BufferedReader request(String request) {
+        return new BufferedReader(new StringReader(request));
+    }
+
+    private static DefaultEquinoxInstallationDescription createDescription(String version) {
+        DefaultEquinoxInstallationDescription description = new DefaultEquinoxInstallationDescription();
+        description.addBundle("bundle.a", version, new File("a.jar"));
+        description.addDevEntries("bundle.b", "bin");
+        return description;
+    }
+
+    private static EquinoxLaunchConfiguration createCommandLine(String vmArgument) {
+        EquinoxLaunchConfiguration cli = new EquinoxLaunchConfiguration(null);
+        cli.setJvmExecutable("java");
+        cli.addVMArguments(vmArgument);
+        cli.addProgramArguments("-application", TestDaemon.APPLICATION);
+        return cli;
+    }
+}
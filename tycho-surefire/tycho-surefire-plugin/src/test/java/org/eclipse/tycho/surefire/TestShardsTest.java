@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.surefire;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.apache.maven.surefire.api.util.DefaultScanResult;
+import org.apache.maven.surefire.api.util.ScanResult;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestShardsTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testSplitWithoutHistory() {
+        ScanResult scanResult = new DefaultScanResult(List.of("A", "B", "C", "D", "E"));
+        List<ScanResult> shards = TestShards.split(scanResult, 2, new File(tempFolder.getRoot(), "missing"));
+        assertEquals(2, shards.size());
+        assertEquals(3, shards.get(0).size());
+        assertEquals(2, shards.get(1).size());
+    }
+
+    @Test
+    public void testSplitBalancedByPreviousDurations() throws Exception {
+        File reports = tempFolder.getRoot();
+        writeReport(reports, "Slow", "100.5");
+        writeReport(reports, "Fast1", "1");
+        writeReport(reports, "Fast2", "2");
+        writeReport(reports, "GroupedThousands", "1,000");
+        ScanResult scanResult = new DefaultScanResult(List.of("Fast1", "Fast2", "Slow", "GroupedThousands"));
+        List<ScanResult> shards = TestShards.split(scanResult, 2, reports);
+        assertEquals(2, shards.size());
+        // "1,000" is parsed as 1000 seconds, so this class gets its own shard
+        assertEquals(1, shards.get(0).size());
+        assertEquals("GroupedThousands", shards.get(0).getClassName(0));
+        assertEquals(3, shards.get(1).size());
+    }
+
+    @Test
+    public void testNoEmptyShards() {
+        ScanResult scanResult = new DefaultScanResult(List.of("A", "B"));
+        assertEquals(2, TestShards.split(scanResult, 8, tempFolder.getRoot()).size());
+    }
+
+    private static void writeReport(File directory, String testClass, String time) throws Exception {
+        Files.writeString(new File(directory, "TEST-" + testClass + ".xml").toPath(),
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuite name=\"" + testClass + "\" time=\"" + time
+                        + "\" tests=\"1\"><testcase name=\"test\"/></testsuite>");
+    }
+}
@@ -19,6 +19,19 @@ public interface MetadataManipulator {
 
     public boolean addMoreChanges(ProjectMetadata project, VersionChangesDescriptor versionChangeContext);
 
+    /**
+     * Returns the artifacts whose version changes are taken into account by
+     * {@link #addMoreChanges(ProjectMetadata, VersionChangesDescriptor)} for the given project. The
+     * {@link VersionsEngine} only asks for more changes again if a version change for one of these
+     * artifacts was added since the last time.
+     * 
+     * @return the artifact ids (or bundle symbolic names), or <code>null</code> if any change might
+     *         lead to more changes for the project
+     */
+    public default Collection<String> getChangeDependencies(ProjectMetadata project) {
+        return null;
+    }
+
     public Collection<String> validateChanges(ProjectMetadata project, VersionChangesDescriptor versionChangeContext);
 
     public void applyChanges(ProjectMetadata project, VersionChangesDescriptor versionChangeContext);
@@ -18,8 +18,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -32,15 +35,20 @@ public class VersionChangesDescriptor {
     private final Set<PomVersionChange> aritfactsVersionChanges;
     private final Set<PackageVersionChange> packageVersionChanges;
 
+    /** the first version change of each artifact id, in the order the changes were added */
+    private final Map<String, PomVersionChange> versionChangesByArtifactId = new HashMap<>();
+    private final Map<String, PackageVersionChange> packageVersionChangesByName = new HashMap<>();
+
     private final VersionRangeUpdateStrategy versionRangeUpdateStrategy;
     private Collection<ProjectMetadata> projects;
 
     public VersionChangesDescriptor(Set<PomVersionChange> originalVersionChanges,
             VersionRangeUpdateStrategy versionRangeUpdateStrategy, Collection<ProjectMetadata> projects) {
         this.projects = projects;
-        this.aritfactsVersionChanges = new LinkedHashSet<>(originalVersionChanges);
+        this.aritfactsVersionChanges = new LinkedHashSet<>();
         this.versionRangeUpdateStrategy = versionRangeUpdateStrategy;
         this.packageVersionChanges = new LinkedHashSet<>();
+        originalVersionChanges.forEach(this::addVersionChange);
     }
 
     public Optional<ProjectMetadata> findMetadataByBasedir(File baseDir) {
@@ -64,16 +72,30 @@ public class VersionChangesDescriptor {
     }
 
     public boolean addVersionChange(PomVersionChange versionChange) {
-        return aritfactsVersionChanges.add(versionChange);
+        if (aritfactsVersionChanges.add(versionChange)) {
+            versionChangesByArtifactId.putIfAbsent(versionChange.getArtifactId(), versionChange);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of version changes added so far
+     */
+    int getVersionChangeCount() {
+        return aritfactsVersionChanges.size();
+    }
+
+    /**
+     * @return the version changes that were added after the given number of changes, in the order
+     *         they were added
+     */
+    List<PomVersionChange> getVersionChangesAfter(int count) {
+        return aritfactsVersionChanges.stream().skip(count).toList();
     }
 
     public VersionChange findVersionChangeByArtifactId(String symbolicName) {
-        for (PomVersionChange versionChange : aritfactsVersionChanges) {
-            if (versionChange.getArtifactId().equals(symbolicName)) {
-                return versionChange;
-            }
-        }
-        return null;
+        return versionChangesByArtifactId.get(symbolicName);
     }
 
     public Set<PackageVersionChange> getPackageVersionChanges() {
@@ -85,16 +107,18 @@ public class VersionChangesDescriptor {
     }
 
     public boolean addPackageVersionChanges(Set<PackageVersionChange> changes) {
-        return packageVersionChanges.addAll(changes);
+        boolean added = false;
+        for (PackageVersionChange change : changes) {
+            if (packageVersionChanges.add(change)) {
+                packageVersionChangesByName.putIfAbsent(change.getPackageName(), change);
+                added = true;
+            }
+        }
+        return added;
     }
 
     public PackageVersionChange findPackageVersionChange(String packageName) {
-        for (PackageVersionChange versionChange : packageVersionChanges) {
-            if (versionChange.getPackageName().equals(packageName)) {
-                return versionChange;
-            }
-        }
-        return null;
+        return packageVersionChangesByName.get(packageName);
     }
 
 }
@@ -15,11 +15,22 @@
 package org.eclipse.tycho.versions.engine;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
@@ -50,6 +61,9 @@ public class VersionsEngine {
         }
     }
 
+    private static final int THREADS = Math.max(1,
+            Integer.getInteger("tycho.versions.threads", Runtime.getRuntime().availableProcessors()));
+
     @Requirement
     private Logger logger;
 
@@ -61,6 +75,8 @@ public class VersionsEngine {
 
     private Collection<ProjectMetadata> projects;
 
+    private Map<String, ProjectMetadata> projectsByArtifactId;
+
     private Set<PomVersionChange> originalVersionChanges = new LinkedHashSet<>();
 
     private Set<PropertyChange> propertyChanges = new LinkedHashSet<>();
@@ -77,6 +93,7 @@ public class VersionsEngine {
 
     public void setProjects(Collection<ProjectMetadata> projects) {
         this.projects = projects;
+        this.projectsByArtifactId = null;
     }
 
     public void addVersionChange(String artifactId, String newVersion) throws IOException {
@@ -107,6 +124,7 @@ public class VersionsEngine {
         propertyChanges.clear();
         updateVersionRangeMatchingBounds = false;
         projects = null;
+        projectsByArtifactId = null;
     }
 
     public void apply() throws IOException {
@@ -115,15 +133,7 @@ public class VersionsEngine {
                 new DefaultVersionRangeUpdateStrategy(isUpdateVersionRangeMatchingBounds()), projects);
 
         // collecting secondary changes
-        boolean newChanges = true;
-        while (newChanges) {
-            newChanges = false;
-            for (ProjectMetadata project : projects) {
-                for (MetadataManipulator manipulator : manipulators) {
-                    newChanges |= manipulator.addMoreChanges(project, versionChangeContext);
-                }
-            }
-        }
+        collectMoreChanges(versionChangeContext);
 
         // validate version changes can be implemented
         List<String> errors = new ArrayList<>();
@@ -160,24 +170,102 @@ public class VersionsEngine {
             }
         }
 
-        // write changes to the disk
+        // write changes to the disk, each project only writes its own files
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> writes = new ArrayList<>();
+            for (ProjectMetadata project : projects) {
+                writes.add(executor.submit(() -> {
+                    for (MetadataManipulator manipulator : manipulators) {
+                        manipulator.writeMetadata(project);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> write : writes) {
+                write.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Writing the changes was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+
+    }
+
+    /**
+     * Asks the manipulators for more changes until no more changes are found. Initially all
+     * projects are visited once, afterwards only those projects that depend on one of the changes
+     * added in the meantime, see {@link MetadataManipulator#getChangeDependencies(ProjectMetadata)}.
+     */
+    private void collectMoreChanges(VersionChangesDescriptor versionChangeContext) {
+        Map<String, List<ProjectMetadata>> dependentProjects = new HashMap<>();
+        List<ProjectMetadata> alwaysAffected = new ArrayList<>();
         for (ProjectMetadata project : projects) {
+            Set<String> dependencies = new HashSet<>();
             for (MetadataManipulator manipulator : manipulators) {
-                manipulator.writeMetadata(project);
+                Collection<String> manipulatorDependencies = manipulator.getChangeDependencies(project);
+                if (manipulatorDependencies == null) {
+                    dependencies = null;
+                    break;
+                }
+                dependencies.addAll(manipulatorDependencies);
+            }
+            if (dependencies == null) {
+                alwaysAffected.add(project);
+            } else {
+                for (String artifactId : dependencies) {
+                    if (artifactId != null) {
+                        dependentProjects.computeIfAbsent(artifactId, key -> new ArrayList<>()).add(project);
+                    }
+                }
             }
         }
 
+        Deque<ProjectMetadata> worklist = new ArrayDeque<>(projects);
+        Set<ProjectMetadata> queued = Collections.newSetFromMap(new IdentityHashMap<>());
+        queued.addAll(projects);
+        while (!worklist.isEmpty()) {
+            ProjectMetadata project = worklist.poll();
+            queued.remove(project);
+            int knownChanges = versionChangeContext.getVersionChangeCount();
+            boolean newChanges = false;
+            for (MetadataManipulator manipulator : manipulators) {
+                newChanges |= manipulator.addMoreChanges(project, versionChangeContext);
+            }
+            if (newChanges) {
+                List<ProjectMetadata> affected = new ArrayList<>(alwaysAffected);
+                for (PomVersionChange change : versionChangeContext.getVersionChangesAfter(knownChanges)) {
+                    affected.addAll(dependentProjects.getOrDefault(change.getArtifactId(), List.of()));
+                }
+                for (ProjectMetadata affectedProject : affected) {
+                    if (queued.add(affectedProject)) {
+                        worklist.add(affectedProject);
+                    }
+                }
+            }
+        }
     }
 
     private ProjectMetadata getProject(String artifactId) {
-        // TODO detect ambiguous artifactId
-        for (ProjectMetadata project : projects) {
-            PomFile pom = project.getMetadata(PomFile.class);
-            if (artifactId.equals(pom.getArtifactId())) {
-                return project;
+        if (projectsByArtifactId == null) {
+            // TODO detect ambiguous artifactId
+            projectsByArtifactId = new HashMap<>();
+            for (ProjectMetadata project : projects) {
+                PomFile pom = project.getMetadata(PomFile.class);
+                projectsByArtifactId.putIfAbsent(pom.getArtifactId(), project);
             }
         }
-        return null;
+        return projectsByArtifactId.get(artifactId);
     }
 
     public void addPropertyChange(String artifactId, String propertyName, String propertyValue) throws IOException {
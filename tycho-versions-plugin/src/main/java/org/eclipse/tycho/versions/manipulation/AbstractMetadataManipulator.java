@@ -14,6 +14,9 @@
  *******************************************************************************/
 package org.eclipse.tycho.versions.manipulation;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import org.codehaus.plexus.component.annotations.Requirement;
 import org.codehaus.plexus.logging.Logger;
 import org.eclipse.tycho.PackagingType;
@@ -51,4 +54,12 @@ public abstract class AbstractMetadataManipulator implements MetadataManipulator
     public boolean addMoreChanges(ProjectMetadata project, VersionChangesDescriptor versionChangeContext) {
         return false;
     }
+
+    /**
+     * Subclasses that add more changes have to override this method as well.
+     */
+    @Override
+    public Collection<String> getChangeDependencies(ProjectMetadata project) {
+        return Collections.emptySet();
+    }
 }
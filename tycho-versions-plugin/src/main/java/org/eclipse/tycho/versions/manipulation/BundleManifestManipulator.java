@@ -49,6 +49,21 @@ public class BundleManifestManipulator extends AbstractMetadataManipulator {
         return false;
     }
 
+    @Override
+    public Collection<String> getChangeDependencies(ProjectMetadata project) {
+        if (isBundle(project)) {
+            Optional<MutableBundleManifest> bundleManifest = getBundleManifest(project);
+            if (bundleManifest.isPresent()) {
+                return Collections.singleton(bundleManifest.get().getSymbolicName());
+            }
+            Optional<MutableBndFile> bndFile = getBundleBndFile(project);
+            if (bndFile.isPresent()) {
+                return Collections.singleton(bndFile.get().getValue(Constants.BUNDLE_SYMBOLICNAME));
+            }
+        }
+        return Collections.emptySet();
+    }
+
     @Override
     public Collection<String> validateChanges(ProjectMetadata project, VersionChangesDescriptor versionChangeContext) {
         if (isBundle(project)) {
@@ -21,7 +21,9 @@ import static org.eclipse.tycho.versions.engine.Versions.isVersionEquals;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -98,6 +100,17 @@ public class PomManipulator extends AbstractMetadataManipulator {
         return moreChanges.get();
     }
 
+    @Override
+    public Collection<String> getChangeDependencies(ProjectMetadata project) {
+        // changes of the parent are inherited, changes of this pom are passed on to its modules
+        PomFile pom = project.getMetadata(PomFile.class);
+        GAV parent = pom.getParent();
+        if (parent != null) {
+            return Arrays.asList(pom.getArtifactId(), parent.getArtifactId());
+        }
+        return Collections.singletonList(pom.getArtifactId());
+    }
+
     @Override
     public void applyChanges(ProjectMetadata project, VersionChangesDescriptor versionChangeContext) {
         PomFile pom = project.getMetadata(PomFile.class);